@@ -0,0 +1,50 @@
+package com.example.movie.application;
+
+import com.example.movie.user.domain.SessionService;
+import com.example.movie.user.persistence.InMemorySessionStore;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class SessionAuthenticationFilterBenchmark {
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    private SessionAuthenticationFilter filter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        SessionService sessionService = new SessionService(new InMemorySessionStore());
+        filter = new SessionAuthenticationFilter(sessionService);
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/movies");
+        authenticatedRequest.addHeader("Session-Id", sessionService.createSession(UUID.randomUUID(), "USER"));
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/movies");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void authenticatedRequest() throws Exception {
+        filter.doFilter(authenticatedRequest, response, chain);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void anonymousRequest() throws Exception {
+        filter.doFilter(anonymousRequest, response, chain);
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.movie.movie.domain;
+
+import com.example.movie.movie.api.model.AddMovieRequest;
+import com.example.movie.movie.domain.model.InvalidMovieAddRequestException;
+import com.example.movie.movie.domain.model.Movie;
+import com.example.movie.movie.persistence.MovieRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class AddMovieUseCaseBenchmark {
+    private AddMovieUseCase addMovieUseCase;
+    private AddMovieRequest validRequest;
+    private AddMovieRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        addMovieUseCase = new AddMovieUseCase(new MovieRepository(null, null, null, null) {
+            @Override
+            public Movie insert(Movie movie) {
+                return movie;
+            }
+        });
+        validRequest = new AddMovieRequest("The Matrix", 1999, 136,
+                "A computer hacker learns about the true nature of his reality.",
+                "https://www.youtube.com/watch?v=vKQi3bBA1y8");
+        invalidRequest = new AddMovieRequest("The Matrix", 3000, 136, null, null);
+    }
+
+    @Benchmark
+    public Movie addValidMovie() {
+        return addMovieUseCase.addMovie(validRequest);
+    }
+
+    @Benchmark
+    public Object rejectInvalidMovie() {
+        try {
+            return addMovieUseCase.addMovie(invalidRequest);
+        } catch (InvalidMovieAddRequestException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.movie.movie.persistence;
+
+import com.example.movie.movie.domain.model.Movie;
+import com.example.movie.movie.persistence.model.MovieEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class MovieEntityMapperBenchmark {
+    private Movie movie;
+    private MovieEntity entity;
+
+    @Setup
+    public void setUp() {
+        movie = Movie.addNewMovie("The Matrix", 1999, 136,
+                "A computer hacker learns about the true nature of his reality.",
+                "https://www.youtube.com/watch?v=vKQi3bBA1y8", null);
+        entity = MovieEntityMapper.toEntity(movie);
+    }
+
+    @Benchmark
+    public MovieEntity toEntity() {
+        return MovieEntityMapper.toEntity(movie);
+    }
+
+    @Benchmark
+    public Movie toDomain() {
+        return MovieEntityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Movie roundTrip() {
+        return MovieEntityMapper.toDomain(MovieEntityMapper.toEntity(movie));
+    }
+}
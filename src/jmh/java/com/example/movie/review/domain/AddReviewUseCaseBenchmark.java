@@ -0,0 +1,60 @@
+package com.example.movie.review.domain;
+
+import com.example.movie.moderation.domain.SpamDetectionUseCase;
+import com.example.movie.recommendation.domain.RecommendationUseCase;
+import com.example.movie.review.api.model.AddReviewRequest;
+import com.example.movie.review.domain.model.InvalidReviewAddRequestException;
+import com.example.movie.review.domain.model.Review;
+import com.example.movie.review.persistence.ReviewRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class AddReviewUseCaseBenchmark {
+    private AddReviewUseCase addReviewUseCase;
+    private AddReviewRequest validRequest;
+    private AddReviewRequest invalidRequest;
+    private UUID userId;
+    private Review review;
+
+    @Setup
+    public void setUp() {
+        addReviewUseCase = new AddReviewUseCase(new ReviewRepository(null, null) {
+            @Override
+            public Review insert(Review review) {
+                return review;
+            }
+        }, new RecommendationUseCase(null, 20, 50, 50), new SpamDetectionUseCase(null, 16, 4, 0.8, 40, 2, 50000));
+        UUID movieId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        validRequest = new AddReviewRequest(movieId, 8, "Great movie, would watch again.");
+        invalidRequest = new AddReviewRequest(movieId, 11, "Great movie, would watch again.");
+        review = Review.addNewReview(movieId, userId, 8, "Great movie, would watch again.");
+    }
+
+    @Benchmark
+    public Review addValidReview() {
+        return addReviewUseCase.addReview(validRequest, userId);
+    }
+
+    @Benchmark
+    public Object rejectInvalidReview() {
+        try {
+            return addReviewUseCase.addReview(invalidRequest, userId);
+        } catch (InvalidReviewAddRequestException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Review updateReviewCopy() {
+        return review.updateReview("Even better the second time.", 9);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.movie.review.persistence;
+
+import com.example.movie.review.domain.model.Review;
+import com.example.movie.review.persistence.model.ReviewEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class ReviewEntityMapperBenchmark {
+    private Review review;
+    private ReviewEntity entity;
+
+    @Setup
+    public void setUp() {
+        review = Review.addNewReview(UUID.randomUUID(), UUID.randomUUID(), 8, "Great movie, would watch again.");
+        entity = ReviewEntityMapper.toEntity(review);
+    }
+
+    @Benchmark
+    public ReviewEntity toEntity() {
+        return ReviewEntityMapper.toEntity(review);
+    }
+
+    @Benchmark
+    public Review toDomain() {
+        return ReviewEntityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Review roundTrip() {
+        return ReviewEntityMapper.toDomain(ReviewEntityMapper.toEntity(review));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.movie.superreview.domain;
+
+import com.example.movie.moderation.domain.SpamDetectionUseCase;
+import com.example.movie.superreview.api.model.AddSuperReviewRequest;
+import com.example.movie.superreview.domain.model.InvalidSuperReviewAddRequestException;
+import com.example.movie.superreview.domain.model.SuperReview;
+import com.example.movie.superreview.persistence.SuperReviewRepository;
+import com.example.movie.user.domain.model.AuthenticatedUser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class AddSuperReviewUseCaseBenchmark {
+    private AddSuperReviewUseCase addSuperReviewUseCase;
+    private AddSuperReviewRequest validRequest;
+    private AddSuperReviewRequest invalidRequest;
+    private AuthenticatedUser author;
+    private SuperReview superReview;
+
+    @Setup
+    public void setUp() {
+        addSuperReviewUseCase = new AddSuperReviewUseCase(new SuperReviewRepository(null, null) {
+            @Override
+            public SuperReview insert(SuperReview superReview) {
+                return superReview;
+            }
+        }, new SpamDetectionUseCase(null, 16, 4, 0.8, 40, 2, 50000));
+        UUID movieId = UUID.randomUUID();
+        author = new AuthenticatedUser(UUID.randomUUID(), "SUPER_REVIEWER");
+        validRequest = new AddSuperReviewRequest(movieId, 8, 7, 9, 8, 6,
+                "Excellent Movie", "This is a detailed review...", "Great acting, good story", "Music could be better", true);
+        invalidRequest = new AddSuperReviewRequest(movieId, 8, 7, 11, 8, 6,
+                "Excellent Movie", "This is a detailed review...", "Great acting, good story", "Music could be better", true);
+        superReview = addSuperReviewUseCase.addSuperReview(validRequest, author);
+    }
+
+    @Benchmark
+    public SuperReview addValidSuperReview() {
+        return addSuperReviewUseCase.addSuperReview(validRequest, author);
+    }
+
+    @Benchmark
+    public Object rejectInvalidSuperReview() {
+        try {
+            return addSuperReviewUseCase.addSuperReview(invalidRequest, author);
+        } catch (InvalidSuperReviewAddRequestException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public SuperReview updateSuperReviewCopy() {
+        return superReview.updateSuperReview(9, 8, 9, 8, 7,
+                "Excellent Movie", "Even better the second time.", "Great acting, good story", "Music could be better", true);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.movie.superreview.persistence;
+
+import com.example.movie.superreview.domain.model.SuperReview;
+import com.example.movie.superreview.persistence.model.SuperReviewEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class SuperReviewEntityMapperBenchmark {
+    private SuperReview superReview;
+    private SuperReviewEntity entity;
+
+    @Setup
+    public void setUp() {
+        superReview = SuperReview.addNewSuperReview(UUID.randomUUID(), UUID.randomUUID(), 8, 7, 9, 8, 6,
+                "Excellent Movie", "This is a detailed review...", "Great acting, good story", "Music could be better", true);
+        entity = SuperReviewEntityMapper.toEntity(superReview);
+    }
+
+    @Benchmark
+    public SuperReviewEntity toEntity() {
+        return SuperReviewEntityMapper.toEntity(superReview);
+    }
+
+    @Benchmark
+    public SuperReview toDomain() {
+        return SuperReviewEntityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public SuperReview roundTrip() {
+        return SuperReviewEntityMapper.toDomain(SuperReviewEntityMapper.toEntity(superReview));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.movie.user.domain;
+
+import com.example.movie.user.persistence.InMemorySessionStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Threads(4)
+public class SessionServiceBenchmark {
+
+    @Param({"1000000"})
+    public int sessions;
+
+    private SessionService sessionService;
+    private UUID[] userIds;
+    private String[] sessionIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionService = new SessionService(new InMemorySessionStore());
+        userIds = new UUID[sessions];
+        sessionIds = new String[sessions];
+        for (int i = 0; i < sessions; i++) {
+            userIds[i] = UUID.randomUUID();
+            sessionIds[i] = sessionService.createSession(userIds[i], "USER");
+        }
+    }
+
+    @Benchmark
+    public UUID getUserId() {
+        return sessionService.getUserId(sessionIds[ThreadLocalRandom.current().nextInt(sessions)]);
+    }
+
+    @Benchmark
+    public String createSession() {
+        return sessionService.createSession(userIds[ThreadLocalRandom.current().nextInt(sessions)], "USER");
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.movie.user.persistence;
+
+import com.example.movie.user.domain.model.SessionData;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class SessionLookupBenchmark {
+    private static final String SIGNING_KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+    @Param({"memory", "signed"})
+    public String store;
+
+    @Param({"1000000"})
+    public int sessions;
+
+    private SessionStore sessionStore;
+    private String[] sessionIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionStore = "signed".equals(store)
+                ? new SignedSessionStore(new LocalClockRevocationRepository(), SIGNING_KEY, Duration.ofHours(24), 100_000)
+                : new InMemorySessionStore();
+        sessionIds = new String[sessions];
+        for (int i = 0; i < sessions; i++) {
+            sessionIds[i] = sessionStore.create(SessionData.create(UUID.randomUUID(), "USER", 24));
+        }
+    }
+
+    @Benchmark
+    public Optional<SessionData> findActive() {
+        return sessionStore.findActive(sessionIds[ThreadLocalRandom.current().nextInt(sessions)]);
+    }
+
+    // only lookups are measured, so token issue times need no database
+    private static class LocalClockRevocationRepository extends SessionRevocationRepository {
+        LocalClockRevocationRepository() {
+            super(null);
+        }
+
+        @Override
+        public Instant currentTime() {
+            return Instant.now();
+        }
+    }
+}
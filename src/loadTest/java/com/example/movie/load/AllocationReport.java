@@ -0,0 +1,199 @@
+package com.example.movie.load;
+
+import com.example.movie.MovieAppApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerMapping;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+public class AllocationReport {
+    private static final String PASSWORD = "password123";
+    private static final int MOVIES = 10;
+    private static final int REVIEWERS = 20;
+
+    private final int warmupRequests = Integer.getInteger("alloc.warmup", 2000);
+    private final int measuredRequests = Integer.getInteger("alloc.requests", 5000);
+    private final String jdbcUrl = System.getProperty("alloc.jdbc-url");
+    private final Path outputDirectory = Path.of(System.getProperty("alloc.output", "build/reports/allocation"));
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<String, Totals> totals = new ConcurrentHashMap<>();
+
+    public static void main(String[] args) throws Exception {
+        new AllocationReport().run(args);
+    }
+
+    private void run(String[] appArgs) throws Exception {
+        if (jdbcUrl != null) {
+            measure(jdbcUrl, System.getProperty("alloc.username", "postgres"), System.getProperty("alloc.password", "postgres"), appArgs);
+            return;
+        }
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.0")
+                .withDatabaseName("db_MovieApp_Allocation")
+                .withUsername("postgres")
+                .withPassword("postgres")) {
+            postgres.start();
+            measure(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), appArgs);
+        }
+    }
+
+    private void measure(String url, String username, String password, String[] appArgs) throws Exception {
+        String[] args = Stream.concat(Stream.of(
+                        "--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + username,
+                        "--spring.datasource.password=" + password,
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.org.springframework.web=INFO",
+                        "--logging.level.org.springframework.http.converter.json.MappingJackson2HttpMessageConverter=INFO",
+                        "--movie.security.login-rate-limit.address.capacity=1000000",
+                        "--movie.security.login-rate-limit.address.refill-per-minute=1000000"),
+                Stream.of(appArgs)).toArray(String[]::new);
+
+        SpringApplication application = new SpringApplication(MovieAppApplication.class);
+        application.addInitializers(context -> context.getBeanFactory().registerSingleton("allocationProbe", probe()));
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            LoadClient client = new LoadClient(baseUrl, new LatencyReport());
+            Map<String, String> endpoints = seed(client);
+            String sessionId = client.login("reviewer0@alloc.test", PASSWORD);
+
+            Map<String, double[]> results = new LinkedHashMap<>();
+            for (Map.Entry<String, String> endpoint : endpoints.entrySet()) {
+                for (int i = 0; i < warmupRequests; i++) {
+                    if (client.send(endpoint.getKey(), "GET", endpoint.getValue(), null, sessionId) == null) {
+                        throw new IllegalStateException(endpoint.getKey() + " failed");
+                    }
+                }
+                totals.clear();
+                for (int i = 0; i < measuredRequests; i++) {
+                    client.send(endpoint.getKey(), "GET", endpoint.getValue(), null, sessionId);
+                }
+                Totals measured = totals.values().stream()
+                        .reduce(new Totals(), Totals::merge);
+                results.put(endpoint.getKey(), new double[]{
+                        measured.requests.sum(),
+                        measured.bytes.sum() / (double) Math.max(1, measured.requests.sum())});
+            }
+
+            Files.createDirectories(outputDirectory);
+            try (PrintStream summary = new PrintStream(Files.newOutputStream(outputDirectory.resolve("summary.txt")))) {
+                print(results, System.out);
+                print(results, summary);
+            }
+        }
+    }
+
+    private FilterRegistrationBean<Filter> probe() {
+        Filter filter = (request, response, chain) -> {
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+                HttpServletRequest httpRequest = (HttpServletRequest) request;
+                Object pattern = httpRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String key = httpRequest.getMethod() + " " + pattern
+                        + (httpRequest.getParameter("ids") != null ? "?ids" : "");
+                Totals routeTotals = totals.computeIfAbsent(key, ignored -> new Totals());
+                routeTotals.requests.increment();
+                routeTotals.bytes.add(allocated);
+            }
+        };
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private Map<String, String> seed(LoadClient client) throws Exception {
+        String adminSession = client.login("admin@movieapp.com", "admin123");
+        List<String> userIds = new ArrayList<>();
+        List<String> sessions = new ArrayList<>();
+        for (int i = 0; i < REVIEWERS; i++) {
+            JsonNode user = client.send("seed", "POST", "/api/users",
+                    Map.of("username", "reviewer" + i, "email", "reviewer" + i + "@alloc.test", "password", PASSWORD), null);
+            userIds.add(user.get("id").asText());
+            client.send("seed", "POST", "/api/users/admin/change-role",
+                    Map.of("userId", user.get("id").asText(), "newRole", "SUPER_REVIEWER"), adminSession);
+            sessions.add(client.login("reviewer" + i + "@alloc.test", PASSWORD));
+        }
+
+        List<String> movieIds = new ArrayList<>();
+        List<String> reviewIds = new ArrayList<>();
+        List<String> superReviewIds = new ArrayList<>();
+        for (int m = 0; m < MOVIES; m++) {
+            JsonNode movie = client.send("seed", "POST", "/api/movies",
+                    Map.of("title", "Allocation Movie " + m, "releaseYear", 2000 + m, "durationMinutes", 100,
+                            "description", "Seeded to measure read path allocation", "trailerUrl", "https://example.com/" + m),
+                    sessions.getFirst());
+            String movieId = movie.get("id").asText();
+            movieIds.add(movieId);
+            for (int r = 0; r < REVIEWERS; r++) {
+                JsonNode review = client.send("seed", "POST", "/api/reviews",
+                        Map.of("movieId", movieId, "rating", 1 + r % 10, "comment", "Review " + r + " of movie " + m),
+                        sessions.get(r));
+                reviewIds.add(review.get("id").asText());
+            }
+            JsonNode superReview = client.send("seed", "POST", "/api/super-reviews", Map.ofEntries(
+                    Map.entry("movieId", movieId),
+                    Map.entry("overallRating", 8),
+                    Map.entry("scriptRating", 7),
+                    Map.entry("actingRating", 9),
+                    Map.entry("effectsRating", 8),
+                    Map.entry("musicRating", 6),
+                    Map.entry("title", "Super review of movie " + m),
+                    Map.entry("detailedComment", "Seeded to measure read path allocation"),
+                    Map.entry("pros", "Pacing"),
+                    Map.entry("cons", "Length"),
+                    Map.entry("recommendation", true)), sessions.get(m % REVIEWERS));
+            superReviewIds.add(superReview.get("id").asText());
+        }
+
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        endpoints.put("GET /api/movies/{movieId}", "/api/movies/" + movieIds.getFirst());
+        endpoints.put("GET /api/movies?ids (10)", "/api/movies?ids=" + String.join(",", movieIds));
+        endpoints.put("GET /api/reviews/{reviewId}", "/api/reviews/" + reviewIds.getFirst());
+        endpoints.put("GET /api/reviews?ids (20)", "/api/reviews?ids=" + String.join(",", reviewIds.subList(0, 20)));
+        endpoints.put("GET /api/reviews/movie/{movieId} (20)", "/api/reviews/movie/" + movieIds.getFirst());
+        endpoints.put("GET /api/super-reviews/{superReviewId}", "/api/super-reviews/" + superReviewIds.getFirst());
+        endpoints.put("GET /api/super-reviews?ids (10)", "/api/super-reviews?ids=" + String.join(",", superReviewIds));
+        endpoints.put("GET /api/users/{id}", "/api/users/" + userIds.getFirst());
+        endpoints.put("GET /api/users?ids (20)", "/api/users?ids=" + String.join(",", userIds));
+        return endpoints;
+    }
+
+    private void print(Map<String, double[]> results, PrintStream out) {
+        out.printf("%-40s %10s %16s%n", "endpoint", "requests", "bytes/request");
+        results.forEach((endpoint, result) ->
+                out.printf("%-40s %10.0f %,16.0f%n", endpoint, result[0], result[1]));
+    }
+
+    private static class Totals {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private Totals merge(Totals other) {
+            requests.add(other.requests.sum());
+            bytes.add(other.bytes.sum());
+            return this;
+        }
+    }
+}
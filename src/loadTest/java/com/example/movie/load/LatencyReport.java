@@ -0,0 +1,76 @@
+package com.example.movie.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class LatencyReport {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        recorders.computeIfAbsent(endpoint, key -> new Recorder(HIGHEST_TRACKABLE_MICROS, 3))
+                .recordValue(micros);
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    void reset() {
+        recorders.values().forEach(Recorder::getIntervalHistogram);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    Map<String, Histogram> snapshot() {
+        Map<String, Histogram> histograms = new TreeMap<>();
+        recorders.forEach((endpoint, recorder) -> histograms.put(endpoint, recorder.getIntervalHistogram()));
+        return histograms;
+    }
+
+    void write(Map<String, Histogram> histograms, double measuredSeconds, Path outputDirectory, PrintStream console) throws IOException {
+        Files.createDirectories(outputDirectory);
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%-40s %9s %9s %9s %9s %9s %9s %7s%n",
+                "endpoint", "count", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors"));
+
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            String endpoint = entry.getKey();
+            Histogram histogram = entry.getValue();
+            long errorCount = errors.getOrDefault(endpoint, new LongAdder()).sum();
+            summary.append(String.format("%-40s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                    endpoint,
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / measuredSeconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0,
+                    errorCount));
+
+            Path distribution = outputDirectory.resolve(fileName(endpoint) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(distribution))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        Files.writeString(outputDirectory.resolve("summary.txt"), summary);
+        console.print(summary);
+        console.println("Percentile distributions (ms) written to " + outputDirectory.toAbsolutePath());
+    }
+
+    private static String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.movie.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+class LoadClient {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final LatencyReport report;
+
+    LoadClient(String baseUrl, LatencyReport report) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        this.baseUrl = baseUrl;
+        this.report = report;
+    }
+
+    JsonNode send(String endpoint, String method, String path, Object body, String sessionId, long startNanos)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (sessionId != null) {
+            request.header("Session-Id", sessionId);
+        }
+
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            report.record(endpoint, System.nanoTime() - startNanos, false);
+            throw e;
+        }
+
+        boolean success = response.statusCode() / 100 == 2;
+        report.record(endpoint, System.nanoTime() - startNanos, success);
+        if (!success || response.body().length == 0) {
+            return null;
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    JsonNode send(String endpoint, String method, String path, Object body, String sessionId)
+            throws IOException, InterruptedException {
+        return send(endpoint, method, path, body, sessionId, System.nanoTime());
+    }
+
+    String login(String email, String password) throws IOException, InterruptedException {
+        JsonNode response = send("POST /api/auth/login", "POST", "/api/auth/login",
+                Map.of("email", email, "password", password), null);
+        if (response == null) {
+            throw new IllegalStateException("Login failed for " + email);
+        }
+        return response.get("sessionId").asText();
+    }
+}
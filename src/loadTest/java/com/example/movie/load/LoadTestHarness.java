@@ -0,0 +1,193 @@
+package com.example.movie.load;
+
+import com.example.movie.MovieAppApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class LoadTestHarness {
+    private static final String PASSWORD = "password123";
+    private static final int LOGIN_USERS = 50;
+    private static final int SUPER_REVIEWERS = 10;
+
+    private final Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+    private final Duration duration = Duration.parse(System.getProperty("load.duration", "PT60S"));
+    private final double rateMultiplier = Double.parseDouble(System.getProperty("load.rate-multiplier", "1.0"));
+    private final int users = Integer.getInteger("load.users", 200);
+    private final int movies = Integer.getInteger("load.movies", 200);
+    private final String jdbcUrl = System.getProperty("load.jdbc-url");
+    private final Path outputDirectory = Path.of(System.getProperty("load.output", "build/reports/load"));
+
+    private final List<String> movieIds = new ArrayList<>();
+    private final List<String> userSessions = new ArrayList<>();
+    private final List<String> superReviewerSessions = new ArrayList<>();
+    private final AtomicLong loginSequence = new AtomicLong();
+    private final AtomicLong browseSequence = new AtomicLong();
+    private final AtomicLong reviewSequence = new AtomicLong();
+    private final AtomicLong superReviewSequence = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestHarness().run(args);
+    }
+
+    private void run(String[] appArgs) throws Exception {
+        if (jdbcUrl != null) {
+            measure(jdbcUrl, System.getProperty("load.username", "postgres"), System.getProperty("load.password", "postgres"), appArgs);
+            return;
+        }
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.0")
+                .withDatabaseName("db_MovieApp_Load")
+                .withUsername("postgres")
+                .withPassword("postgres")) {
+            postgres.start();
+            measure(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), appArgs);
+        }
+    }
+
+    private void measure(String url, String username, String password, String[] appArgs) throws Exception {
+        String[] args = Stream.concat(Stream.of(
+                        "--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + username,
+                        "--spring.datasource.password=" + password,
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.org.springframework.web=INFO",
+                        "--logging.level.org.springframework.http.converter.json.MappingJackson2HttpMessageConverter=INFO",
+                        "--movie.security.login-rate-limit.address.capacity=1000000",
+                        "--movie.security.login-rate-limit.address.refill-per-minute=1000000"),
+                Stream.of(appArgs)).toArray(String[]::new);
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(MovieAppApplication.class, args);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            LatencyReport report = new LatencyReport();
+            LoadClient client = new LoadClient(baseUrl, report);
+
+            seed(client);
+            report.reset();
+
+            List<OpenModelGenerator.Arrivals> mix = trafficMix(client);
+            OpenModelGenerator generator = new OpenModelGenerator(executor);
+
+            System.out.println("Warming up for " + warmup);
+            generator.run(mix, warmup);
+            report.reset();
+
+            System.out.println("Measuring for " + duration);
+            long measureStart = System.nanoTime();
+            generator.run(mix, duration);
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+            double measuredSeconds = (System.nanoTime() - measureStart) / 1e9;
+
+            Map<String, Histogram> histograms = report.snapshot();
+            report.write(histograms, measuredSeconds, outputDirectory, System.out);
+            System.out.println("Scenario arrivals failed: " + generator.getFailedArrivals());
+        }
+    }
+
+    private List<OpenModelGenerator.Arrivals> trafficMix(LoadClient client) {
+        return List.of(
+                new OpenModelGenerator.Arrivals("login", 2 * rateMultiplier, intendedStart -> {
+                    long n = loginSequence.getAndIncrement() % LOGIN_USERS;
+                    client.send("POST /api/auth/login", "POST", "/api/auth/login",
+                            Map.of("email", "login" + n + "@load.test", "password", PASSWORD), null, intendedStart);
+                }),
+                new OpenModelGenerator.Arrivals("browse-movie", 40 * rateMultiplier, intendedStart -> {
+                    long n = browseSequence.getAndIncrement();
+                    String sessionId = userSessions.get((int) (n % userSessions.size()));
+                    String movieId = movieIds.get((int) (n % movieIds.size()));
+                    client.send("GET /api/movies/{movieId}", "GET", "/api/movies/" + movieId, null, sessionId, intendedStart);
+                    client.send("GET /api/reviews/movie/{movieId}", "GET", "/api/reviews/movie/" + movieId, null, sessionId);
+                }),
+                new OpenModelGenerator.Arrivals("post-review", 5 * rateMultiplier, intendedStart -> {
+                    long n = reviewSequence.getAndIncrement();
+                    String sessionId = userSessions.get((int) (n % userSessions.size()));
+                    String movieId = movieIds.get((int) ((n / userSessions.size()) % movieIds.size()));
+                    JsonNode review = client.send("POST /api/reviews", "POST", "/api/reviews",
+                            Map.of("movieId", movieId, "rating", 7, "comment", "Load test review"), sessionId, intendedStart);
+                    if (review != null) {
+                        client.send("PUT /api/reviews/{reviewId}", "PUT", "/api/reviews/" + review.get("id").asText(),
+                                Map.of("comment", "Updated load test review", "rating", 8), sessionId);
+                    }
+                }),
+                new OpenModelGenerator.Arrivals("super-review-crud", 1 * rateMultiplier, intendedStart -> {
+                    long n = superReviewSequence.getAndIncrement();
+                    String sessionId = superReviewerSessions.get((int) (n % superReviewerSessions.size()));
+                    String movieId = movieIds.get((int) ((n / superReviewerSessions.size()) % movieIds.size()));
+                    JsonNode created = client.send("POST /api/super-reviews", "POST", "/api/super-reviews",
+                            superReview(movieId, "Load test super review"), sessionId, intendedStart);
+                    if (created == null) {
+                        return;
+                    }
+                    String path = "/api/super-reviews/" + created.get("id").asText();
+                    client.send("GET /api/super-reviews/{superReviewId}", "GET", path, null, sessionId);
+                    client.send("PUT /api/super-reviews/{superReviewId}", "PUT", path,
+                            superReview(movieId, "Updated load test super review"), sessionId);
+                    client.send("DELETE /api/super-reviews/{superReviewId}", "DELETE", path, null, sessionId);
+                }));
+    }
+
+    private void seed(LoadClient client) throws Exception {
+        System.out.println("Seeding " + users + " users, " + SUPER_REVIEWERS + " super reviewers and " + movies + " movies");
+        String adminSession = client.login("admin@movieapp.com", "admin123");
+
+        for (int i = 0; i < LOGIN_USERS; i++) {
+            register(client, "login" + i);
+        }
+        for (int i = 0; i < users; i++) {
+            register(client, "user" + i);
+            userSessions.add(client.login("user" + i + "@load.test", PASSWORD));
+        }
+        for (int i = 0; i < SUPER_REVIEWERS; i++) {
+            String userId = register(client, "critic" + i);
+            client.send("POST /api/users/admin/change-role", "POST", "/api/users/admin/change-role",
+                    Map.of("userId", userId, "newRole", "SUPER_REVIEWER"), adminSession);
+            superReviewerSessions.add(client.login("critic" + i + "@load.test", PASSWORD));
+        }
+        for (int i = 0; i < movies; i++) {
+            JsonNode movie = client.send("POST /api/movies", "POST", "/api/movies",
+                    Map.of("title", "Load Movie " + i, "releaseYear", 2000 + i % 25, "durationMinutes", 90 + i % 60,
+                            "description", "Seeded for load testing", "trailerUrl", "https://example.com/" + i),
+                    userSessions.getFirst());
+            movieIds.add(movie.get("id").asText());
+        }
+    }
+
+    private String register(LoadClient client, String name) throws Exception {
+        JsonNode user = client.send("POST /api/users", "POST", "/api/users",
+                Map.of("username", name, "email", name + "@load.test", "password", PASSWORD), null);
+        if (user == null) {
+            throw new IllegalStateException("Registration failed for " + name);
+        }
+        return user.get("id").asText();
+    }
+
+    private static Map<String, Object> superReview(String movieId, String title) {
+        return Map.ofEntries(
+                Map.entry("movieId", movieId),
+                Map.entry("overallRating", 8),
+                Map.entry("scriptRating", 7),
+                Map.entry("actingRating", 9),
+                Map.entry("effectsRating", 8),
+                Map.entry("musicRating", 6),
+                Map.entry("title", title),
+                Map.entry("detailedComment", "Seeded by the load harness"),
+                Map.entry("pros", "Pacing"),
+                Map.entry("cons", "Length"),
+                Map.entry("recommendation", true));
+    }
+}
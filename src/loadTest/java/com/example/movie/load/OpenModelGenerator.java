@@ -0,0 +1,63 @@
+package com.example.movie.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+class OpenModelGenerator {
+    private final ExecutorService executor;
+    private final LongAdder failedArrivals = new LongAdder();
+
+    OpenModelGenerator(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    void run(List<Arrivals> arrivals, Duration duration) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long durationNanos = duration.toNanos();
+        List<Thread> dispatchers = new ArrayList<>();
+        for (Arrivals scenario : arrivals) {
+            dispatchers.add(Thread.ofVirtual()
+                    .name("dispatch-" + scenario.name())
+                    .start(() -> dispatch(scenario, startNanos, durationNanos)));
+        }
+        for (Thread dispatcher : dispatchers) {
+            dispatcher.join();
+        }
+    }
+
+    long getFailedArrivals() {
+        return failedArrivals.sum();
+    }
+
+    private void dispatch(Arrivals scenario, long startNanos, long durationNanos) {
+        long intervalNanos = (long) (1_000_000_000L / scenario.perSecond());
+        for (long arrival = 0; ; arrival++) {
+            long intendedStart = startNanos + arrival * intervalNanos;
+            if (intendedStart - startNanos >= durationNanos) {
+                return;
+            }
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            executor.execute(() -> {
+                try {
+                    scenario.scenario().run(intendedStart);
+                } catch (Exception e) {
+                    failedArrivals.increment();
+                }
+            });
+        }
+    }
+
+    interface Scenario {
+        void run(long intendedStartNanos) throws Exception;
+    }
+
+    record Arrivals(String name, double perSecond, Scenario scenario) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.movie.load;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public class SearchIndexInsertBenchmark {
+    private static final int MOVIES = 10_000;
+    private static final String[] WORDS = {
+            "the", "movie", "film", "story", "plot", "acting", "actor", "actress", "cast", "director", "scene", "scenes",
+            "soundtrack", "score", "music", "ending", "beginning", "twist", "character", "characters", "dialogue", "script",
+            "great", "good", "bad", "awful", "boring", "brilliant", "stunning", "slow", "fast", "funny", "sad", "dark",
+            "beautiful", "visuals", "effects", "cinematography", "pacing", "performance", "sequel", "original", "remake",
+            "loved", "hated", "enjoyed", "watched", "recommend", "again", "never", "really", "quite", "too", "long",
+            "short", "and", "but", "with", "was", "is", "a", "an", "of", "in", "it", "this", "that", "not", "very",
+            "emotional", "predictable", "surprising", "worth", "time", "money", "cinema", "theatre", "home", "family"
+    };
+
+    private final int rows = Integer.getInteger("search.rows", 100_000);
+    private final int batchSize = Integer.getInteger("search.batch-size", 1);
+    private final String jdbcUrl = System.getProperty("search.jdbc-url");
+    private final Path outputDirectory = Path.of(System.getProperty("search.output", "build/reports/search-index"));
+
+    public static void main(String[] args) throws Exception {
+        new SearchIndexInsertBenchmark().run();
+    }
+
+    private void run() throws Exception {
+        if (jdbcUrl != null) {
+            benchmark(jdbcUrl, System.getProperty("search.username", "postgres"), System.getProperty("search.password", "postgres"));
+            return;
+        }
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.0")
+                .withDatabaseName("db_MovieApp_Search")
+                .withUsername("postgres")
+                .withPassword("postgres")) {
+            postgres.start();
+            benchmark(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        }
+    }
+
+    private void benchmark(String url, String username, String password) throws Exception {
+        String batchedUrl = url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+        String[] comments = comments();
+        List<Result> results = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(batchedUrl, username, password)) {
+            // unreported pass so JIT and connection warm-up are not charged to the baseline
+            insert(connection, Variant.PLAIN, Arrays.copyOf(comments, Math.min(rows, 10_000)));
+            results.add(insert(connection, Variant.PLAIN, comments));
+            results.add(insert(connection, Variant.TSVECTOR, comments));
+            results.add(insert(connection, Variant.GIN, comments));
+            results.add(insert(connection, Variant.GIN_NO_FASTUPDATE, comments));
+        }
+
+        Files.createDirectories(outputDirectory);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(outputDirectory.resolve("summary.txt")))) {
+            print(results, System.out);
+            print(results, summary);
+        }
+    }
+
+    // The same comments go into every variant so the only difference between runs is the search column and its index.
+    private String[] comments() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] comments = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            int words = 10 + random.nextInt(110);
+            StringBuilder comment = new StringBuilder();
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    comment.append(' ');
+                }
+                // a long tail of rare words, like names and titles, keeps the GIN key space realistic
+                comment.append(random.nextInt(5) == 0 ? "w" + Integer.toString(random.nextInt(50_000), 36) : WORDS[random.nextInt(WORDS.length)]);
+            }
+            comments[i] = comment.toString();
+        }
+        return comments;
+    }
+
+    private Result insert(Connection connection, Variant variant, String[] comments) throws SQLException {
+        String table = "reviews_search_" + variant.name().toLowerCase();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " ("
+                    + "id UUID PRIMARY KEY, "
+                    + "movie_id UUID NOT NULL, "
+                    + "user_id UUID NOT NULL, "
+                    + "rating INTEGER NOT NULL, "
+                    + "comment TEXT, "
+                    + "created_at TIMESTAMP WITH TIME ZONE NOT NULL, "
+                    + "updated_at TIMESTAMP WITH TIME ZONE"
+                    + (variant == Variant.PLAIN ? "" : ", search_vector TSVECTOR "
+                    + "GENERATED ALWAYS AS (setweight(to_tsvector('english', coalesce(comment, '')), 'B')) STORED")
+                    + ")");
+            if (variant == Variant.GIN || variant == Variant.GIN_NO_FASTUPDATE) {
+                statement.execute("CREATE INDEX " + table + "_search ON " + table + " USING GIN (search_vector)"
+                        + (variant == Variant.GIN_NO_FASTUPDATE ? " WITH (fastupdate = off)" : ""));
+            }
+            statement.execute("CHECKPOINT");
+        }
+
+        UUID[] movieIds = new UUID[MOVIES];
+        for (int i = 0; i < MOVIES; i++) {
+            movieIds[i] = UUID.randomUUID();
+        }
+
+        int count = comments.length;
+        System.out.println("Inserting " + count + " rows into " + table);
+        String walBefore = queryString(connection, "SELECT pg_current_wal_lsn()");
+        long[] batchNanos = new long[(count + batchSize - 1) / batchSize];
+        int batches = 0;
+        long start = System.nanoTime();
+        long batchStart = start;
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                + " (id, movie_id, user_id, rating, comment, created_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            Timestamp createdAt = Timestamp.from(Instant.now());
+            for (int row = 1; row <= count; row++) {
+                insert.setObject(1, UUID.randomUUID());
+                insert.setObject(2, movieIds[row % MOVIES]);
+                insert.setObject(3, UUID.randomUUID());
+                insert.setInt(4, row % 10 + 1);
+                insert.setString(5, comments[row - 1]);
+                insert.setTimestamp(6, createdAt);
+                insert.addBatch();
+                if (row % batchSize == 0 || row == count) {
+                    insert.executeBatch();
+                    connection.commit();
+                    long now = System.nanoTime();
+                    batchNanos[batches++] = now - batchStart;
+                    batchStart = now;
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long walBytes = queryLong(connection, "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '" + walBefore + "')");
+        // with fastupdate the GIN insert cost is partly deferred to the pending list flush, so it is timed separately
+        double flushMillis = 0;
+        long indexBytes = 0;
+        if (variant == Variant.GIN || variant == Variant.GIN_NO_FASTUPDATE) {
+            long flushStart = System.nanoTime();
+            queryLong(connection, "SELECT gin_clean_pending_list('" + table + "_search')");
+            flushMillis = (System.nanoTime() - flushStart) / 1e6;
+            indexBytes = queryLong(connection, "SELECT pg_relation_size('" + table + "_search')");
+        }
+        long tableBytes = queryLong(connection, "SELECT pg_relation_size('" + table + "')");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table);
+        }
+        Arrays.sort(batchNanos, 0, batches);
+        return new Result(variant, seconds, batchNanos[batches / 2], batchNanos[(int) (batches * 0.99)],
+                batchNanos[batches - 1], walBytes, tableBytes, indexBytes, flushMillis);
+    }
+
+    private void print(List<Result> results, PrintStream out) {
+        double baseline = results.getFirst().seconds();
+        out.printf("%,d rows, batch size %d%n", rows, batchSize);
+        out.printf("%-18s %9s %10s %9s %11s %11s %11s %11s %10s %10s %9s %9s%n",
+                "variant", "seconds", "rows/s", "us/row", "+us/row", "p50 us", "p99 us", "max us",
+                "WAL B/row", "table MB", "index MB", "flush ms");
+        for (Result result : results) {
+            out.printf("%-18s %9.1f %,10.0f %9.1f %11.1f %11.0f %11.0f %11.0f %10.0f %10.1f %9.1f %9.1f%n",
+                    result.variant().name().toLowerCase(),
+                    result.seconds(),
+                    rows / result.seconds(),
+                    result.seconds() * 1e6 / rows,
+                    (result.seconds() - baseline) * 1e6 / rows,
+                    result.p50Nanos() / 1e3,
+                    result.p99Nanos() / 1e3,
+                    result.maxNanos() / 1e3,
+                    (double) result.walBytes() / rows,
+                    result.tableBytes() / 1e6,
+                    result.indexBytes() / 1e6,
+                    result.flushMillis());
+        }
+    }
+
+    private static String queryString(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private enum Variant {
+        PLAIN,
+        TSVECTOR,
+        GIN,
+        GIN_NO_FASTUPDATE
+    }
+
+    private record Result(Variant variant, double seconds, long p50Nanos, long p99Nanos, long maxNanos,
+                          long walBytes, long tableBytes, long indexBytes, double flushMillis) {
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.movie.load;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class StartupTimingReport {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Pattern READY_TIME = Pattern.compile("(?m)^application_ready_time_seconds\\{[^}]*} ([0-9.E-]+)");
+
+    private final String java = System.getProperty("startup.java", Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    private final Path jar = Path.of(System.getProperty("startup.jar"));
+    private final boolean aot = Boolean.parseBoolean(System.getProperty("startup.aot", "false"));
+    private final int iterations = Integer.getInteger("startup.iterations", 5);
+    private final String version = System.getProperty("startup.version", "dev");
+    private final Path outputDirectory = Path.of(System.getProperty("startup.output", "build/reports/startup"));
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private int databaseSequence;
+
+    public static void main(String[] args) throws Exception {
+        new StartupTimingReport().run();
+    }
+
+    private void run() throws Exception {
+        Files.createDirectories(outputDirectory);
+        Path extracted = outputDirectory.resolve("app");
+        Path archive = extracted.resolve("app.jsa");
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.0")
+                .withDatabaseName("db_MovieApp_Startup")
+                .withUsername("postgres")
+                .withPassword("postgres")) {
+            postgres.start();
+
+            extract(extracted);
+            train(postgres, extracted, archive);
+
+            List<String> rows = new ArrayList<>();
+            for (int i = 1; i <= iterations; i++) {
+                rows.add(measure("jar", i, postgres, List.of("-jar", jar.toAbsolutePath().toString())));
+
+                List<String> cdsCommand = new ArrayList<>();
+                cdsCommand.add("-XX:SharedArchiveFile=" + archive.toAbsolutePath());
+                if (aot) {
+                    cdsCommand.add("-Dspring.aot.enabled=true");
+                }
+                cdsCommand.add("-jar");
+                cdsCommand.add(extracted.resolve(jar.getFileName()).toAbsolutePath().toString());
+                rows.add(measure(aot ? "aot+cds" : "cds", i, postgres, cdsCommand));
+            }
+
+            Path csv = outputDirectory.resolve("startup.csv");
+            if (!Files.exists(csv)) {
+                Files.writeString(csv, "version,mode,iteration,process_to_ready_ms,application_ready_ms,first_request_ms\n");
+            }
+            Files.write(csv, rows, StandardOpenOption.APPEND);
+            rows.forEach(System.out::println);
+            System.out.println("Startup timings appended to " + csv.toAbsolutePath());
+        }
+    }
+
+    private void extract(Path extracted) throws IOException, InterruptedException {
+        exec(List.of(java, "-Djarmode=tools", "-jar", jar.toAbsolutePath().toString(),
+                "extract", "--force", "--destination", extracted.toAbsolutePath().toString()));
+    }
+
+    private void train(PostgreSQLContainer<?> postgres, Path extracted, Path archive) throws Exception {
+        List<String> command = new ArrayList<>(List.of(java, "-XX:ArchiveClassesAtExit=" + archive.toAbsolutePath(),
+                "-Dspring.context.exit=onRefresh"));
+        if (aot) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-jar");
+        command.add(extracted.resolve(jar.getFileName()).toAbsolutePath().toString());
+        command.addAll(appArgs(postgres, freshDatabase(postgres), 0));
+        exec(command);
+    }
+
+    private String measure(String mode, int iteration, PostgreSQLContainer<?> postgres, List<String> jvmCommand) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmCommand);
+        command.addAll(appArgs(postgres, freshDatabase(postgres), port));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(outputDirectory.resolve(mode + "-" + iteration + ".log").toFile())
+                .start();
+        try {
+            String baseUrl = "http://localhost:" + port;
+            awaitHealthy(baseUrl, process);
+            long processToReady = System.nanoTime() - start;
+
+            long requestStart = System.nanoTime();
+            HttpResponse<String> first = get(baseUrl + "/api/users/availability?username=startup-probe");
+            long firstRequest = System.nanoTime() - requestStart;
+            if (first.statusCode() != 200) {
+                throw new IllegalStateException("First request failed with " + first.statusCode());
+            }
+
+            // the scrape endpoint is admin-only, so log in after the first-request timing has been taken
+            Matcher readyTime = READY_TIME.matcher(get(baseUrl + "/actuator/prometheus",
+                    new LoadClient(baseUrl, new LatencyReport()).login("admin@movieapp.com", "admin123")).body());
+            double applicationReadyMs = readyTime.find() ? Double.parseDouble(readyTime.group(1)) * 1000 : Double.NaN;
+
+            return String.format("%s,%s,%d,%d,%.0f,%.2f", version, mode, iteration,
+                    TimeUnit.NANOSECONDS.toMillis(processToReady), applicationReadyMs, firstRequest / 1e6);
+        } finally {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private void awaitHealthy(String baseUrl, Process process) throws InterruptedException, IOException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited during startup with " + process.exitValue());
+            }
+            try {
+                if (get(baseUrl + "/actuator/health").statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Application was not healthy within " + STARTUP_TIMEOUT);
+    }
+
+    private HttpResponse<String> get(String url) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String url, String sessionId) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10))
+                        .header("Session-Id", sessionId)
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private List<String> appArgs(PostgreSQLContainer<?> postgres, String database, int port) {
+        String jdbcUrl = "jdbc:postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(5432) + "/" + database;
+        return List.of(
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--server.port=" + port,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.springframework.web=INFO");
+    }
+
+    private String freshDatabase(PostgreSQLContainer<?> postgres) throws SQLException {
+        String database = "startup_" + databaseSequence++;
+        try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + database);
+        }
+        return database;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private void exec(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).inheritIO().start();
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException(String.join(" ", command) + " exited with " + exitCode);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.movie.load;
+
+import com.example.movie.common.UuidV7Generator;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public class UuidInsertBenchmark {
+    private static final int MOVIES = 10_000;
+
+    private final long rows = Long.getLong("uuid.rows", 10_000_000L);
+    private final int users = Integer.getInteger("uuid.users", 100_000);
+    private final int batchSize = Integer.getInteger("uuid.batch-size", 1000);
+    private final long segmentSize = Long.getLong("uuid.segment-size", 1_000_000L);
+    private final String jdbcUrl = System.getProperty("uuid.jdbc-url");
+    private final Path outputDirectory = Path.of(System.getProperty("uuid.output", "build/reports/uuid-insert"));
+
+    public static void main(String[] args) throws Exception {
+        new UuidInsertBenchmark().run();
+    }
+
+    private void run() throws Exception {
+        if (rows > (long) MOVIES * users) {
+            throw new IllegalArgumentException("uuid.rows must not exceed " + MOVIES + " movies * uuid.users, "
+                    + "each user reviews a movie at most once");
+        }
+        if (jdbcUrl != null) {
+            benchmark(jdbcUrl, System.getProperty("uuid.username", "postgres"), System.getProperty("uuid.password", "postgres"));
+            return;
+        }
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.0")
+                .withDatabaseName("db_MovieApp_Uuid")
+                .withUsername("postgres")
+                .withPassword("postgres")) {
+            postgres.start();
+            benchmark(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        }
+    }
+
+    private void benchmark(String url, String username, String password) throws Exception {
+        String batchedUrl = url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+        List<Result> results = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(batchedUrl, username, password)) {
+            results.add(insert(connection, "v4", UUID::randomUUID));
+            results.add(insert(connection, "v7", UuidV7Generator::next));
+        }
+
+        Files.createDirectories(outputDirectory);
+        try (PrintStream csv = new PrintStream(Files.newOutputStream(outputDirectory.resolve("segments.csv")))) {
+            csv.println("variant,rows_from,rows_to,rows_per_second");
+            for (Result result : results) {
+                for (int i = 0; i < result.segmentRates().size(); i++) {
+                    csv.printf("%s,%d,%d,%.0f%n", result.variant(), i * segmentSize,
+                            Math.min(rows, (i + 1) * segmentSize), result.segmentRates().get(i));
+                }
+            }
+        }
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(outputDirectory.resolve("summary.txt")))) {
+            print(results, System.out);
+            print(results, summary);
+        }
+    }
+
+    private Result insert(Connection connection, String variant, Supplier<UUID> ids) throws SQLException {
+        String table = "reviews_" + variant;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " ("
+                    + "id UUID PRIMARY KEY, "
+                    + "movie_id UUID NOT NULL, "
+                    + "user_id UUID NOT NULL, "
+                    + "rating INTEGER NOT NULL, "
+                    + "comment TEXT, "
+                    + "created_at TIMESTAMP WITH TIME ZONE NOT NULL, "
+                    + "updated_at TIMESTAMP WITH TIME ZONE, "
+                    + "CONSTRAINT " + table + "_unique UNIQUE (movie_id, user_id))");
+            statement.execute("CHECKPOINT");
+        }
+
+        UUID[] movieIds = new UUID[MOVIES];
+        for (int i = 0; i < MOVIES; i++) {
+            movieIds[i] = ids.get();
+        }
+        // reviews come from a fixed pool of existing users, so only the review id is new on every row
+        UUID[] userIds = new UUID[users];
+        for (int i = 0; i < users; i++) {
+            userIds[i] = ids.get();
+        }
+
+        System.out.println("Inserting " + rows + " rows into " + table);
+        String walBefore = queryString(connection, "SELECT pg_current_wal_lsn()");
+        List<Double> segmentRates = new ArrayList<>();
+        long start = System.nanoTime();
+        long segmentStart = start;
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                + " (id, movie_id, user_id, rating, comment, created_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            Timestamp createdAt = Timestamp.from(Instant.now());
+            for (long row = 1; row <= rows; row++) {
+                insert.setObject(1, ids.get());
+                insert.setObject(2, movieIds[(int) (row % MOVIES)]);
+                // each pass over the movies shifts the user by one, so consecutive rows have different users
+                // and no (movie_id, user_id) pair repeats within MOVIES * users rows
+                insert.setObject(3, userIds[(int) ((row / MOVIES + row % MOVIES) % users)]);
+                insert.setInt(4, (int) (row % 10) + 1);
+                insert.setString(5, "Benchmark review");
+                insert.setTimestamp(6, createdAt);
+                insert.addBatch();
+                if (row % batchSize == 0 || row == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if (row % segmentSize == 0 || row == rows) {
+                    long now = System.nanoTime();
+                    long segmentRows = row % segmentSize == 0 ? segmentSize : row % segmentSize;
+                    double rate = segmentRows / ((now - segmentStart) / 1e9);
+                    segmentRates.add(rate);
+                    System.out.printf("  %s %,d rows: %,.0f rows/s%n", variant, row, rate);
+                    segmentStart = now;
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long walBytes = queryLong(connection, "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '" + walBefore + "')");
+        long tableBytes = queryLong(connection, "SELECT pg_relation_size('" + table + "')");
+        long primaryKeyBytes = queryLong(connection, "SELECT pg_relation_size('" + table + "_pkey')");
+        long uniqueBytes = queryLong(connection, "SELECT pg_relation_size('" + table + "_unique')");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table);
+        }
+        return new Result(variant, seconds, segmentRates, walBytes, tableBytes, primaryKeyBytes, uniqueBytes);
+    }
+
+    private void print(List<Result> results, PrintStream out) {
+        out.printf("%,d rows, batch size %d%n", rows, batchSize);
+        out.printf("%-8s %10s %14s %14s %12s %12s %12s %12s%n",
+                "variant", "seconds", "rows/s", "last seg/s", "WAL MB", "table MB", "pkey MB", "unique MB");
+        for (Result result : results) {
+            out.printf("%-8s %10.1f %,14.0f %,14.0f %12.1f %12.1f %12.1f %12.1f%n",
+                    result.variant(),
+                    result.seconds(),
+                    rows / result.seconds(),
+                    result.segmentRates().getLast(),
+                    result.walBytes() / 1e6,
+                    result.tableBytes() / 1e6,
+                    result.primaryKeyBytes() / 1e6,
+                    result.uniqueBytes() / 1e6);
+        }
+    }
+
+    private static String queryString(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private record Result(String variant, double seconds, List<Double> segmentRates, long walBytes,
+                          long tableBytes, long primaryKeyBytes, long uniqueBytes) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.movie.application;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder totalQueueTimeNanos = new LongAdder();
+    private final AtomicLong maxQueueTimeNanos = new AtomicLong();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveTasks() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedTasks() {
+        return rejectedTasks.sum();
+    }
+
+    public long getCompletedTasks() {
+        return completedTasks.sum();
+    }
+
+    public long getTotalQueueTimeNanos() {
+        return totalQueueTimeNanos.sum();
+    }
+
+    public long getMaxQueueTimeNanos() {
+        return maxQueueTimeNanos.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long queueTime = System.nanoTime() - submittedAt;
+                totalQueueTimeNanos.add(queueTime);
+                maxQueueTimeNanos.accumulateAndGet(queueTime, Math::max);
+                try {
+                    return task.call();
+                } finally {
+                    completedTasks.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedTasks.increment();
+            throw new PasswordHashingRejectedException();
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.movie.application;
+
+import com.example.movie.common.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+@Component
+public class CacheInvalidationBus {
+    static final String FLUSH = "*";
+    // Postgres rejects NOTIFY payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private final JdbcClient jdbcClient;
+    private final boolean enabled;
+    private final Map<String, List<LocalCache<UUID, ?>>> caches = new ConcurrentHashMap<>();
+    private final Map<String, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final LongAdder sentNotifications = new LongAdder();
+    private final LongAdder receivedNotifications = new LongAdder();
+    private final LongAdder resubscriptions = new LongAdder();
+    private volatile boolean listening;
+
+    public CacheInvalidationBus(JdbcClient jdbcClient, @Value("${movie.cache.enabled:false}") boolean enabled) {
+        this.jdbcClient = jdbcClient;
+        this.enabled = enabled;
+    }
+
+    public void register(String channel, LocalCache<UUID, ?> cache) {
+        caches.computeIfAbsent(channel, ignored -> new CopyOnWriteArrayList<>()).add(cache);
+        if (listening) {
+            cache.enable();
+        }
+    }
+
+    // for state that is not a LocalCache; only notifications reach it, never the publishing node's own publish() call
+    public void subscribe(String channel, Subscriber subscriber) {
+        subscribers.computeIfAbsent(channel, ignored -> new CopyOnWriteArrayList<>()).add(subscriber);
+        if (listening) {
+            subscriber.onResync();
+        }
+    }
+
+    public void publish(String channel, UUID id) {
+        publish(channel, Set.of(id));
+    }
+
+    public void publish(String channel, Collection<UUID> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().computeIfAbsent(channel, ignored -> new LinkedHashSet<>()).addAll(ids);
+            return;
+        }
+        Set<UUID> changed = new LinkedHashSet<>(ids);
+        evictLocally(channel, changed);
+        sendNotification(channel, changed);
+    }
+
+    Set<String> channels() {
+        Set<String> channels = new LinkedHashSet<>(caches.keySet());
+        channels.addAll(subscribers.keySet());
+        return channels;
+    }
+
+    void onNotification(String channel, String payload) {
+        receivedNotifications.increment();
+        if (FLUSH.equals(payload)) {
+            resync(channel);
+            return;
+        }
+        Set<UUID> ids = new LinkedHashSet<>();
+        for (String id : payload.split(",")) {
+            ids.add(UUID.fromString(id));
+        }
+        evictLocally(channel, ids);
+        subscribers.getOrDefault(channel, List.of()).forEach(subscriber -> subscriber.onChanged(ids));
+    }
+
+    void resync(String channel) {
+        caches.getOrDefault(channel, List.of()).forEach(LocalCache::clear);
+        subscribers.getOrDefault(channel, List.of()).forEach(Subscriber::onResync);
+    }
+
+    void subscribed() {
+        // notifications sent while this node was not listening are gone, so start from empty caches
+        caches.values().forEach(channelCaches -> channelCaches.forEach(LocalCache::enable));
+        listening = true;
+        subscribers.values().forEach(channelSubscribers -> channelSubscribers.forEach(Subscriber::onResync));
+        resubscriptions.increment();
+    }
+
+    void unsubscribed() {
+        listening = false;
+        caches.values().forEach(channelCaches -> channelCaches.forEach(LocalCache::disable));
+        subscribers.values().forEach(channelSubscribers -> channelSubscribers.forEach(Subscriber::onUnsubscribed));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isListening() {
+        return listening;
+    }
+
+    public long getSentNotificationCount() {
+        return sentNotifications.sum();
+    }
+
+    public long getReceivedNotificationCount() {
+        return receivedNotifications.sum();
+    }
+
+    public long getResubscriptionCount() {
+        return resubscriptions.sum();
+    }
+
+    public long getCachedEntryCount() {
+        return caches.values().stream()
+                .flatMap(Collection::stream)
+                .mapToLong(LocalCache::size)
+                .sum();
+    }
+
+    // entries pushed out by max-entries, not by invalidations
+    public long getEvictedEntryCount() {
+        return caches.values().stream()
+                .flatMap(Collection::stream)
+                .mapToLong(LocalCache::getEvictionCount)
+                .sum();
+    }
+
+    private Map<String, Set<UUID>> pendingChanges() {
+        @SuppressWarnings("unchecked")
+        Map<String, Set<UUID>> pending = (Map<String, Set<UUID>>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<String, Set<UUID>> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // NOTIFY is transactional: Postgres delivers it on commit and drops it on rollback
+                created.forEach(CacheInvalidationBus.this::sendNotification);
+            }
+
+            @Override
+            public void afterCommit() {
+                created.forEach(CacheInvalidationBus.this::evictLocally);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+            }
+        });
+        return created;
+    }
+
+    private void evictLocally(String channel, Set<UUID> ids) {
+        for (LocalCache<UUID, ?> cache : caches.getOrDefault(channel, List.of())) {
+            ids.forEach(cache::evict);
+        }
+    }
+
+    private void sendNotification(String channel, Set<UUID> ids) {
+        String payload = ids.stream().map(UUID::toString).collect(Collectors.joining(","));
+        jdbcClient.sql("SELECT pg_notify(:channel, :payload)")
+                .param("channel", channel)
+                .param("payload", payload.length() > MAX_PAYLOAD_LENGTH ? FLUSH : payload)
+                .query()
+                .singleRow();
+        sentNotifications.increment();
+    }
+
+    public interface Subscriber {
+        void onChanged(Set<UUID> ids);
+
+        // changes may have been missed: after every (re)subscribe, and when a payload was too long to list the ids
+        void onResync();
+
+        // no changes arrive until the next onResync
+        void onUnsubscribed();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.movie.application;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+
+@Component
+@ConditionalOnProperty(name = "movie.cache.enabled", havingValue = "true")
+public class CacheInvalidationListener implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+    static final String APPLICATION_NAME = "movie-cache-invalidation";
+    static final int POLL_TIMEOUT_MS = 1000;
+    // well above the poll interval, so only a connection that stopped answering the keep-alive query trips it
+    private static final int SOCKET_TIMEOUT_SECONDS = 10;
+    private static final int CONNECT_TIMEOUT_SECONDS = 10;
+
+    private final CacheInvalidationBus bus;
+    private final JdbcConnectionDetails connectionDetails;
+    private final long reconnectDelayMs;
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public CacheInvalidationListener(CacheInvalidationBus bus,
+                                     JdbcConnectionDetails connectionDetails,
+                                     @Value("${movie.cache.reconnect-delay:1s}") Duration reconnectDelay) {
+        this.bus = bus;
+        this.connectionDetails = connectionDetails;
+        this.reconnectDelayMs = reconnectDelay.toMillis();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeConnection();
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                listen();
+            } catch (SQLException | RuntimeException e) {
+                // whatever ends the loop, caches must stop serving until the next subscribe resyncs them
+                bus.unsubscribed();
+                closeConnection();
+                sleepBeforeReconnect();
+            }
+        }
+        bus.unsubscribed();
+    }
+
+    private void listen() throws SQLException {
+        connection = connect();
+        try (Statement statement = connection.createStatement()) {
+            for (String channel : bus.channels()) {
+                statement.execute("LISTEN " + channel);
+            }
+        }
+        bus.subscribed();
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+            if (notifications == null || notifications.length == 0) {
+                // getNotifications does not notice a dead socket on its own
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                deliver(notification.getName(), notification.getParameter());
+            }
+        }
+    }
+
+    void deliver(String channel, String payload) {
+        try {
+            bus.onNotification(channel, payload);
+        } catch (RuntimeException e) {
+            // a malformed payload or a failing subscriber loses this change, so drop everything the channel cached
+            log.warn("Could not apply invalidation on channel {}, resyncing it", channel, e);
+            bus.resync(channel);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(connectionDetails.getJdbcUrl(), connectionProperties(connectionDetails));
+    }
+
+    static Properties connectionProperties(JdbcConnectionDetails connectionDetails) {
+        Properties properties = new Properties();
+        properties.setProperty("user", connectionDetails.getUsername());
+        if (connectionDetails.getPassword() != null) {
+            properties.setProperty("password", connectionDetails.getPassword());
+        }
+        properties.setProperty("ApplicationName", APPLICATION_NAME);
+        // without these a half-open socket (peer gone, no RST) blocks the SELECT 1 forever and caching never turns off
+        properties.setProperty("socketTimeout", String.valueOf(SOCKET_TIMEOUT_SECONDS));
+        properties.setProperty("connectTimeout", String.valueOf(CONNECT_TIMEOUT_SECONDS));
+        properties.setProperty("tcpKeepAlive", "true");
+        return properties;
+    }
+
+    private void closeConnection() {
+        Connection current = connection;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.movie.application;
+
+import com.example.movie.common.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class LoginRateLimiter {
+    private static final int STRIPES = 64;
+
+    private final TokenBucketRateLimiter emailLimiter;
+    private final TokenBucketRateLimiter addressLimiter;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByEmail = new LongAdder();
+    private final LongAdder rejectedByAddress = new LongAdder();
+
+    public LoginRateLimiter(@Value("${movie.security.login-rate-limit.email.capacity:5}") long emailCapacity,
+                            @Value("${movie.security.login-rate-limit.email.refill-per-minute:5}") double emailRefillPerMinute,
+                            @Value("${movie.security.login-rate-limit.address.capacity:30}") long addressCapacity,
+                            @Value("${movie.security.login-rate-limit.address.refill-per-minute:30}") double addressRefillPerMinute,
+                            @Value("${movie.security.login-rate-limit.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this.emailLimiter = new TokenBucketRateLimiter(emailCapacity, emailRefillPerMinute / 60, maxTrackedKeys, STRIPES);
+        this.addressLimiter = new TokenBucketRateLimiter(addressCapacity, addressRefillPerMinute / 60, maxTrackedKeys, STRIPES);
+    }
+
+    public boolean tryAcquire(String email, String clientAddress) {
+        if (clientAddress != null && !addressLimiter.tryAcquire(clientAddress)) {
+            rejectedByAddress.increment();
+            return false;
+        }
+        if (email != null && !emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT))) {
+            rejectedByEmail.increment();
+            return false;
+        }
+        allowed.increment();
+        return true;
+    }
+
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+
+    public long getRejectedByEmailCount() {
+        return rejectedByEmail.sum();
+    }
+
+    public long getRejectedByAddressCount() {
+        return rejectedByAddress.sum();
+    }
+
+    public int getTrackedKeys() {
+        return emailLimiter.trackedKeys() + addressLimiter.trackedKeys();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.movie.application;
+
+import com.example.movie.moderation.domain.SpamDetectionUseCase;
+import com.example.movie.movie.domain.PosterUseCase;
+import com.example.movie.recommendation.domain.RecommendationUseCase;
+import com.example.movie.user.domain.SessionService;
+import com.example.movie.user.domain.UserAvailabilityUseCase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder sessionMetrics(SessionService sessionService) {
+        return registry -> {
+            // the signed store keeps no sessions to count, so it has no gauge rather than a misleading one
+            if (sessionService.getActiveSessionCount().isPresent()) {
+                Gauge.builder("movie.sessions.active", sessionService, service -> service.getActiveSessionCount().orElse(0))
+                        .register(registry);
+            }
+            FunctionCounter.builder("movie.sessions.evicted", sessionService, SessionService::getEvictedSessionCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(BoundedPasswordEncoder passwordEncoder) {
+        return registry -> {
+            Gauge.builder("movie.password.hashing.queued", passwordEncoder, BoundedPasswordEncoder::getQueuedTasks)
+                    .register(registry);
+            Gauge.builder("movie.password.hashing.active", passwordEncoder, BoundedPasswordEncoder::getActiveTasks)
+                    .register(registry);
+            FunctionCounter.builder("movie.password.hashing.completed", passwordEncoder, BoundedPasswordEncoder::getCompletedTasks)
+                    .register(registry);
+            FunctionCounter.builder("movie.password.hashing.rejected", passwordEncoder, BoundedPasswordEncoder::getRejectedTasks)
+                    .register(registry);
+            FunctionCounter.builder("movie.password.hashing.queue.time", passwordEncoder,
+                            encoder -> encoder.getTotalQueueTimeNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("movie.password.hashing.queue.time.max", passwordEncoder,
+                            encoder -> encoder.getMaxQueueTimeNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                    .baseUnit("seconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder loginRateLimitMetrics(LoginRateLimiter loginRateLimiter) {
+        return registry -> {
+            FunctionCounter.builder("movie.login.attempts", loginRateLimiter, LoginRateLimiter::getAllowedCount)
+                    .tag("outcome", "allowed")
+                    .register(registry);
+            FunctionCounter.builder("movie.login.attempts", loginRateLimiter, LoginRateLimiter::getRejectedByEmailCount)
+                    .tag("outcome", "rejected_email")
+                    .register(registry);
+            FunctionCounter.builder("movie.login.attempts", loginRateLimiter, LoginRateLimiter::getRejectedByAddressCount)
+                    .tag("outcome", "rejected_address")
+                    .register(registry);
+            Gauge.builder("movie.login.rate.limit.tracked.keys", loginRateLimiter, LoginRateLimiter::getTrackedKeys)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder userAvailabilityMetrics(UserAvailabilityUseCase userAvailabilityUseCase) {
+        return registry -> {
+            FunctionCounter.builder("movie.users.availability.checks", userAvailabilityUseCase, UserAvailabilityUseCase::getDefinitelyFreeCount)
+                    .tag("result", "filter_miss")
+                    .register(registry);
+            FunctionCounter.builder("movie.users.availability.checks", userAvailabilityUseCase, UserAvailabilityUseCase::getIndexLookupCount)
+                    .tag("result", "index_lookup")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder cacheInvalidationMetrics(CacheInvalidationBus cacheInvalidationBus) {
+        return registry -> {
+            Gauge.builder("movie.cache.entries", cacheInvalidationBus, CacheInvalidationBus::getCachedEntryCount)
+                    .register(registry);
+            FunctionCounter.builder("movie.cache.invalidations", cacheInvalidationBus, CacheInvalidationBus::getSentNotificationCount)
+                    .tag("direction", "sent")
+                    .register(registry);
+            FunctionCounter.builder("movie.cache.invalidations", cacheInvalidationBus, CacheInvalidationBus::getReceivedNotificationCount)
+                    .tag("direction", "received")
+                    .register(registry);
+            FunctionCounter.builder("movie.cache.resubscriptions", cacheInvalidationBus, CacheInvalidationBus::getResubscriptionCount)
+                    .register(registry);
+            FunctionCounter.builder("movie.cache.evictions", cacheInvalidationBus, CacheInvalidationBus::getEvictedEntryCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder posterStorageMetrics(PosterUseCase posterUseCase) {
+        return registry -> {
+            FunctionCounter.builder("movie.posters.uploads", posterUseCase, PosterUseCase::getStoredUploadCount)
+                    .tag("result", "stored")
+                    .register(registry);
+            FunctionCounter.builder("movie.posters.uploads", posterUseCase, PosterUseCase::getDeduplicatedUploadCount)
+                    .tag("result", "deduplicated")
+                    .register(registry);
+            FunctionCounter.builder("movie.posters.uploads", posterUseCase, PosterUseCase::getUnchangedUploadCount)
+                    .tag("result", "unchanged")
+                    .register(registry);
+            FunctionCounter.builder("movie.posters.deduplicated", posterUseCase, PosterUseCase::getDeduplicatedBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("movie.posters.collected", posterUseCase, PosterUseCase::getCollectedPosterCount)
+                    .register(registry);
+            Gauge.builder("movie.posters.stored", posterUseCase, PosterUseCase::getStoredBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("movie.posters.saved", posterUseCase, PosterUseCase::getSavedBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder recommendationMetrics(RecommendationUseCase recommendationUseCase) {
+        return registry -> {
+            Gauge.builder("movie.recommendations.movies", recommendationUseCase, RecommendationUseCase::getItemCount)
+                    .register(registry);
+            Gauge.builder("movie.recommendations.users", recommendationUseCase, RecommendationUseCase::getUserCount)
+                    .register(registry);
+            Gauge.builder("movie.recommendations.ratings", recommendationUseCase, RecommendationUseCase::getRatingCount)
+                    .register(registry);
+            Gauge.builder("movie.recommendations.pending", recommendationUseCase, RecommendationUseCase::getPendingRefreshCount)
+                    .register(registry);
+            FunctionCounter.builder("movie.recommendations.updates", recommendationUseCase, RecommendationUseCase::getIncrementalUpdateCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder spamDetectionMetrics(SpamDetectionUseCase spamDetectionUseCase) {
+        return registry -> {
+            FunctionCounter.builder("movie.spam.submissions", spamDetectionUseCase, SpamDetectionUseCase::getFlaggedCount)
+                    .tag("result", "flagged")
+                    .register(registry);
+            FunctionCounter.builder("movie.spam.submissions", spamDetectionUseCase, SpamDetectionUseCase::getCleanCount)
+                    .tag("result", "clean")
+                    .register(registry);
+            FunctionCounter.builder("movie.spam.submissions", spamDetectionUseCase, SpamDetectionUseCase::getSkippedCount)
+                    .tag("result", "skipped")
+                    .register(registry);
+            Gauge.builder("movie.spam.indexed", spamDetectionUseCase, SpamDetectionUseCase::getIndexedCount)
+                    .register(registry);
+        };
+    }
+}
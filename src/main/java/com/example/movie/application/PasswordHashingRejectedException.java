@@ -0,0 +1,7 @@
+package com.example.movie.application;
+
+public class PasswordHashingRejectedException extends RuntimeException {
+    public PasswordHashingRejectedException() {
+        super("Password hashing capacity exceeded");
+    }
+}
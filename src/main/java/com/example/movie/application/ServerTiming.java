@@ -0,0 +1,102 @@
+package com.example.movie.application;
+
+import java.util.Locale;
+
+public final class ServerTiming {
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    public enum Phase {
+        AUTH("auth"),
+        SESSION("session"),
+        USECASE("usecase"),
+        DB("db"),
+        SERIALIZATION("serialization");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[] durations = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private final int[] depths = new int[PHASES.length];
+    private final long[] startedAt = new long[PHASES.length];
+    // phase timings reveal internals, so only admins get them back as a header; everyone is still measured
+    private boolean headerVisible;
+
+    ServerTiming() {
+    }
+
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    static ServerTiming begin() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public void start(Phase phase) {
+        int index = phase.ordinal();
+        if (depths[index]++ == 0) {
+            startedAt[index] = System.nanoTime();
+        }
+    }
+
+    public void stop(Phase phase) {
+        int index = phase.ordinal();
+        if (depths[index] > 0 && --depths[index] == 0) {
+            durations[index] += System.nanoTime() - startedAt[index];
+            counts[index]++;
+        }
+    }
+
+    public void showHeader() {
+        headerVisible = true;
+    }
+
+    boolean isHeaderVisible() {
+        return headerVisible;
+    }
+
+    public long getDurationNanos(Phase phase) {
+        return durations[phase.ordinal()];
+    }
+
+    public int getCount(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    String toHeaderValue(long totalNanos) {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            int index = phase.ordinal();
+            if (counts[index] > 0) {
+                append(header, phase.metricName(), durations[index]);
+                if (counts[index] > 1) {
+                    header.append(";desc=\"").append(counts[index]).append(" calls\"");
+                }
+                header.append(", ");
+            }
+        }
+        append(header, "total", totalNanos);
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String name, long nanos) {
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+}
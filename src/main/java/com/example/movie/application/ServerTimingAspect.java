@@ -0,0 +1,39 @@
+package com.example.movie.application;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+@Aspect
+public class ServerTimingAspect {
+
+    @Around("within(com.example.movie.user.domain.SessionService)")
+    public Object timeSession(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, ServerTiming.Phase.SESSION);
+    }
+
+    @Around("within(com.example.movie..domain..*) && @within(org.springframework.stereotype.Service)"
+            + " && !within(com.example.movie.user.domain.SessionService)")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, ServerTiming.Phase.USECASE);
+    }
+
+    @Around("within(com.example.movie..persistence..*) && @within(org.springframework.stereotype.Repository)"
+            + " && !within(com.example.movie.user.persistence.SessionStore+)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, ServerTiming.Phase.DB);
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint, ServerTiming.Phase phase) throws Throwable {
+        ServerTiming timing = ServerTiming.current();
+        if (timing == null) {
+            return joinPoint.proceed();
+        }
+        timing.start(phase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timing.stop(phase);
+        }
+    }
+}
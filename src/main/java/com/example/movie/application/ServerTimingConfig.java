@@ -0,0 +1,35 @@
+package com.example.movie.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "movie.server-timing.enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${movie.server-timing.sample-rate:1.0}") double sampleRate,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(sampleRate, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public ServerTimingAspect serverTimingAspect() {
+        return new ServerTimingAspect();
+    }
+
+    @Bean
+    public ServerTimingJsonHttpMessageConverter serverTimingJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new ServerTimingJsonHttpMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.movie.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class ServerTimingFilter extends OncePerRequestFilter {
+    static final String HEADER = "Server-Timing";
+
+    private final double sampleRate;
+    private final Map<ServerTiming.Phase, Timer> phaseTimers = new EnumMap<>(ServerTiming.Phase.class);
+    private final Timer totalTimer;
+
+    public ServerTimingFilter(double sampleRate, MeterRegistry meterRegistry) {
+        this.sampleRate = sampleRate;
+        for (ServerTiming.Phase phase : ServerTiming.Phase.values()) {
+            phaseTimers.put(phase, phaseTimer(phase.metricName(), meterRegistry));
+        }
+        this.totalTimer = phaseTimer("total", meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!isSampled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ServerTiming timing = ServerTiming.begin();
+        TimingResponse timingResponse = new TimingResponse(response, timing, start);
+        try {
+            filterChain.doFilter(request, timingResponse);
+        } finally {
+            ServerTiming.end();
+            timingResponse.writeHeader();
+            record(timing, System.nanoTime() - start);
+        }
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private void record(ServerTiming timing, long totalNanos) {
+        phaseTimers.forEach((phase, timer) -> {
+            if (timing.getCount(phase) > 0) {
+                timer.record(timing.getDurationNanos(phase), TimeUnit.NANOSECONDS);
+            }
+        });
+        totalTimer.record(totalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer phaseTimer(String phase, MeterRegistry meterRegistry) {
+        return Timer.builder("movie.request.phase")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static class TimingResponse extends HttpServletResponseWrapper {
+        private final ServerTiming timing;
+        private final long start;
+        private boolean headerWritten;
+
+        TimingResponse(HttpServletResponse response, ServerTiming timing, long start) {
+            super(response);
+            this.timing = timing;
+            this.start = start;
+        }
+
+        void writeHeader() {
+            if (!headerWritten && timing.isHeaderVisible() && !isCommitted()) {
+                setHeader(HEADER, timing.toHeaderValue(System.nanoTime() - start));
+            }
+            headerWritten = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.movie.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+public class ServerTimingJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public ServerTimingJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, Type type, @NonNull HttpOutputMessage outputMessage) throws IOException {
+        ServerTiming timing = ServerTiming.current();
+        if (timing == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        // buffer so the serialization phase is known before the response commits its headers
+        FastByteArrayOutputStream buffer = new FastByteArrayOutputStream();
+        timing.start(ServerTiming.Phase.SERIALIZATION);
+        try {
+            super.writeInternal(object, type, new HttpOutputMessage() {
+                @Override
+                public OutputStream getBody() {
+                    return buffer;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return outputMessage.getHeaders();
+                }
+            });
+        } finally {
+            timing.stop(ServerTiming.Phase.SERIALIZATION);
+        }
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
@@ -1,8 +1,8 @@
 package com.example.movie.application;
 
 import com.example.movie.user.domain.SessionService;
-import com.example.movie.user.domain.UserQueryUseCase;
-import com.example.movie.user.domain.model.User;
+import com.example.movie.user.domain.model.AuthenticatedUser;
+import com.example.movie.user.domain.model.SessionData;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,17 +16,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.UUID;
 
 @Component
 public class SessionAuthenticationFilter extends OncePerRequestFilter {
 
     private final SessionService sessionService;
-    private final UserQueryUseCase userQueryUseCase;
 
-    public SessionAuthenticationFilter(SessionService sessionService, UserQueryUseCase userQueryUseCase) {
+    public SessionAuthenticationFilter(SessionService sessionService) {
         this.sessionService = sessionService;
-        this.userQueryUseCase = userQueryUseCase;
     }
 
     @Override
@@ -37,27 +34,37 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
         String sessionId = request.getHeader("Session-Id");
         
         if (sessionId != null && !sessionId.isEmpty()) {
+            ServerTiming timing = ServerTiming.current();
+            if (timing != null) {
+                timing.start(ServerTiming.Phase.AUTH);
+            }
             try {
-                UUID userId = sessionService.getUserId(sessionId);
-                if (userId != null) {
-                    User user = userQueryUseCase.findById(userId).orElse(null);
-                    String role = user != null ? user.getRole() : "USER";
-                    String springRole = "ROLE_" + role;
+                SessionData sessionData = sessionService.getSession(sessionId).orElse(null);
+                if (sessionData != null) {
+                    AuthenticatedUser principal = AuthenticatedUser.from(sessionData);
+                    String springRole = "ROLE_" + principal.role();
                     
                     UsernamePasswordAuthenticationToken authentication = 
                         new UsernamePasswordAuthenticationToken(
-                            userId.toString(),
+                            principal,
                             null,
                                 Collections.singletonList(new SimpleGrantedAuthority(springRole))
                         );
                     
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    if (timing != null && principal.isAdmin()) {
+                        timing.showHeader();
+                    }
                 }
             } catch (Exception e) {
                 logger.debug("Invalid session: " + sessionId);
+            } finally {
+                if (timing != null) {
+                    timing.stop(ServerTiming.Phase.AUTH);
+                }
             }
         }
         
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+}
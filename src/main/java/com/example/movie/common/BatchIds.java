@@ -0,0 +1,20 @@
+package com.example.movie.common;
+
+import java.util.List;
+import java.util.UUID;
+
+public final class BatchIds {
+    // shared by every GET ?ids= endpoint, so one IN (...) query stays bounded
+    public static final int MAX_SIZE = 100;
+
+    private BatchIds() {
+    }
+
+    public static List<UUID> distinct(List<UUID> ids) {
+        List<UUID> distinctIds = ids.stream().distinct().toList();
+        if (distinctIds.size() > MAX_SIZE) {
+            throw InvalidBatchReadException.tooManyIds();
+        }
+        return distinctIds;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.movie.common;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+public final class ETags {
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    public static String weak(UUID id, long version) {
+        return "W/\"" + id + "-" + Long.toHexString(version) + "\"";
+    }
+
+    public static boolean matchesAny(String ifNoneMatch, String eTag) {
+        ETag current = ETag.create(eTag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+    }
+
+    // A revalidation only looks up the version, so a 304 never loads or maps the full row.
+    public static <V extends Versioned, T> ResponseEntity<T> conditional(UUID id, String ifNoneMatch,
+                                                                         Function<UUID, Optional<Long>> version,
+                                                                         Function<UUID, Optional<V>> view,
+                                                                         Function<V, T> body) {
+        if (ifNoneMatch != null) {
+            Optional<String> eTag = version.apply(id).map(current -> weak(id, current));
+            if (eTag.isPresent() && matchesAny(ifNoneMatch, eTag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag.get())
+                        .cacheControl(REVALIDATE)
+                        .<T>build();
+            }
+        }
+        return view.apply(id)
+                .map(found -> ResponseEntity.ok()
+                        .eTag(weak(id, found.version()))
+                        .cacheControl(REVALIDATE)
+                        .body(body.apply(found)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.movie.common;
+
+public class InvalidBatchReadException extends IllegalArgumentException {
+    private InvalidBatchReadException(String message) {
+        super(message);
+    }
+
+    public static InvalidBatchReadException tooManyIds() {
+        return new InvalidBatchReadException("Too many ids");
+    }
+}
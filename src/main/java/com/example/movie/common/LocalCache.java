@@ -0,0 +1,173 @@
+package com.example.movie.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class LocalCache<K, V> {
+    private final ReentrantLock lock = new ReentrantLock();
+    // access-ordered, so the eldest entry is the least recently used one; guarded by lock
+    private final LinkedHashMap<K, V> entries;
+    // bumped by every eviction so a load that raced with it does not re-insert the old value
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile boolean enabled;
+
+    public LocalCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        if (!enabled) {
+            return loader.apply(key);
+        }
+        V cached = read(key);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        long loadedAt = generation.get();
+        Optional<V> loaded = loader.apply(key);
+        loaded.ifPresent(value -> put(key, value, loadedAt));
+        return loaded;
+    }
+
+    public List<V> getAll(Collection<K> keys, Function<V, K> keyOf, Function<List<K>, List<V>> loader) {
+        if (!enabled) {
+            return loader.apply(List.copyOf(keys));
+        }
+        List<V> result = new ArrayList<>(keys.size());
+        List<K> missing = new ArrayList<>();
+        lock.lock();
+        try {
+            for (K key : keys) {
+                V cached = entries.get(key);
+                if (cached != null) {
+                    result.add(cached);
+                } else {
+                    missing.add(key);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        hits.add(result.size());
+        misses.add(missing.size());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long loadedAt = generation.get();
+        for (V value : loader.apply(missing)) {
+            put(keyOf.apply(value), value, loadedAt);
+            result.add(value);
+        }
+        return result;
+    }
+
+    public void evict(K key) {
+        generation.incrementAndGet();
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void evictIf(Predicate<V> predicate) {
+        generation.incrementAndGet();
+        lock.lock();
+        try {
+            entries.values().removeIf(predicate);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void enable() {
+        clear();
+        enabled = true;
+    }
+
+    public void disable() {
+        enabled = false;
+        clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private V read(K key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(K key, V value, long loadedAt) {
+        lock.lock();
+        try {
+            // evictions bump the generation before taking the lock, so a load that raced with one is dropped here
+            if (generation.get() == loadedAt) {
+                entries.put(key, value);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.movie.common;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+public class MinHash {
+    private final int shingleLength;
+    private final long[] multipliers;
+    private final long[] increments;
+
+    public MinHash(int hashCount, int shingleLength, long seed) {
+        this.shingleLength = shingleLength;
+        this.multipliers = new long[hashCount];
+        this.increments = new long[hashCount];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < hashCount; i++) {
+            multipliers[i] = random.nextLong() | 1;
+            increments[i] = random.nextLong();
+        }
+    }
+
+    // Character shingles of the normalized text; empty when the text is shorter than one shingle.
+    public int[] signature(String text) {
+        String normalized = normalize(text);
+        if (normalized.length() < shingleLength) {
+            return new int[0];
+        }
+
+        int[] signature = new int[multipliers.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int start = 0; start + shingleLength <= normalized.length(); start++) {
+            long shingle = hash(normalized, start);
+            for (int i = 0; i < signature.length; i++) {
+                // multiply-shift: the high bits of a*x+b are a universal hash of x
+                int permuted = (int) ((multipliers[i] * shingle + increments[i]) >>> 32);
+                if (permuted < signature[i]) {
+                    signature[i] = permuted;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public static double similarity(int[] first, int[] second) {
+        if (first.length == 0 || first.length != second.length) {
+            return 0;
+        }
+        int equal = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] == second[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / first.length;
+    }
+
+    // Lowercase letters and digits, every other run of characters collapsed to one space.
+    static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(c);
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private long hash(String text, int start) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < start + shingleLength; i++) {
+            hash = (hash ^ text.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.movie.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+public class TokenBucketRateLimiter {
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+    private final Stripe[] stripes;
+
+    public TokenBucketRateLimiter(long capacity, double refillPerSecond, int maxTrackedKeys, int stripeCount) {
+        this(capacity, refillPerSecond, maxTrackedKeys, stripeCount, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(long capacity, double refillPerSecond, int maxTrackedKeys, int stripeCount,
+                           LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        int keysPerStripe = Math.max(1, maxTrackedKeys / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(keysPerStripe);
+        }
+    }
+
+    public boolean tryAcquire(String key) {
+        Stripe stripe = stripes[Math.floorMod(spread(key.hashCode()), stripes.length)];
+        long now = nanoClock.getAsLong();
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.lastRefillNanos) * tokensPerNano);
+                bucket.lastRefillNanos = now;
+            }
+
+            if (bucket.tokens < 1) {
+                return false;
+            }
+            bucket.tokens -= 1;
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public int trackedKeys() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                total += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(double tokens, long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+    }
+}
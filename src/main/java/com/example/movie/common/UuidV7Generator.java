@@ -0,0 +1,46 @@
+package com.example.movie.common;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class UuidV7Generator {
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final UuidV7Generator DEFAULT = new UuidV7Generator(System::currentTimeMillis);
+
+    private final LongSupplier clock;
+    // unix millis << 12 | counter, so one increment moves to the next id and overflow rolls into the next millisecond
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    public UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public static UUID next() {
+        return DEFAULT.generate();
+    }
+
+    public UUID generate() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long last;
+        long current;
+        do {
+            last = lastTimestampAndCounter.get();
+            current = Math.max(now, last + 1);
+        } while (!lastTimestampAndCounter.compareAndSet(last, current));
+
+        long mostSignificantBits = (current >>> COUNTER_BITS) << 16 | VERSION | (current & COUNTER_MASK);
+        long leastSignificantBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.movie.common;
+
+// Implemented by read models whose version (the row's xmin) is used as their ETag.
+public interface Versioned {
+    long version();
+}
@@ -0,0 +1,63 @@
+package com.example.movie.moderation.api;
+
+import com.example.movie.moderation.api.model.ModerationDeleteRequest;
+import com.example.movie.moderation.api.model.ModerationDeleteResponse;
+import com.example.movie.moderation.api.model.SpamClustersResponse;
+import com.example.movie.moderation.domain.ModerationUseCase;
+import com.example.movie.moderation.domain.SpamDetectionUseCase;
+import com.example.movie.moderation.domain.model.InvalidModerationRequestException;
+import com.example.movie.user.domain.model.AuthenticatedUser;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import static com.example.movie.moderation.api.ModerationResponseMapper.mapToModerationDeleteResponse;
+import static com.example.movie.moderation.api.ModerationResponseMapper.mapToSpamClustersResponse;
+
+@RestController
+@RequestMapping("/api/admin/moderation")
+public class ModerationController {
+    private final ModerationUseCase moderationUseCase;
+    private final SpamDetectionUseCase spamDetectionUseCase;
+
+    public ModerationController(ModerationUseCase moderationUseCase, SpamDetectionUseCase spamDetectionUseCase) {
+        this.moderationUseCase = moderationUseCase;
+        this.spamDetectionUseCase = spamDetectionUseCase;
+    }
+
+    @PostMapping("/delete")
+    public ResponseEntity<ModerationDeleteResponse> delete(@RequestBody ModerationDeleteRequest request,
+                                                           @AuthenticationPrincipal AuthenticatedUser principal) {
+        if (principal == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        if (!principal.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        try {
+            return ResponseEntity.ok(mapToModerationDeleteResponse(moderationUseCase.delete(request)));
+        } catch (InvalidModerationRequestException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/spam-clusters")
+    public ResponseEntity<SpamClustersResponse> getSpamClusters(@RequestParam(required = false) Integer limit,
+                                                                @AuthenticationPrincipal AuthenticatedUser principal) {
+        if (principal == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        if (!principal.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        try {
+            return ResponseEntity.ok(mapToSpamClustersResponse(spamDetectionUseCase.findClusters(limit)));
+        } catch (InvalidModerationRequestException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
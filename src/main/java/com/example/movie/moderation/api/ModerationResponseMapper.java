@@ -0,0 +1,52 @@
+package com.example.movie.moderation.api;
+
+import com.example.movie.moderation.api.model.DeletionOutcome;
+import com.example.movie.moderation.api.model.ModerationDeleteResponse;
+import com.example.movie.moderation.api.model.SpamClusterResponse;
+import com.example.movie.moderation.api.model.SpamClustersResponse;
+import com.example.movie.moderation.api.model.SpamSubmissionResponse;
+import com.example.movie.moderation.domain.model.DeletionResult;
+import com.example.movie.moderation.domain.model.ModerationDeleteResult;
+import com.example.movie.moderation.domain.model.SpamCluster;
+import com.example.movie.moderation.domain.model.SpamSubmission;
+
+import java.util.List;
+
+class ModerationResponseMapper {
+    static ModerationDeleteResponse mapToModerationDeleteResponse(ModerationDeleteResult result) {
+        return ModerationDeleteResponse.builder()
+                .reviews(mapToDeletionOutcome(result.reviews()))
+                .superReviews(mapToDeletionOutcome(result.superReviews()))
+                .build();
+    }
+
+    private static DeletionOutcome mapToDeletionOutcome(DeletionResult result) {
+        return DeletionOutcome.builder()
+                .deletedIds(result.deletedIds())
+                .missingIds(result.missingIds())
+                .build();
+    }
+
+    static SpamClustersResponse mapToSpamClustersResponse(List<SpamCluster> clusters) {
+        return SpamClustersResponse.builder()
+                .clusters(clusters.stream().map(ModerationResponseMapper::mapToSpamClusterResponse).toList())
+                .build();
+    }
+
+    private static SpamClusterResponse mapToSpamClusterResponse(SpamCluster cluster) {
+        return SpamClusterResponse.builder()
+                .size(cluster.submissions().size())
+                .submissions(cluster.submissions().stream().map(ModerationResponseMapper::mapToSpamSubmissionResponse).toList())
+                .build();
+    }
+
+    private static SpamSubmissionResponse mapToSpamSubmissionResponse(SpamSubmission submission) {
+        return SpamSubmissionResponse.builder()
+                .type(submission.type().name())
+                .id(submission.id())
+                .userId(submission.userId())
+                .movieId(submission.movieId())
+                .submittedAt(submission.submittedAt())
+                .build();
+    }
+}
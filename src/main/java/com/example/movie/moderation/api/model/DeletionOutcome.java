@@ -0,0 +1,14 @@
+package com.example.movie.moderation.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@Data
+public class DeletionOutcome {
+    private final List<UUID> deletedIds;
+    private final List<UUID> missingIds;
+}
@@ -0,0 +1,19 @@
+package com.example.movie.moderation.api.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor(force = true)
+public class ModerationDeleteRequest {
+    private final List<UUID> reviewIds;
+    private final List<UUID> superReviewIds;
+
+    public ModerationDeleteRequest(List<UUID> reviewIds, List<UUID> superReviewIds) {
+        this.reviewIds = reviewIds;
+        this.superReviewIds = superReviewIds;
+    }
+}
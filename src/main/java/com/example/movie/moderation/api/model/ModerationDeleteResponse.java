@@ -0,0 +1,11 @@
+package com.example.movie.moderation.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class ModerationDeleteResponse {
+    private final DeletionOutcome reviews;
+    private final DeletionOutcome superReviews;
+}
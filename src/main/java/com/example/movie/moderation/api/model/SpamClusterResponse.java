@@ -0,0 +1,13 @@
+package com.example.movie.moderation.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Builder
+@Data
+public class SpamClusterResponse {
+    private final int size;
+    private final List<SpamSubmissionResponse> submissions;
+}
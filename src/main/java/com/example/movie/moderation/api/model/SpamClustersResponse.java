@@ -0,0 +1,12 @@
+package com.example.movie.moderation.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Builder
+@Data
+public class SpamClustersResponse {
+    private final List<SpamClusterResponse> clusters;
+}
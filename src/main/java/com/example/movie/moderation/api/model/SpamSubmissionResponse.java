@@ -0,0 +1,17 @@
+package com.example.movie.moderation.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Builder
+@Data
+public class SpamSubmissionResponse {
+    private final String type;
+    private final UUID id;
+    private final UUID userId;
+    private final UUID movieId;
+    private final Instant submittedAt;
+}
@@ -0,0 +1,73 @@
+package com.example.movie.moderation.domain;
+
+import com.example.movie.moderation.api.model.ModerationDeleteRequest;
+import com.example.movie.moderation.domain.model.DeletionResult;
+import com.example.movie.moderation.domain.model.InvalidModerationRequestException;
+import com.example.movie.moderation.domain.model.ModerationDeleteResult;
+import com.example.movie.recommendation.domain.RecommendationUseCase;
+import com.example.movie.review.domain.model.DeletedReview;
+import com.example.movie.review.persistence.ReviewRepository;
+import com.example.movie.superreview.persistence.SuperReviewRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(value = "movie.usecase", histogram = true)
+public class ModerationUseCase {
+    private final ReviewRepository reviewRepository;
+    private final SuperReviewRepository superReviewRepository;
+    private final SpamDetectionUseCase spamDetectionUseCase;
+    private final RecommendationUseCase recommendationUseCase;
+    private final int maxBatchSize;
+
+    public ModerationUseCase(ReviewRepository reviewRepository,
+                             SuperReviewRepository superReviewRepository,
+                             SpamDetectionUseCase spamDetectionUseCase,
+                             RecommendationUseCase recommendationUseCase,
+                             @Value("${movie.moderation.max-batch-size:1000}") int maxBatchSize) {
+        this.reviewRepository = reviewRepository;
+        this.superReviewRepository = superReviewRepository;
+        this.spamDetectionUseCase = spamDetectionUseCase;
+        this.recommendationUseCase = recommendationUseCase;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public ModerationDeleteResult delete(ModerationDeleteRequest request) {
+        if (request == null) {
+            throw InvalidModerationRequestException.invalidRequest();
+        }
+
+        List<UUID> reviewIds = distinct(request.getReviewIds());
+        List<UUID> superReviewIds = distinct(request.getSuperReviewIds());
+        if (reviewIds.size() + superReviewIds.size() > maxBatchSize) {
+            throw InvalidModerationRequestException.tooManyIds();
+        }
+
+        List<DeletedReview> removedReviews = reviewIds.isEmpty() ? List.of() : reviewRepository.deleteAllByIds(reviewIds);
+        Set<UUID> deletedSuperReviews = superReviewIds.isEmpty() ? Set.of() : superReviewRepository.deleteAllByIds(superReviewIds);
+        removedReviews.forEach(review -> recommendationUseCase.removeRating(review.userId(), review.movieId()));
+        Set<UUID> deletedReviews = removedReviews.stream().map(DeletedReview::id).collect(Collectors.toSet());
+        spamDetectionUseCase.forget(deletedReviews);
+        spamDetectionUseCase.forget(deletedSuperReviews);
+        return new ModerationDeleteResult(
+                DeletionResult.of(reviewIds, deletedReviews),
+                DeletionResult.of(superReviewIds, deletedSuperReviews));
+    }
+
+    private List<UUID> distinct(List<UUID> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw InvalidModerationRequestException.invalidRequest();
+        }
+        return ids.stream().distinct().toList();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.movie.moderation.domain;
+
+import com.example.movie.common.MinHash;
+import com.example.movie.moderation.domain.model.SpamCluster;
+import com.example.movie.moderation.domain.model.SpamSubmission;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// LSH banding table over MinHash signatures. Holds the most recent maxDocuments submissions in a ring; not thread-safe.
+class NearDuplicateIndex {
+    // a spam wave lands in the same buckets; once a bucket is full, later copies are still matched through it
+    private static final int MAX_BUCKET_SIZE = 64;
+
+    private final int bands;
+    private final int rowsPerBand;
+    private final double threshold;
+    private final SpamSubmission[] submissions;
+    private final int[][] signatures;
+    private final int[] clusterOf;
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+    private final Map<Integer, Set<Integer>> clusters = new HashMap<>();
+    private int nextSlot;
+    private int nextCluster;
+
+    NearDuplicateIndex(int bands, int rowsPerBand, double threshold, int maxDocuments) {
+        this.bands = bands;
+        this.rowsPerBand = rowsPerBand;
+        this.threshold = threshold;
+        this.submissions = new SpamSubmission[maxDocuments];
+        this.signatures = new int[maxDocuments][];
+        this.clusterOf = new int[maxDocuments];
+    }
+
+    // Returns true when the submission joined an earlier near-duplicate's cluster.
+    boolean add(SpamSubmission submission, int[] signature) {
+        remove(submission.id());
+        int slot = nextSlot;
+        nextSlot = (nextSlot + 1) % submissions.length;
+        if (submissions[slot] != null) {
+            remove(submissions[slot].id());
+        }
+
+        int match = findMatch(signature);
+        int cluster = match >= 0 ? clusterOf[match] : nextCluster++;
+        submissions[slot] = submission;
+        signatures[slot] = signature;
+        clusterOf[slot] = cluster;
+        slots.put(submission.id(), slot);
+        clusters.computeIfAbsent(cluster, ignored -> new LinkedHashSet<>()).add(slot);
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfAbsent(bucketKey(signature, band), ignored -> new Bucket()).add(slot);
+        }
+        return match >= 0;
+    }
+
+    void remove(UUID id) {
+        Integer slot = slots.remove(id);
+        if (slot == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long key = bucketKey(signatures[slot], band);
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                continue;
+            }
+            bucket.remove(slot);
+            if (bucket.size == 0) {
+                buckets.remove(key);
+            }
+        }
+        Set<Integer> members = clusters.get(clusterOf[slot]);
+        members.remove(slot);
+        if (members.isEmpty()) {
+            clusters.remove(clusterOf[slot]);
+        }
+        submissions[slot] = null;
+        signatures[slot] = null;
+    }
+
+    List<SpamCluster> clusters(int minSize, int limit) {
+        return clusters.values().stream()
+                .filter(members -> members.size() >= minSize)
+                .sorted(Comparator.<Set<Integer>>comparingInt(Set::size).reversed())
+                .limit(limit)
+                .map(members -> new SpamCluster(members.stream().map(slot -> submissions[slot]).toList()))
+                .toList();
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    // Candidates share at least one band; the first whose estimated Jaccard similarity reaches the threshold wins.
+    private int findMatch(int[] signature) {
+        for (int band = 0; band < bands; band++) {
+            Bucket bucket = buckets.get(bucketKey(signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (int i = 0; i < bucket.size; i++) {
+                int candidate = bucket.slots[i];
+                if (MinHash.similarity(signature, signatures[candidate]) >= threshold) {
+                    return candidate;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private long bucketKey(int[] signature, int band) {
+        int hash = 1;
+        for (int row = band * rowsPerBand; row < (band + 1) * rowsPerBand; row++) {
+            hash = 31 * hash + signature[row];
+        }
+        return ((long) band << 32) | (hash & 0xffffffffL);
+    }
+
+    private static final class Bucket {
+        int[] slots = new int[2];
+        int size;
+
+        void add(int slot) {
+            if (size == MAX_BUCKET_SIZE) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.movie.moderation.domain;
+
+import com.example.movie.common.MinHash;
+import com.example.movie.moderation.domain.model.InvalidModerationRequestException;
+import com.example.movie.moderation.domain.model.SpamCluster;
+import com.example.movie.moderation.domain.model.SpamSubmission;
+import com.example.movie.moderation.domain.model.SubmissionType;
+import com.example.movie.moderation.persistence.SubmissionRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+@Service
+@Timed(value = "movie.usecase", histogram = true)
+public class SpamDetectionUseCase {
+    private static final int SHINGLE_LENGTH = 5;
+    private static final long SEED = 0x9e3779b97f4a7c15L;
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    private final SubmissionRepository submissionRepository;
+    private final MinHash minHash;
+    private final int bands;
+    private final int rowsPerBand;
+    private final double threshold;
+    private final int maxDocuments;
+    private final int minLength;
+    private final int minClusterSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder flagged = new LongAdder();
+    private final LongAdder clean = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    // both guarded by lock; pendingChanges is non-null while warmUp is loading, so live changes can be replayed on top
+    private NearDuplicateIndex index;
+    private List<Consumer<NearDuplicateIndex>> pendingChanges;
+
+    public SpamDetectionUseCase(SubmissionRepository submissionRepository,
+                                @Value("${movie.spam.bands:16}") int bands,
+                                @Value("${movie.spam.rows-per-band:4}") int rowsPerBand,
+                                @Value("${movie.spam.similarity-threshold:0.8}") double threshold,
+                                @Value("${movie.spam.min-length:40}") int minLength,
+                                @Value("${movie.spam.min-cluster-size:2}") int minClusterSize,
+                                @Value("${movie.spam.max-documents:50000}") int maxDocuments) {
+        this.submissionRepository = submissionRepository;
+        this.minHash = new MinHash(bands * rowsPerBand, SHINGLE_LENGTH, SEED);
+        this.bands = bands;
+        this.rowsPerBand = rowsPerBand;
+        this.threshold = threshold;
+        this.maxDocuments = maxDocuments;
+        this.minLength = minLength;
+        this.minClusterSize = minClusterSize;
+        this.index = new NearDuplicateIndex(bands, rowsPerBand, threshold, maxDocuments);
+    }
+
+    // The index is per instance and in memory only, so each instance refills it from the latest stored texts on start.
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Consumer<NearDuplicateIndex>> changes = new ArrayList<>();
+        lock.lock();
+        try {
+            pendingChanges = changes;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            NearDuplicateIndex warmed = new NearDuplicateIndex(bands, rowsPerBand, threshold, maxDocuments);
+            submissionRepository.forEachRecentSubmission(maxDocuments, minLength, stored -> {
+                int[] signature = minHash.signature(stored.text());
+                if (signature.length > 0) {
+                    warmed.add(stored.submission(), signature);
+                }
+            });
+            lock.lock();
+            try {
+                changes.forEach(change -> change.accept(warmed));
+                index = warmed;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            lock.lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Returns true when the text is a near-duplicate of an earlier submission still in the index.
+    public boolean inspect(SubmissionType type, UUID id, UUID userId, UUID movieId, String text) {
+        // the length guard is on the raw text, but a comment of only punctuation or emoji normalizes to no shingles at all
+        int[] signature = text != null && text.strip().length() >= minLength ? minHash.signature(text) : new int[0];
+        if (signature.length == 0) {
+            // short texts like "Great movie!" repeat naturally; a changed comment must not keep its old cluster
+            forget(List.of(id));
+            skipped.increment();
+            return false;
+        }
+
+        SpamSubmission submission = new SpamSubmission(type, id, userId, movieId, Instant.now());
+        boolean duplicate;
+        lock.lock();
+        try {
+            duplicate = index.add(submission, signature);
+            if (pendingChanges != null) {
+                pendingChanges.add(warming -> warming.add(submission, signature));
+            }
+        } finally {
+            lock.unlock();
+        }
+        (duplicate ? flagged : clean).increment();
+        return duplicate;
+    }
+
+    public void forget(Collection<UUID> ids) {
+        lock.lock();
+        try {
+            ids.forEach(index::remove);
+            if (pendingChanges != null) {
+                List<UUID> forgotten = List.copyOf(ids);
+                pendingChanges.add(warming -> forgotten.forEach(warming::remove));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<SpamCluster> findClusters(Integer limit) {
+        int resultLimit = limit != null ? limit : DEFAULT_LIMIT;
+        if (resultLimit < 1 || resultLimit > MAX_LIMIT) {
+            throw InvalidModerationRequestException.invalidLimit();
+        }
+        lock.lock();
+        try {
+            return index.clusters(minClusterSize, resultLimit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getFlaggedCount() {
+        return flagged.sum();
+    }
+
+    public long getCleanCount() {
+        return clean.sum();
+    }
+
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    public int getIndexedCount() {
+        lock.lock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.movie.moderation.domain.model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public record DeletionResult(List<UUID> deletedIds, List<UUID> missingIds) {
+
+    public static DeletionResult of(List<UUID> requestedIds, Set<UUID> deletedIds) {
+        return new DeletionResult(
+                requestedIds.stream().filter(deletedIds::contains).toList(),
+                requestedIds.stream().filter(id -> !deletedIds.contains(id)).toList());
+    }
+}
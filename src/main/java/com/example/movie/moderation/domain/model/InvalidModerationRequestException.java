@@ -0,0 +1,19 @@
+package com.example.movie.moderation.domain.model;
+
+public class InvalidModerationRequestException extends IllegalArgumentException {
+    private InvalidModerationRequestException(String message) {
+        super(message);
+    }
+
+    public static InvalidModerationRequestException invalidRequest() {
+        return new InvalidModerationRequestException("Invalid request");
+    }
+
+    public static InvalidModerationRequestException tooManyIds() {
+        return new InvalidModerationRequestException("Too many ids");
+    }
+
+    public static InvalidModerationRequestException invalidLimit() {
+        return new InvalidModerationRequestException("Invalid limit");
+    }
+}
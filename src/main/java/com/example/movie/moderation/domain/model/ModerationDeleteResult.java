@@ -0,0 +1,4 @@
+package com.example.movie.moderation.domain.model;
+
+public record ModerationDeleteResult(DeletionResult reviews, DeletionResult superReviews) {
+}
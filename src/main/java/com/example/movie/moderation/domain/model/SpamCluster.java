@@ -0,0 +1,6 @@
+package com.example.movie.moderation.domain.model;
+
+import java.util.List;
+
+public record SpamCluster(List<SpamSubmission> submissions) {
+}
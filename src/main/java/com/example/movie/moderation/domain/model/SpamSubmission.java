@@ -0,0 +1,7 @@
+package com.example.movie.moderation.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record SpamSubmission(SubmissionType type, UUID id, UUID userId, UUID movieId, Instant submittedAt) {
+}
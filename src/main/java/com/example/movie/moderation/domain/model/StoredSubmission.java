@@ -0,0 +1,4 @@
+package com.example.movie.moderation.domain.model;
+
+public record StoredSubmission(SpamSubmission submission, String text) {
+}
@@ -0,0 +1,6 @@
+package com.example.movie.moderation.domain.model;
+
+public enum SubmissionType {
+    REVIEW,
+    SUPER_REVIEW
+}
@@ -0,0 +1,53 @@
+package com.example.movie.moderation.persistence;
+
+import com.example.movie.moderation.domain.model.SpamSubmission;
+import com.example.movie.moderation.domain.model.StoredSubmission;
+import com.example.movie.moderation.domain.model.SubmissionType;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+@Timed(value = "movie.repository", histogram = true)
+public class SubmissionRepository {
+    private final JdbcClient jdbcClient;
+
+    public SubmissionRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    // The latest limit texts long enough to index, oldest first, so replaying them keeps the index's eviction order.
+    public void forEachRecentSubmission(int limit, int minLength, Consumer<StoredSubmission> consumer) {
+        jdbcClient.sql("""
+                        SELECT type, id, user_id, movie_id, text, submitted_at FROM (
+                            SELECT 'REVIEW' AS type, id, user_id, movie_id, comment AS text,
+                                   coalesce(updated_at, created_at) AS submitted_at
+                            FROM reviews
+                            WHERE char_length(btrim(comment)) >= :minLength
+                            UNION ALL
+                            SELECT 'SUPER_REVIEW', id, user_id, movie_id, detailed_comment,
+                                   coalesce(updated_at, created_at)
+                            FROM super_reviews
+                            WHERE char_length(btrim(detailed_comment)) >= :minLength
+                            ORDER BY submitted_at DESC
+                            LIMIT :limit
+                        ) recent
+                        ORDER BY submitted_at
+                        """)
+                .param("limit", limit)
+                .param("minLength", minLength)
+                .query(rs -> {
+                    consumer.accept(new StoredSubmission(
+                            new SpamSubmission(
+                                    SubmissionType.valueOf(rs.getString("type")),
+                                    rs.getObject("id", UUID.class),
+                                    rs.getObject("user_id", UUID.class),
+                                    rs.getObject("movie_id", UUID.class),
+                                    rs.getTimestamp("submitted_at").toInstant()),
+                            rs.getString("text")));
+                });
+    }
+}
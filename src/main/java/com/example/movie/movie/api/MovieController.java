@@ -1,24 +1,38 @@
 package com.example.movie.movie.api;
 
+import com.example.movie.common.ETags;
+import com.example.movie.common.InvalidBatchReadException;
 import com.example.movie.movie.api.model.AddMovieRequest;
+import com.example.movie.movie.api.model.MovieBatchResponse;
 import com.example.movie.movie.api.model.MovieResponse;
 import com.example.movie.movie.domain.AddMovieUseCase;
+import com.example.movie.movie.domain.MovieQueryUseCase;
+import com.example.movie.movie.domain.PosterUseCase;
 import com.example.movie.movie.domain.model.Movie;
+import com.example.movie.movie.domain.model.MovieView;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static com.example.movie.movie.api.MovieResponseMapper.mapToMovieBatchResponse;
 import static com.example.movie.movie.api.MovieResponseMapper.mapToMovieResponse;
 
 @RestController
 @RequestMapping("/api/movies")
 public class MovieController {
     private final AddMovieUseCase addMovieUseCase;
+    private final MovieQueryUseCase movieQueryUseCase;
+    private final PosterUseCase posterUseCase;
 
-    public MovieController(AddMovieUseCase addMovieUseCase) {
+    public MovieController(AddMovieUseCase addMovieUseCase, MovieQueryUseCase movieQueryUseCase, PosterUseCase posterUseCase) {
         this.addMovieUseCase = addMovieUseCase;
+        this.movieQueryUseCase = movieQueryUseCase;
+        this.posterUseCase = posterUseCase;
     }
 
     @PostMapping
@@ -35,14 +49,24 @@ public class MovieController {
     public ResponseEntity<MovieResponse> uploadPoster(
             @PathVariable UUID movieId,
             @RequestParam("posterImage") MultipartFile posterImage) {
-        addMovieUseCase.uploadPoster(movieId, posterImage);
+        posterUseCase.uploadPoster(movieId, posterImage);
         return ResponseEntity.ok().build();
     }
 
     @GetMapping("/{movieId}")
-    public ResponseEntity<MovieResponse> getMovieById(@PathVariable UUID movieId) {
-        return addMovieUseCase.findById(movieId)
-                .map(movie -> ResponseEntity.ok(mapToMovieResponse(movie)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<MovieResponse> getMovieById(@PathVariable UUID movieId,
+                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ETags.conditional(movieId, ifNoneMatch, movieQueryUseCase::findVersion, movieQueryUseCase::findById,
+                MovieResponseMapper::mapToMovieResponse);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<MovieBatchResponse> getMoviesByIds(@RequestParam List<UUID> ids) {
+        try {
+            Map<UUID, MovieView> found = movieQueryUseCase.findAllByIds(ids);
+            return ResponseEntity.ok(mapToMovieBatchResponse(ids, found));
+        } catch (InvalidBatchReadException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 }
@@ -1,7 +1,14 @@
 package com.example.movie.movie.api;
 
+import com.example.movie.movie.api.model.MovieBatchResponse;
 import com.example.movie.movie.api.model.MovieResponse;
 import com.example.movie.movie.domain.model.Movie;
+import com.example.movie.movie.domain.model.MovieView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 class MovieResponseMapper {
     static MovieResponse mapToMovieResponse(Movie movie) {
@@ -12,7 +19,36 @@ class MovieResponseMapper {
                 .durationMinutes(movie.getDurationMinutes())
                 .description(movie.getDescription())
                 .trailerUrl(movie.getTrailerUrl())
-                .posterUrl(movie.getPoster() != null ? "/api/movies/" + movie.getId().value() + "/poster" : null)
+                .posterUrl(movie.getPoster() != null ? MovieResponse.posterUrl(movie.getId().value()) : null)
+                .build();
+    }
+
+    static MovieResponse mapToMovieResponse(MovieView movie) {
+        return MovieResponse.builder()
+                .id(movie.id())
+                .title(movie.title())
+                .releaseYear(movie.releaseYear())
+                .durationMinutes(movie.durationMinutes())
+                .description(movie.description())
+                .trailerUrl(movie.trailerUrl())
+                .posterUrl(movie.hasPoster() ? MovieResponse.posterUrl(movie.id()) : null)
+                .build();
+    }
+
+    static MovieBatchResponse mapToMovieBatchResponse(List<UUID> requestedIds, Map<UUID, MovieView> found) {
+        List<MovieResponse> items = new ArrayList<>();
+        List<UUID> missingIds = new ArrayList<>();
+        requestedIds.stream().distinct().forEach(id -> {
+            MovieView movie = found.get(id);
+            if (movie != null) {
+                items.add(mapToMovieResponse(movie));
+            } else {
+                missingIds.add(id);
+            }
+        });
+        return MovieBatchResponse.builder()
+                .items(items)
+                .missingIds(missingIds)
                 .build();
     }
 }
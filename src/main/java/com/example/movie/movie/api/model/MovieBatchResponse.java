@@ -0,0 +1,14 @@
+package com.example.movie.movie.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@Data
+public class MovieBatchResponse {
+    private final List<MovieResponse> items;
+    private final List<UUID> missingIds;
+}
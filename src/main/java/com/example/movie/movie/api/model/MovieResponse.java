@@ -15,4 +15,8 @@ public class MovieResponse {
     private final String description;
     private final String trailerUrl;
     private final String posterUrl;
+
+    public static String posterUrl(UUID movieId) {
+        return "/api/movies/" + movieId + "/poster";
+    }
 }
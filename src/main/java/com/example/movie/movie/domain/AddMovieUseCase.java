@@ -3,16 +3,15 @@ package com.example.movie.movie.domain;
 import com.example.movie.movie.api.model.AddMovieRequest;
 import com.example.movie.movie.domain.model.InvalidMovieAddRequestException;
 import com.example.movie.movie.domain.model.Movie;
-import com.example.movie.movie.domain.model.Poster;
 import com.example.movie.movie.persistence.MovieRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Year;
-import java.util.Optional;
 import java.util.UUID;
 
 @Service
+@Timed(value = "movie.usecase", histogram = true)
 public class AddMovieUseCase {
     private final MovieRepository movieRepository;
 
@@ -32,25 +31,7 @@ public class AddMovieUseCase {
 
         Movie movie = Movie.addNewMovie(title, releaseYear, durationMinutes, description, trailerUrl, null);
 
-        return movieRepository.save(movie);
-    }
-
-    public void uploadPoster(UUID movieId, MultipartFile file) {
-        Movie movie = movieRepository.findById(movieId)
-                .orElseThrow(() -> new RuntimeException("Movie not found"));
-
-        try {
-            byte[] bytes = file.getBytes();
-            Poster poster = new Poster(bytes);
-            Movie updatedMovie = movie.addPoster(poster);
-            movieRepository.save(updatedMovie);
-        } catch (Exception e) {
-            throw new RuntimeException("sorry", e);
-        }
-    }
-
-    public Optional<Movie> findById(UUID id) {
-        return movieRepository.findById(id);
+        return movieRepository.insert(movie);
     }
 
     private void validateMovieAddRequest(AddMovieRequest request) {
@@ -0,0 +1,43 @@
+package com.example.movie.movie.domain;
+
+import com.example.movie.common.BatchIds;
+import com.example.movie.movie.domain.model.MovieView;
+import com.example.movie.movie.persistence.MovieQueryRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Timed(value = "movie.usecase", histogram = true)
+public class MovieQueryUseCase {
+    private final MovieQueryRepository movieQueryRepository;
+
+    public MovieQueryUseCase(MovieQueryRepository movieQueryRepository) {
+        this.movieQueryRepository = movieQueryRepository;
+    }
+
+    public Optional<MovieView> findById(UUID id) {
+        return movieQueryRepository.findById(id);
+    }
+
+    public Optional<Long> findVersion(UUID id) {
+        return movieQueryRepository.findVersion(id);
+    }
+
+    public Map<UUID, MovieView> findAllByIds(List<UUID> ids) {
+        List<UUID> distinctIds = BatchIds.distinct(ids);
+
+        Map<UUID, MovieView> result = new LinkedHashMap<>();
+        if (distinctIds.isEmpty()) {
+            return result;
+        }
+        movieQueryRepository.findAllByIds(distinctIds)
+                .forEach(movie -> result.put(movie.id(), movie));
+        return result;
+    }
+}
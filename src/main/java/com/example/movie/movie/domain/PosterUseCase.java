@@ -0,0 +1,87 @@
+package com.example.movie.movie.domain;
+
+import com.example.movie.movie.domain.model.Poster;
+import com.example.movie.movie.domain.model.PosterReplacement;
+import com.example.movie.movie.domain.model.PosterStorageStats;
+import com.example.movie.movie.persistence.MovieRepository;
+import com.example.movie.movie.persistence.PosterRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@Timed(value = "movie.usecase", histogram = true)
+public class PosterUseCase {
+    private final MovieRepository movieRepository;
+    private final PosterRepository posterRepository;
+    private final LongAdder storedUploads = new LongAdder();
+    private final LongAdder deduplicatedUploads = new LongAdder();
+    private final LongAdder unchangedUploads = new LongAdder();
+    private final LongAdder deduplicatedBytes = new LongAdder();
+    private final LongAdder collectedPosters = new LongAdder();
+    private volatile PosterStorageStats storageStats = new PosterStorageStats(0, 0);
+
+    public PosterUseCase(MovieRepository movieRepository, PosterRepository posterRepository) {
+        this.movieRepository = movieRepository;
+        this.posterRepository = posterRepository;
+    }
+
+    public void uploadPoster(UUID movieId, MultipartFile file) {
+        Poster poster;
+        try {
+            poster = new Poster(file.getBytes());
+        } catch (IOException e) {
+            throw new RuntimeException("sorry", e);
+        }
+
+        PosterReplacement replacement = movieRepository.replacePoster(movieId, poster)
+                .orElseThrow(() -> new RuntimeException("Movie not found"));
+        switch (replacement) {
+            case UNCHANGED -> unchangedUploads.increment();
+            case DEDUPLICATED -> deduplicatedUploads.increment();
+            case STORED -> storedUploads.increment();
+        }
+        if (replacement != PosterReplacement.STORED) {
+            deduplicatedBytes.add(poster.imageData().length);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${movie.posters.gc-interval-ms:3600000}")
+    public void collectGarbage() {
+        collectedPosters.add(posterRepository.deleteUnreferenced());
+        storageStats = posterRepository.loadStats();
+    }
+
+    public long getStoredUploadCount() {
+        return storedUploads.sum();
+    }
+
+    public long getDeduplicatedUploadCount() {
+        return deduplicatedUploads.sum();
+    }
+
+    public long getUnchangedUploadCount() {
+        return unchangedUploads.sum();
+    }
+
+    public long getDeduplicatedBytes() {
+        return deduplicatedBytes.sum();
+    }
+
+    public long getCollectedPosterCount() {
+        return collectedPosters.sum();
+    }
+
+    public long getStoredBytes() {
+        return storageStats.storedBytes();
+    }
+
+    public long getSavedBytes() {
+        return storageStats.referencedBytes() - storageStats.storedBytes();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.movie.movie.domain.model;
 
+import com.example.movie.common.UuidV7Generator;
 import com.example.movie.user.domain.model.UserId;
 import lombok.NonNull;
 
@@ -7,6 +8,6 @@ import java.util.UUID;
 
 public record MovieId(@NonNull UUID value) {
     public static MovieId create() {
-        return new MovieId(UUID.randomUUID());
+        return new MovieId(UuidV7Generator.next());
     }
 }
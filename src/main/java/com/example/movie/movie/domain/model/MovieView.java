@@ -0,0 +1,10 @@
+package com.example.movie.movie.domain.model;
+
+import com.example.movie.common.Versioned;
+
+import java.util.UUID;
+
+// Read model for GET endpoints; version is the row's xmin, used as the ETag.
+public record MovieView(UUID id, String title, Integer releaseYear, Integer durationMinutes, String description,
+                        String trailerUrl, boolean hasPoster, long version) implements Versioned {
+}
@@ -1,4 +1,34 @@
 package com.example.movie.movie.domain.model;
 
-public record Poster(byte[] imageData) {
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public record Poster(String sha256, byte[] imageData) {
+
+    public Poster(byte[] imageData) {
+        this(sha256Of(imageData), imageData);
+    }
+
+    public static Poster stored(String sha256) {
+        return new Poster(sha256, null);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Poster poster && sha256.equals(poster.sha256);
+    }
+
+    @Override
+    public int hashCode() {
+        return sha256.hashCode();
+    }
+
+    private static String sha256Of(byte[] imageData) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(imageData));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
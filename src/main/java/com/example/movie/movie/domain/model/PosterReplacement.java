@@ -0,0 +1,7 @@
+package com.example.movie.movie.domain.model;
+
+public enum PosterReplacement {
+    UNCHANGED,
+    DEDUPLICATED,
+    STORED
+}
@@ -0,0 +1,4 @@
+package com.example.movie.movie.domain.model;
+
+public record PosterStorageStats(long storedBytes, long referencedBytes) {
+}
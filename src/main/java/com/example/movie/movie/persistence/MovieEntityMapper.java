@@ -5,11 +5,13 @@ import com.example.movie.movie.domain.model.MovieId;
 import com.example.movie.movie.domain.model.Poster;
 import com.example.movie.movie.persistence.model.MovieEntity;
 
+import java.util.HexFormat;
+
 class MovieEntityMapper {
     static Movie toDomain(MovieEntity entity){
         MovieId id = new MovieId(entity.getId());
-        Poster poster = entity.getPosterImage() != null
-                ? new Poster(entity.getPosterImage())
+        Poster poster = entity.getPosterSha256() != null
+                ? Poster.stored(HexFormat.of().formatHex(entity.getPosterSha256()))
                 : null;
         return Movie.builder()
                 .withId(id)
@@ -30,9 +32,15 @@ class MovieEntityMapper {
         entity.setReleaseYear(movie.getReleaseYear());
         entity.setDurationMinutes(movie.getDurationMinutes());
         entity.setDescription(movie.getDescription());
-        entity.setPosterImage(movie.getPoster() != null ? movie.getPoster().imageData() : null);
+        entity.setPosterSha256(movie.getPoster() != null ? HexFormat.of().parseHex(movie.getPoster().sha256()) : null);
         entity.setTrailerUrl(movie.getTrailerUrl());
         entity.setCreatedAt(movie.getCreatedAt());
         return entity;
     }
+
+    static MovieEntity toNewEntity(Movie movie) {
+        MovieEntity entity = toEntity(movie);
+        entity.setNewEntity(true);
+        return entity;
+    }
 }
@@ -0,0 +1,77 @@
+package com.example.movie.movie.persistence;
+
+import com.example.movie.application.CacheInvalidationBus;
+import com.example.movie.common.LocalCache;
+import com.example.movie.movie.domain.model.MovieView;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@Timed(value = "movie.repository", histogram = true)
+public class MovieQueryRepository {
+    public static final String MOVIES_CHANNEL = "movies_changed";
+
+    private static final String SELECT_MOVIE_VIEW = """
+            SELECT id, title, release_year, duration_minutes, description, trailer_url,
+                   poster_sha256 IS NOT NULL AS has_poster, xmin::text::bigint AS version
+            FROM movies
+            """;
+
+    private static final RowMapper<MovieView> MOVIE_VIEW = (rs, rowNum) -> new MovieView(
+            rs.getObject("id", UUID.class),
+            rs.getString("title"),
+            rs.getObject("release_year", Integer.class),
+            rs.getObject("duration_minutes", Integer.class),
+            rs.getString("description"),
+            rs.getString("trailer_url"),
+            rs.getBoolean("has_poster"),
+            rs.getLong("version"));
+
+    private final JdbcClient jdbcClient;
+    private final LocalCache<UUID, MovieView> cache;
+
+    public MovieQueryRepository(JdbcClient jdbcClient,
+                               CacheInvalidationBus cacheInvalidationBus,
+                               @Value("${movie.cache.max-entries:100000}") int cacheMaxEntries) {
+        this.jdbcClient = jdbcClient;
+        this.cache = new LocalCache<>(cacheMaxEntries);
+        cacheInvalidationBus.register(MOVIES_CHANNEL, cache);
+    }
+
+    public Optional<MovieView> findById(UUID id) {
+        return cache.get(id, this::load);
+    }
+
+    public Optional<Long> findVersion(UUID id) {
+        return jdbcClient.sql("SELECT xmin::text::bigint FROM movies WHERE id = :id")
+                .param("id", id)
+                .query(Long.class)
+                .optional();
+    }
+
+    public List<MovieView> findAllByIds(Collection<UUID> ids) {
+        return cache.getAll(ids, MovieView::id, this::loadAll);
+    }
+
+    private Optional<MovieView> load(UUID id) {
+        return jdbcClient.sql(SELECT_MOVIE_VIEW + "WHERE id = :id")
+                .param("id", id)
+                .query(MOVIE_VIEW)
+                .optional();
+    }
+
+    private List<MovieView> loadAll(List<UUID> ids) {
+        return jdbcClient.sql(SELECT_MOVIE_VIEW + "WHERE id = ANY(:ids)")
+                .param("ids", ids.toArray(UUID[]::new))
+                .query(MOVIE_VIEW)
+                .list();
+    }
+}
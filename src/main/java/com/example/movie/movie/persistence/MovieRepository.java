@@ -1,28 +1,75 @@
 package com.example.movie.movie.persistence;
 
+import com.example.movie.application.CacheInvalidationBus;
 import com.example.movie.movie.domain.model.Movie;
+import com.example.movie.movie.domain.model.Poster;
+import com.example.movie.movie.domain.model.PosterReplacement;
 import com.example.movie.movie.persistence.model.MovieEntity;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
+@Timed(value = "movie.repository", histogram = true)
 public class MovieRepository {
     private final JpaMovieRepository movieRepository;
     private final JpaMovieRepository jpaMovieRepository;
+    private final PosterRepository posterRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
-    public MovieRepository(JpaMovieRepository movieRepository, JpaMovieRepository jpaMovieRepository) {
+    public MovieRepository(JpaMovieRepository movieRepository, JpaMovieRepository jpaMovieRepository,
+                           PosterRepository posterRepository, CacheInvalidationBus cacheInvalidationBus) {
         this.movieRepository = movieRepository;
         this.jpaMovieRepository = jpaMovieRepository;
+        this.posterRepository = posterRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
     }
 
 
-    public Movie save(Movie movie) {
+    public Movie insert(Movie movie) {
+        MovieEntity saved = movieRepository.save(MovieEntityMapper.toNewEntity(movie));
+        return MovieEntityMapper.toDomain(saved);
+    }
+
+    public Movie update(Movie movie) {
         MovieEntity saved = movieRepository.save(MovieEntityMapper.toEntity(movie));
+        cacheInvalidationBus.publish(MovieQueryRepository.MOVIES_CHANNEL, saved.getId());
         return MovieEntityMapper.toDomain(saved);
     }
 
+    // Empty when the movie does not exist. The previous poster is read under the movie's row lock, so each
+    // reference is released exactly once even when uploads to the same movie race.
+    @Transactional
+    public Optional<PosterReplacement> replacePoster(UUID movieId, Poster poster) {
+        Optional<PosterRepository.CurrentPoster> current = posterRepository.lockMoviePoster(movieId);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        String previous = current.get().sha256();
+        if (poster.sha256().equals(previous)) {
+            return Optional.of(PosterReplacement.UNCHANGED);
+        }
+
+        // poster rows are locked in hash order, so two uploads swapping the same pair of images cannot deadlock
+        boolean releaseFirst = previous != null && previous.compareTo(poster.sha256()) < 0;
+        if (releaseFirst) {
+            posterRepository.release(previous);
+        }
+        boolean alreadyStored = posterRepository.acquire(poster.sha256());
+        if (!alreadyStored) {
+            posterRepository.insert(poster);
+        }
+        if (previous != null && !releaseFirst) {
+            posterRepository.release(previous);
+        }
+        posterRepository.setMoviePoster(movieId, poster.sha256());
+        cacheInvalidationBus.publish(MovieQueryRepository.MOVIES_CHANNEL, movieId);
+        return Optional.of(alreadyStored ? PosterReplacement.DEDUPLICATED : PosterReplacement.STORED);
+    }
+
     public Optional<Movie> findById(UUID id) {
         return jpaMovieRepository.findById(id)
                 .map(MovieEntityMapper::toDomain);
@@ -0,0 +1,86 @@
+package com.example.movie.movie.persistence;
+
+import com.example.movie.movie.domain.model.Poster;
+import com.example.movie.movie.domain.model.PosterStorageStats;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@Timed(value = "movie.repository", histogram = true)
+public class PosterRepository {
+    private final JdbcClient jdbcClient;
+
+    public PosterRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    // Locks the movie row, so concurrent replacements of the same movie's poster queue up behind each other.
+    Optional<CurrentPoster> lockMoviePoster(UUID movieId) {
+        return jdbcClient.sql("SELECT poster_sha256 FROM movies WHERE id = :movieId FOR UPDATE")
+                .param("movieId", movieId)
+                .query((rs, rowNum) -> {
+                    byte[] sha256 = rs.getBytes("poster_sha256");
+                    return new CurrentPoster(sha256 != null ? HexFormat.of().formatHex(sha256) : null);
+                })
+                .optional();
+    }
+
+    void setMoviePoster(UUID movieId, String sha256) {
+        jdbcClient.sql("UPDATE movies SET poster_sha256 = :sha256 WHERE id = :movieId")
+                .param("sha256", HexFormat.of().parseHex(sha256))
+                .param("movieId", movieId)
+                .update();
+    }
+
+    boolean acquire(String sha256) {
+        return jdbcClient.sql("UPDATE posters SET ref_count = ref_count + 1 WHERE sha256 = :sha256")
+                .param("sha256", HexFormat.of().parseHex(sha256))
+                .update() == 1;
+    }
+
+    void insert(Poster poster) {
+        jdbcClient.sql("""
+                        INSERT INTO posters (sha256, content, size_bytes, ref_count)
+                        VALUES (:sha256, :content, :sizeBytes, 1)
+                        ON CONFLICT (sha256) DO UPDATE SET ref_count = posters.ref_count + 1
+                        """)
+                .param("sha256", HexFormat.of().parseHex(poster.sha256()))
+                .param("content", poster.imageData())
+                .param("sizeBytes", poster.imageData().length)
+                .update();
+    }
+
+    void release(String sha256) {
+        jdbcClient.sql("UPDATE posters SET ref_count = ref_count - 1 WHERE sha256 = :sha256")
+                .param("sha256", HexFormat.of().parseHex(sha256))
+                .update();
+    }
+
+    public int deleteUnreferenced() {
+        // Postgres re-checks ref_count on rows a concurrent acquire() is updating, so those survive
+        return jdbcClient.sql("""
+                        DELETE FROM posters p
+                        WHERE p.ref_count = 0
+                          AND NOT EXISTS (SELECT 1 FROM movies m WHERE m.poster_sha256 = p.sha256)
+                        """)
+                .update();
+    }
+
+    public PosterStorageStats loadStats() {
+        return jdbcClient.sql("""
+                        SELECT coalesce(sum(size_bytes), 0) AS stored_bytes,
+                               coalesce(sum(size_bytes::bigint * ref_count), 0) AS referenced_bytes
+                        FROM posters
+                        """)
+                .query((rs, rowNum) -> new PosterStorageStats(rs.getLong("stored_bytes"), rs.getLong("referenced_bytes")))
+                .single();
+    }
+
+    record CurrentPoster(String sha256) {
+    }
+}
@@ -2,9 +2,13 @@ package com.example.movie.movie.persistence.model;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -16,7 +20,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode
-public class MovieEntity {
+public class MovieEntity implements Persistable<UUID> {
     @Id
     private UUID id;
 
@@ -28,12 +32,27 @@ public class MovieEntity {
 
     private String description;
 
-    private byte[] posterImage;
+    private byte[] posterSha256;
 
     private String trailerUrl;
 
     private Instant createdAt;
 
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
     @PrePersist
     public void prePersist() {
         if (createdAt == null) {
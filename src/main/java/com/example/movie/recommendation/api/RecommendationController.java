@@ -0,0 +1,42 @@
+package com.example.movie.recommendation.api;
+
+import com.example.movie.recommendation.api.model.RecommendationResponse;
+import com.example.movie.recommendation.domain.RecommendationUseCase;
+import com.example.movie.recommendation.domain.model.InvalidRecommendationRequestException;
+import com.example.movie.user.domain.model.AuthenticatedUser;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+import static com.example.movie.recommendation.api.RecommendationResponseMapper.mapToRecommendationResponse;
+
+@RestController
+@RequestMapping("/api/users")
+public class RecommendationController {
+    private final RecommendationUseCase recommendationUseCase;
+
+    public RecommendationController(RecommendationUseCase recommendationUseCase) {
+        this.recommendationUseCase = recommendationUseCase;
+    }
+
+    @GetMapping("/{id}/recommendations")
+    public ResponseEntity<RecommendationResponse> getRecommendations(@PathVariable UUID id,
+                                                                     @RequestParam(required = false) Integer limit,
+                                                                     @AuthenticationPrincipal AuthenticatedUser principal) {
+        if (principal == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        if (!principal.userId().equals(id) && !principal.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        try {
+            return ResponseEntity.ok(mapToRecommendationResponse(id, recommendationUseCase.recommend(id, limit)));
+        } catch (InvalidRecommendationRequestException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.movie.recommendation.api;
+
+import com.example.movie.recommendation.api.model.RecommendationResponse;
+import com.example.movie.recommendation.api.model.RecommendedMovieResponse;
+import com.example.movie.recommendation.domain.model.Recommendation;
+
+import java.util.List;
+import java.util.UUID;
+
+class RecommendationResponseMapper {
+    static RecommendationResponse mapToRecommendationResponse(UUID userId, List<Recommendation> recommendations) {
+        return RecommendationResponse.builder()
+                .userId(userId)
+                .movies(recommendations.stream()
+                        .map(RecommendationResponseMapper::mapToRecommendedMovieResponse)
+                        .toList())
+                .build();
+    }
+
+    private static RecommendedMovieResponse mapToRecommendedMovieResponse(Recommendation recommendation) {
+        return RecommendedMovieResponse.builder()
+                .movieId(recommendation.movieId())
+                .predictedRating(recommendation.predictedRating())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.movie.recommendation.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@Data
+public class RecommendationResponse {
+    private final UUID userId;
+    private final List<RecommendedMovieResponse> movies;
+}
@@ -0,0 +1,13 @@
+package com.example.movie.recommendation.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Builder
+@Data
+public class RecommendedMovieResponse {
+    private final UUID movieId;
+    private final double predictedRating;
+}
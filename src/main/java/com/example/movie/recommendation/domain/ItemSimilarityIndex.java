@@ -0,0 +1,493 @@
+package com.example.movie.recommendation.domain;
+
+import com.example.movie.recommendation.domain.model.Rating;
+import com.example.movie.recommendation.domain.model.Recommendation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+// Writers (put, remove, refreshDirty) must be serialized by the caller; recommend is lock-free.
+class ItemSimilarityIndex {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int ITEMS_PER_TASK = 64;
+    private static final float MIN_RATING = 1;
+    private static final float MAX_RATING = 10;
+
+    private final int neighbourCount;
+    private final int maxRefreshPerWrite;
+    // items whose neighbour lists are stale, coalesced across writes until refreshDirty gets to them
+    private final BitSet dirtyItems = new BitSet();
+    private final Map<UUID, Integer> itemOrdinals = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> userOrdinals = new ConcurrentHashMap<>();
+    private volatile Rows rows;
+    private volatile long ratingCount;
+    private Scratch refreshScratch = new Scratch(0);
+
+    private ItemSimilarityIndex(int neighbourCount, int maxRefreshPerWrite, Rows rows) {
+        this.neighbourCount = neighbourCount;
+        this.maxRefreshPerWrite = maxRefreshPerWrite;
+        this.rows = rows;
+    }
+
+    static ItemSimilarityIndex empty(int neighbourCount, int maxRefreshPerWrite) {
+        return new ItemSimilarityIndex(neighbourCount, maxRefreshPerWrite, Rows.allocate(INITIAL_CAPACITY, INITIAL_CAPACITY));
+    }
+
+    static ItemSimilarityIndex build(Consumer<Consumer<Rating>> ratings, int neighbourCount, int maxRefreshPerWrite) {
+        ItemSimilarityIndex index = new ItemSimilarityIndex(neighbourCount, maxRefreshPerWrite, null);
+        RatingTriples triples = new RatingTriples();
+        ratings.accept(rating -> triples.add(
+                ordinal(index.userOrdinals, rating.userId()),
+                ordinal(index.itemOrdinals, rating.movieId()),
+                rating.rating()));
+
+        int itemCount = index.itemOrdinals.size();
+        int userCount = index.userOrdinals.size();
+        Rows rows = Rows.allocate(Math.max(itemCount, INITIAL_CAPACITY), Math.max(userCount, INITIAL_CAPACITY));
+        index.itemOrdinals.forEach((movieId, i) -> rows.itemIds[i] = movieId);
+        triples.fill(rows, itemCount, userCount);
+        for (int u = 0; u < userCount; u++) {
+            rows.userMeans[u] = rows.userRatings[u].mean();
+        }
+        for (int i = 0; i < itemCount; i++) {
+            rows.itemNorms[i] = norm(rows, i);
+        }
+        ForkJoinPool.commonPool().invoke(index.new SimilarityTask(rows, 0, itemCount));
+
+        index.rows = rows;
+        index.ratingCount = triples.size;
+        return index;
+    }
+
+    void put(UUID userId, UUID movieId, int rating) {
+        int u = ordinal(userOrdinals, userId);
+        int i = ordinal(itemOrdinals, movieId);
+        Rows current = ensureCapacity(i, u);
+        current.itemIds[i] = movieId;
+        SparseRow before = current.userRatings[u];
+        current.userRatings[u] = before.with(i, rating);
+        current.itemRatings[i] = current.itemRatings[i].with(u, rating);
+        ratingCount += current.userRatings[u].size() - before.size();
+        markDirty(current, u, i);
+    }
+
+    void remove(UUID userId, UUID movieId) {
+        Integer u = userOrdinals.get(userId);
+        Integer i = itemOrdinals.get(movieId);
+        if (u == null || i == null) {
+            return;
+        }
+        Rows current = rows;
+        SparseRow before = current.userRatings[u];
+        current.userRatings[u] = before.without(i);
+        current.itemRatings[i] = current.itemRatings[i].without(u);
+        ratingCount -= before.size() - current.userRatings[u].size();
+        markDirty(current, u, i);
+    }
+
+    // Recomputes norms and neighbour lists of up to maxItems stale items; returns how many are still stale.
+    int refreshDirty(int maxItems) {
+        Rows current = rows;
+        if (refreshScratch.dots.length < current.itemIds.length) {
+            refreshScratch = new Scratch(current.itemIds.length);
+        }
+        int[] batch = new int[Math.min(maxItems, dirtyItems.cardinality())];
+        int next = dirtyItems.nextSetBit(0);
+        for (int b = 0; b < batch.length; b++) {
+            batch[b] = next;
+            dirtyItems.clear(next);
+            next = dirtyItems.nextSetBit(next + 1);
+        }
+        for (int i : batch) {
+            current.itemNorms[i] = norm(current, i);
+        }
+        for (int i : batch) {
+            current.neighbours[i] = computeNeighbours(current, i, refreshScratch);
+        }
+        return dirtyItems.cardinality();
+    }
+
+    int getDirtyCount() {
+        return dirtyItems.cardinality();
+    }
+
+    List<Recommendation> recommend(UUID userId, int limit) {
+        Rows current = rows;
+        Integer u = userOrdinals.get(userId);
+        if (u == null || u >= current.userRatings.length) {
+            return List.of();
+        }
+        SparseRow rated = current.userRatings[u];
+        if (rated.size() == 0) {
+            return List.of();
+        }
+
+        float mean = rated.mean();
+        float[] weightedDeviations = new float[current.itemIds.length];
+        float[] weights = new float[current.itemIds.length];
+        for (int k = 0; k < rated.size(); k++) {
+            float deviation = rated.ratings[k] - mean;
+            Neighbours neighbours = current.neighbours[rated.ordinals[k]];
+            for (int n = 0; n < neighbours.items.length; n++) {
+                weightedDeviations[neighbours.items[n]] += neighbours.scores[n] * deviation;
+                weights[neighbours.items[n]] += neighbours.scores[n];
+            }
+        }
+        for (int k = 0; k < rated.size(); k++) {
+            weights[rated.ordinals[k]] = 0;
+        }
+
+        TopScores top = new TopScores(limit);
+        for (int j = 0; j < weights.length; j++) {
+            if (weights[j] > 0) {
+                float predicted = mean + weightedDeviations[j] / weights[j];
+                top.offer(j, Math.clamp(predicted, MIN_RATING, MAX_RATING));
+            }
+        }
+        List<Recommendation> recommendations = new ArrayList<>(top.size);
+        for (int k = 0; k < top.size; k++) {
+            recommendations.add(new Recommendation(current.itemIds[top.ordinals[k]], top.scores[k]));
+        }
+        return recommendations;
+    }
+
+    int getItemCount() {
+        return itemOrdinals.size();
+    }
+
+    int getUserCount() {
+        return userOrdinals.size();
+    }
+
+    long getRatingCount() {
+        return ratingCount;
+    }
+
+    // The dot products that changed are those of the rated item and everything else the user rated. A heavy rater
+    // would make one write recompute hundreds of rows, so only maxRefreshPerWrite are marked; the rest, and other
+    // items' similarity to these, catch up at the next full build.
+    private void markDirty(Rows current, int u, int i) {
+        current.userMeans[u] = current.userRatings[u].mean();
+        dirtyItems.set(i);
+        SparseRow rated = current.userRatings[u];
+        for (int k = 0; k < rated.size() && k < maxRefreshPerWrite - 1; k++) {
+            dirtyItems.set(rated.ordinals[k]);
+        }
+    }
+
+    private Rows ensureCapacity(int item, int user) {
+        Rows current = rows;
+        if (item < current.itemIds.length && user < current.userRatings.length) {
+            return current;
+        }
+        Rows grown = current.grow(
+                item < current.itemIds.length ? current.itemIds.length : current.itemIds.length * 2,
+                user < current.userRatings.length ? current.userRatings.length : current.userRatings.length * 2);
+        rows = grown;
+        return grown;
+    }
+
+    // Adjusted cosine: ratings are centred on each user's mean so generous and harsh raters compare fairly.
+    private Neighbours computeNeighbours(Rows current, int i, Scratch scratch) {
+        float norm = current.itemNorms[i];
+        if (norm == 0) {
+            return Neighbours.EMPTY;
+        }
+
+        int touched = 0;
+        SparseRow raters = current.itemRatings[i];
+        for (int k = 0; k < raters.size(); k++) {
+            int u = raters.ordinals[k];
+            float mean = current.userMeans[u];
+            float deviation = raters.ratings[k] - mean;
+            if (deviation == 0) {
+                continue;
+            }
+            SparseRow rated = current.userRatings[u];
+            for (int m = 0; m < rated.size(); m++) {
+                int j = rated.ordinals[m];
+                if (j == i) {
+                    continue;
+                }
+                if (!scratch.seen[j]) {
+                    scratch.seen[j] = true;
+                    scratch.touched[touched++] = j;
+                }
+                scratch.dots[j] += deviation * (rated.ratings[m] - mean);
+            }
+        }
+
+        TopScores top = new TopScores(neighbourCount);
+        for (int t = 0; t < touched; t++) {
+            int j = scratch.touched[t];
+            float otherNorm = current.itemNorms[j];
+            if (otherNorm > 0 && scratch.dots[j] > 0) {
+                top.offer(j, (float) (scratch.dots[j] / (norm * otherNorm)));
+            }
+            scratch.dots[j] = 0;
+            scratch.seen[j] = false;
+        }
+        return top.toNeighbours();
+    }
+
+    private static float norm(Rows current, int i) {
+        SparseRow raters = current.itemRatings[i];
+        double sum = 0;
+        for (int k = 0; k < raters.size(); k++) {
+            float deviation = raters.ratings[k] - current.userMeans[raters.ordinals[k]];
+            sum += deviation * deviation;
+        }
+        return (float) Math.sqrt(sum);
+    }
+
+    private static int ordinal(Map<UUID, Integer> ordinals, UUID id) {
+        return ordinals.computeIfAbsent(id, ignored -> ordinals.size());
+    }
+
+    private class SimilarityTask extends RecursiveAction {
+        private final Rows target;
+        private final int from;
+        private final int to;
+
+        SimilarityTask(Rows target, int from, int to) {
+            this.target = target;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ITEMS_PER_TASK) {
+                Scratch scratch = new Scratch(target.itemIds.length);
+                for (int i = from; i < to; i++) {
+                    target.neighbours[i] = computeNeighbours(target, i, scratch);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SimilarityTask(target, from, middle), new SimilarityTask(target, middle, to));
+        }
+    }
+
+    // Arrays are indexed by item or user ordinal and only replaced as a whole when they grow.
+    private record Rows(UUID[] itemIds,
+                        SparseRow[] itemRatings,
+                        float[] itemNorms,
+                        Neighbours[] neighbours,
+                        SparseRow[] userRatings,
+                        float[] userMeans) {
+
+        static Rows allocate(int items, int users) {
+            return new Rows(new UUID[0], new SparseRow[0], new float[0], new Neighbours[0], new SparseRow[0], new float[0])
+                    .grow(items, users);
+        }
+
+        Rows grow(int items, int users) {
+            Rows grown = new Rows(
+                    Arrays.copyOf(itemIds, items),
+                    Arrays.copyOf(itemRatings, items),
+                    Arrays.copyOf(itemNorms, items),
+                    Arrays.copyOf(neighbours, items),
+                    Arrays.copyOf(userRatings, users),
+                    Arrays.copyOf(userMeans, users));
+            Arrays.fill(grown.itemRatings, itemRatings.length, items, SparseRow.EMPTY);
+            Arrays.fill(grown.neighbours, neighbours.length, items, Neighbours.EMPTY);
+            Arrays.fill(grown.userRatings, userRatings.length, users, SparseRow.EMPTY);
+            return grown;
+        }
+    }
+
+    // One row of the rating matrix: ordinals sorted ascending, ratings at the same positions.
+    private static final class SparseRow {
+        static final SparseRow EMPTY = new SparseRow(new int[0], new byte[0]);
+
+        final int[] ordinals;
+        final byte[] ratings;
+
+        SparseRow(int[] ordinals, byte[] ratings) {
+            this.ordinals = ordinals;
+            this.ratings = ratings;
+        }
+
+        int size() {
+            return ordinals.length;
+        }
+
+        float mean() {
+            if (ratings.length == 0) {
+                return 0;
+            }
+            int sum = 0;
+            for (byte rating : ratings) {
+                sum += rating;
+            }
+            return (float) sum / ratings.length;
+        }
+
+        SparseRow with(int ordinal, int rating) {
+            int position = Arrays.binarySearch(ordinals, ordinal);
+            if (position >= 0) {
+                byte[] updated = ratings.clone();
+                updated[position] = (byte) rating;
+                return new SparseRow(ordinals, updated);
+            }
+            int insertAt = -position - 1;
+            int[] grownOrdinals = new int[ordinals.length + 1];
+            byte[] grownRatings = new byte[ratings.length + 1];
+            System.arraycopy(ordinals, 0, grownOrdinals, 0, insertAt);
+            System.arraycopy(ratings, 0, grownRatings, 0, insertAt);
+            grownOrdinals[insertAt] = ordinal;
+            grownRatings[insertAt] = (byte) rating;
+            System.arraycopy(ordinals, insertAt, grownOrdinals, insertAt + 1, ordinals.length - insertAt);
+            System.arraycopy(ratings, insertAt, grownRatings, insertAt + 1, ratings.length - insertAt);
+            return new SparseRow(grownOrdinals, grownRatings);
+        }
+
+        SparseRow without(int ordinal) {
+            int position = Arrays.binarySearch(ordinals, ordinal);
+            if (position < 0) {
+                return this;
+            }
+            int[] shrunkOrdinals = new int[ordinals.length - 1];
+            byte[] shrunkRatings = new byte[ratings.length - 1];
+            System.arraycopy(ordinals, 0, shrunkOrdinals, 0, position);
+            System.arraycopy(ratings, 0, shrunkRatings, 0, position);
+            System.arraycopy(ordinals, position + 1, shrunkOrdinals, position, ordinals.length - position - 1);
+            System.arraycopy(ratings, position + 1, shrunkRatings, position, ratings.length - position - 1);
+            return new SparseRow(shrunkOrdinals, shrunkRatings);
+        }
+    }
+
+    private static final class Neighbours {
+        static final Neighbours EMPTY = new Neighbours(new int[0], new float[0]);
+
+        final int[] items;
+        final float[] scores;
+
+        Neighbours(int[] items, float[] scores) {
+            this.items = items;
+            this.scores = scores;
+        }
+    }
+
+    // Keeps the highest scores seen so far, sorted descending.
+    private static final class TopScores {
+        final int[] ordinals;
+        final float[] scores;
+        int size;
+
+        TopScores(int capacity) {
+            this.ordinals = new int[capacity];
+            this.scores = new float[capacity];
+        }
+
+        void offer(int ordinal, float score) {
+            if (size == scores.length && (size == 0 || score <= scores[size - 1])) {
+                return;
+            }
+            int position = size < scores.length ? size++ : size - 1;
+            while (position > 0 && scores[position - 1] < score) {
+                scores[position] = scores[position - 1];
+                ordinals[position] = ordinals[position - 1];
+                position--;
+            }
+            scores[position] = score;
+            ordinals[position] = ordinal;
+        }
+
+        Neighbours toNeighbours() {
+            return size == 0 ? Neighbours.EMPTY : new Neighbours(Arrays.copyOf(ordinals, size), Arrays.copyOf(scores, size));
+        }
+    }
+
+    private static final class Scratch {
+        final double[] dots;
+        final boolean[] seen;
+        final int[] touched;
+
+        Scratch(int items) {
+            this.dots = new double[items];
+            this.seen = new boolean[items];
+            this.touched = new int[items];
+        }
+    }
+
+    // Bulk load buffer; rows are filled by a counting sort so each comes out sorted by ordinal.
+    private static final class RatingTriples {
+        int[] users = new int[1024];
+        int[] items = new int[1024];
+        byte[] ratings = new byte[1024];
+        int size;
+
+        void add(int user, int item, int rating) {
+            if (size == users.length) {
+                users = Arrays.copyOf(users, size * 2);
+                items = Arrays.copyOf(items, size * 2);
+                ratings = Arrays.copyOf(ratings, size * 2);
+            }
+            users[size] = user;
+            items[size] = item;
+            ratings[size] = (byte) rating;
+            size++;
+        }
+
+        void fill(Rows rows, int itemCount, int userCount) {
+            int[] itemOffsets = new int[itemCount + 1];
+            int[] userSizes = new int[userCount];
+            for (int k = 0; k < size; k++) {
+                itemOffsets[items[k] + 1]++;
+                userSizes[users[k]]++;
+            }
+            for (int i = 0; i < itemCount; i++) {
+                itemOffsets[i + 1] += itemOffsets[i];
+            }
+            int[] byItem = new int[size];
+            int[] cursor = Arrays.copyOf(itemOffsets, itemCount);
+            for (int k = 0; k < size; k++) {
+                byItem[cursor[items[k]]++] = k;
+            }
+
+            // walking entries in item order gives user rows sorted by item ordinal
+            int[][] userItems = new int[userCount][];
+            byte[][] userValues = new byte[userCount][];
+            for (int u = 0; u < userCount; u++) {
+                userItems[u] = new int[userSizes[u]];
+                userValues[u] = new byte[userSizes[u]];
+            }
+            int[] userFill = new int[userCount];
+            for (int k : byItem) {
+                int u = users[k];
+                userItems[u][userFill[u]] = items[k];
+                userValues[u][userFill[u]++] = ratings[k];
+            }
+
+            // and walking users in order gives item rows sorted by user ordinal
+            int[][] itemUsers = new int[itemCount][];
+            byte[][] itemValues = new byte[itemCount][];
+            for (int i = 0; i < itemCount; i++) {
+                itemUsers[i] = new int[itemOffsets[i + 1] - itemOffsets[i]];
+                itemValues[i] = new byte[itemUsers[i].length];
+            }
+            int[] itemFill = new int[itemCount];
+            for (int u = 0; u < userCount; u++) {
+                for (int k = 0; k < userItems[u].length; k++) {
+                    int i = userItems[u][k];
+                    itemUsers[i][itemFill[i]] = u;
+                    itemValues[i][itemFill[i]++] = userValues[u][k];
+                }
+                rows.userRatings[u] = new SparseRow(userItems[u], userValues[u]);
+            }
+            for (int i = 0; i < itemCount; i++) {
+                rows.itemRatings[i] = new SparseRow(itemUsers[i], itemValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.movie.recommendation.domain;
+
+import com.example.movie.recommendation.domain.model.InvalidRecommendationRequestException;
+import com.example.movie.recommendation.domain.model.Recommendation;
+import com.example.movie.recommendation.persistence.RatingRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+@Service
+@Timed(value = "movie.usecase", histogram = true)
+public class RecommendationUseCase {
+    private static final int DEFAULT_LIMIT = 10;
+    // items refreshed per lock hold, so review writes wait for at most one chunk
+    private static final int REFRESH_CHUNK = 64;
+
+    private final RatingRepository ratingRepository;
+    private final int neighbourCount;
+    private final int maxResults;
+    private final int maxRefreshPerWrite;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final LongAdder incrementalUpdates = new LongAdder();
+
+    private volatile ItemSimilarityIndex index;
+    // changes applied while a rebuild is loading, replayed onto the rebuilt index before it is swapped in
+    private List<Consumer<ItemSimilarityIndex>> pendingChanges;
+
+    public RecommendationUseCase(RatingRepository ratingRepository,
+                                 @Value("${movie.recommendations.neighbours:20}") int neighbourCount,
+                                 @Value("${movie.recommendations.max-results:50}") int maxResults,
+                                 @Value("${movie.recommendations.max-refresh-per-write:50}") int maxRefreshPerWrite) {
+        this.ratingRepository = ratingRepository;
+        this.neighbourCount = neighbourCount;
+        this.maxResults = maxResults;
+        this.maxRefreshPerWrite = maxRefreshPerWrite;
+        this.index = ItemSimilarityIndex.empty(neighbourCount, maxRefreshPerWrite);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${movie.recommendations.rebuild-interval-ms:3600000}",
+            initialDelayString = "${movie.recommendations.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        List<Consumer<ItemSimilarityIndex>> changes = new ArrayList<>();
+        writeLock.lock();
+        try {
+            pendingChanges = changes;
+        } finally {
+            writeLock.unlock();
+        }
+
+        try {
+            ItemSimilarityIndex rebuilt = ItemSimilarityIndex.build(ratingRepository::forEachRating, neighbourCount, maxRefreshPerWrite);
+            writeLock.lock();
+            try {
+                changes.forEach(change -> change.accept(rebuilt));
+                index = rebuilt;
+            } finally {
+                writeLock.unlock();
+            }
+        } finally {
+            writeLock.lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    // Review writes only update the rating rows and mark items stale; neighbour lists are recomputed here, off the
+    // request path, with any number of writes to the same items coalesced into one recomputation.
+    @Scheduled(fixedDelayString = "${movie.recommendations.refresh-interval-ms:1000}")
+    public void refreshNeighbours() {
+        int remaining;
+        do {
+            writeLock.lock();
+            try {
+                remaining = index.refreshDirty(REFRESH_CHUNK);
+            } finally {
+                writeLock.unlock();
+            }
+        } while (remaining > 0);
+    }
+
+    public List<Recommendation> recommend(UUID userId, Integer limit) {
+        int resultLimit = limit != null ? limit : DEFAULT_LIMIT;
+        if (resultLimit < 1 || resultLimit > maxResults) {
+            throw InvalidRecommendationRequestException.invalidLimit();
+        }
+        return index.recommend(userId, resultLimit);
+    }
+
+    public void recordRating(UUID userId, UUID movieId, int rating) {
+        apply(target -> target.put(userId, movieId, rating));
+    }
+
+    public void removeRating(UUID userId, UUID movieId) {
+        apply(target -> target.remove(userId, movieId));
+    }
+
+    public int getItemCount() {
+        return index.getItemCount();
+    }
+
+    public int getUserCount() {
+        return index.getUserCount();
+    }
+
+    public long getRatingCount() {
+        return index.getRatingCount();
+    }
+
+    public int getPendingRefreshCount() {
+        writeLock.lock();
+        try {
+            return index.getDirtyCount();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public long getIncrementalUpdateCount() {
+        return incrementalUpdates.sum();
+    }
+
+    private void apply(Consumer<ItemSimilarityIndex> change) {
+        writeLock.lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            change.accept(index);
+        } finally {
+            writeLock.unlock();
+        }
+        incrementalUpdates.increment();
+    }
+}
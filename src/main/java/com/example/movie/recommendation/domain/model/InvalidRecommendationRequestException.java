@@ -0,0 +1,11 @@
+package com.example.movie.recommendation.domain.model;
+
+public class InvalidRecommendationRequestException extends IllegalArgumentException {
+    private InvalidRecommendationRequestException(String message) {
+        super(message);
+    }
+
+    public static InvalidRecommendationRequestException invalidLimit() {
+        return new InvalidRecommendationRequestException("Invalid limit");
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.movie.recommendation.domain.model;
+
+import java.util.UUID;
+
+public record Rating(UUID userId, UUID movieId, int rating) {
+}
@@ -0,0 +1,6 @@
+package com.example.movie.recommendation.domain.model;
+
+import java.util.UUID;
+
+public record Recommendation(UUID movieId, double predictedRating) {
+}
@@ -0,0 +1,29 @@
+package com.example.movie.recommendation.persistence;
+
+import com.example.movie.recommendation.domain.model.Rating;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+@Timed(value = "movie.repository", histogram = true)
+public class RatingRepository {
+    private final JdbcClient jdbcClient;
+
+    public RatingRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    public void forEachRating(Consumer<Rating> consumer) {
+        jdbcClient.sql("SELECT user_id, movie_id, rating FROM reviews")
+                .query(rs -> {
+                    consumer.accept(new Rating(
+                            rs.getObject("user_id", UUID.class),
+                            rs.getObject("movie_id", UUID.class),
+                            rs.getInt("rating")));
+                });
+    }
+}
@@ -1,88 +1,115 @@
 package com.example.movie.review.api;
 
+import com.example.movie.common.ETags;
+import com.example.movie.common.InvalidBatchReadException;
 import com.example.movie.review.api.model.AddReviewRequest;
+import com.example.movie.review.api.model.ReviewBatchResponse;
 import com.example.movie.review.api.model.ReviewResponse;
+import com.example.movie.review.api.model.ReviewSearchResponse;
 import com.example.movie.review.api.model.UpdateReviewRequest;
 import com.example.movie.review.domain.AddReviewUseCase;
+import com.example.movie.review.domain.ReviewQueryUseCase;
+import com.example.movie.review.domain.ReviewSearchUseCase;
 import com.example.movie.review.domain.model.InvalidReviewAddRequestException;
+import com.example.movie.review.domain.model.InvalidReviewSearchRequestException;
 import com.example.movie.review.domain.model.Review;
-import com.example.movie.user.domain.SessionService;
-import com.example.movie.user.domain.model.User;
-import com.example.movie.user.persistence.UserRepository;
+import com.example.movie.review.domain.model.ReviewView;
+import com.example.movie.user.domain.model.AuthenticatedUser;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static com.example.movie.review.api.ReviewResponseMapper.mapToReviewBatchResponse;
 import static com.example.movie.review.api.ReviewResponseMapper.mapToReviewResponse;
+import static com.example.movie.review.api.ReviewResponseMapper.mapToReviewResponses;
+import static com.example.movie.review.api.ReviewResponseMapper.mapToReviewSearchResponse;
 
 @RestController
 @RequestMapping("/api/reviews")
 public class ReviewController {
     private final AddReviewUseCase addReviewUseCase;
-    private final SessionService sessionService;
-    private final UserRepository userRepository;
+    private final ReviewQueryUseCase reviewQueryUseCase;
+    private final ReviewSearchUseCase reviewSearchUseCase;
 
-    public ReviewController(AddReviewUseCase addReviewUseCase, SessionService sessionService, UserRepository userRepository) {
+    public ReviewController(AddReviewUseCase addReviewUseCase, ReviewQueryUseCase reviewQueryUseCase,
+                            ReviewSearchUseCase reviewSearchUseCase) {
         this.addReviewUseCase = addReviewUseCase;
-        this.sessionService = sessionService;
-        this.userRepository = userRepository;
+        this.reviewQueryUseCase = reviewQueryUseCase;
+        this.reviewSearchUseCase = reviewSearchUseCase;
     }
 
     @PostMapping
-    public ResponseEntity<ReviewResponse> addReview(@RequestBody AddReviewRequest request, @RequestHeader("Session-Id") String sessionId) {
+    public ResponseEntity<ReviewResponse> addReview(@RequestBody AddReviewRequest request, @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            UUID userId = sessionService.getUserId(sessionId);
-            var review = addReviewUseCase.addReview(request, userId);
+            if (principal == null) {
+                return ResponseEntity.status(401).build();
+            }
+
+            var review = addReviewUseCase.addReview(request, principal.userId());
             ReviewResponse response = mapToReviewResponse(review);
             return ResponseEntity.ok(response);
-        } catch (InvalidReviewAddRequestException e) {
-            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
-            if (e.getMessage().contains("User not found")) {
-                return ResponseEntity.status(401).build();
-            }
             return ResponseEntity.badRequest().build();
         }
     }
 
     @GetMapping("/{reviewId}")
-    public ResponseEntity<ReviewResponse> getReview(@PathVariable UUID reviewId) {
+    public ResponseEntity<ReviewResponse> getReview(@PathVariable UUID reviewId,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            return addReviewUseCase.findById(reviewId)
-                    .map(review -> ResponseEntity.ok(mapToReviewResponse(review)))
-                    .orElse(ResponseEntity.notFound().build());
+            return ETags.conditional(reviewId, ifNoneMatch, reviewQueryUseCase::findVersion, reviewQueryUseCase::findById,
+                    ReviewResponseMapper::mapToReviewResponse);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<ReviewBatchResponse> getReviewsByIds(@RequestParam List<UUID> ids) {
+        try {
+            Map<UUID, ReviewView> found = reviewQueryUseCase.findAllByIds(ids);
+            return ResponseEntity.ok(mapToReviewBatchResponse(ids, found));
+        } catch (InvalidBatchReadException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/movie/{movieId}")
     public ResponseEntity<List<ReviewResponse>> getReviewsByMovie(@PathVariable UUID movieId) {
         try {
-            List<Review> reviews = addReviewUseCase.findByMovieId(movieId);
-            List<ReviewResponse> responses = reviews.stream()
-                    .map(ReviewResponseMapper::mapToReviewResponse)
-                    .toList();
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok(mapToReviewResponses(reviewQueryUseCase.findByMovieId(movieId)));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<ReviewSearchResponse> searchReviews(@RequestParam String q,
+                                                              @RequestParam(required = false) UUID movieId,
+                                                              @RequestParam(required = false) Integer limit,
+                                                              @RequestParam(required = false) String cursor) {
+        try {
+            return ResponseEntity.ok(mapToReviewSearchResponse(reviewSearchUseCase.search(q, movieId, limit, cursor)));
+        } catch (InvalidReviewSearchRequestException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PutMapping("/{reviewId}")
     public ResponseEntity<ReviewResponse> updateReview(@PathVariable UUID reviewId,
                                                        @RequestBody UpdateReviewRequest request,
-                                                       @RequestHeader("Session-Id") String sessionId) {
+                                                       @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            UUID userId = sessionService.getUserId(sessionId);
-
-            if (userId == null) {
+            if (principal == null) {
                 return ResponseEntity.status(401).body(null);
             }
 
-            Review updatedReview = addReviewUseCase.updateReview(reviewId, userId, request.getComment(), request.getRating());
+            Review updatedReview = addReviewUseCase.updateReview(reviewId, principal.userId(), request.getComment(), request.getRating());
             ReviewResponse response = mapToReviewResponse(updatedReview);
             return ResponseEntity.ok(response);
         } catch (InvalidReviewAddRequestException e) {
@@ -100,15 +127,13 @@ public class ReviewController {
 
     @DeleteMapping("/{reviewId}")
     public ResponseEntity<Void> deleteReview(@PathVariable UUID reviewId,
-                                             @RequestHeader("Session-Id") String sessionId) {
+                                             @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            UUID userId = sessionService.getUserId(sessionId);
-
-            if (userId == null) {
+            if (principal == null) {
                 return ResponseEntity.status(401).build();
             }
 
-            addReviewUseCase.deleteReview(reviewId, userId);
+            addReviewUseCase.deleteReview(reviewId, principal.userId());
             return ResponseEntity.ok().build();
         } catch (RuntimeException e) {
             if (e.getMessage().contains("You can only delete your own reviews")) {
@@ -123,30 +148,22 @@ public class ReviewController {
 
     @DeleteMapping("/admin/{reviewId}")
     public ResponseEntity<Void> adminDeleteReview(@PathVariable UUID reviewId,
-                                                  @RequestHeader("Session-Id") String sessionId) {
+                                                  @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            UUID userId = sessionService.getUserId(sessionId);
-
-            if (userId == null) {
+            if (principal == null) {
                 return ResponseEntity.status(401).build();
             }
 
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            if (!user.isAdmin()) {
+            if (!principal.isAdmin()) {
                 return ResponseEntity.status(403).build();
             }
 
-            addReviewUseCase.deleteReview(reviewId, userId);
+            addReviewUseCase.deleteReview(reviewId, principal.userId());
             return ResponseEntity.ok().build();
         } catch (RuntimeException e) {
             if (e.getMessage().contains("Review not found")) {
                 return ResponseEntity.notFound().build();
             }
-            if (e.getMessage().contains("User not found")) {
-                return ResponseEntity.status(401).build();
-            }
             return ResponseEntity.badRequest().build();
         }
     }
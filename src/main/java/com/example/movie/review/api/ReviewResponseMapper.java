@@ -1,7 +1,18 @@
 package com.example.movie.review.api;
 
+import com.example.movie.review.api.model.ReviewBatchResponse;
 import com.example.movie.review.api.model.ReviewResponse;
+import com.example.movie.review.api.model.ReviewSearchHit;
+import com.example.movie.review.api.model.ReviewSearchResponse;
 import com.example.movie.review.domain.model.Review;
+import com.example.movie.review.domain.model.ReviewView;
+import com.example.movie.review.domain.model.SearchHit;
+import com.example.movie.review.domain.model.SearchPage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 class ReviewResponseMapper {
     static ReviewResponse mapToReviewResponse(Review review) {
@@ -13,4 +24,54 @@ class ReviewResponseMapper {
                 .createdAt(review.getCreatedAt())
                 .build();
     }
-} 
\ No newline at end of file
+
+    static ReviewResponse mapToReviewResponse(ReviewView review) {
+        return ReviewResponse.builder()
+                .id(review.id())
+                .movieId(review.movieId())
+                .rating(review.rating())
+                .comment(review.comment())
+                .createdAt(review.createdAt())
+                .build();
+    }
+
+    static List<ReviewResponse> mapToReviewResponses(List<ReviewView> reviews) {
+        return reviews.stream()
+                .map(ReviewResponseMapper::mapToReviewResponse)
+                .toList();
+    }
+
+    static ReviewBatchResponse mapToReviewBatchResponse(List<UUID> requestedIds, Map<UUID, ReviewView> found) {
+        List<ReviewResponse> items = new ArrayList<>();
+        List<UUID> missingIds = new ArrayList<>();
+        requestedIds.stream().distinct().forEach(id -> {
+            ReviewView review = found.get(id);
+            if (review != null) {
+                items.add(mapToReviewResponse(review));
+            } else {
+                missingIds.add(id);
+            }
+        });
+        return ReviewBatchResponse.builder()
+                .items(items)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    static ReviewSearchResponse mapToReviewSearchResponse(SearchPage page) {
+        return ReviewSearchResponse.builder()
+                .hits(page.hits().stream().map(ReviewResponseMapper::mapToReviewSearchHit).toList())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+
+    private static ReviewSearchHit mapToReviewSearchHit(SearchHit hit) {
+        return ReviewSearchHit.builder()
+                .type(hit.type())
+                .id(hit.id())
+                .movieId(hit.movieId())
+                .rank(hit.rank())
+                .snippet(hit.snippet())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.movie.review.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@Data
+public class ReviewBatchResponse {
+    private final List<ReviewResponse> items;
+    private final List<UUID> missingIds;
+}
@@ -0,0 +1,16 @@
+package com.example.movie.review.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Builder
+@Data
+public class ReviewSearchHit {
+    private final String type;
+    private final UUID id;
+    private final UUID movieId;
+    private final float rank;
+    private final String snippet;
+}
@@ -0,0 +1,13 @@
+package com.example.movie.review.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Builder
+@Data
+public class ReviewSearchResponse {
+    private final List<ReviewSearchHit> hits;
+    private final String nextCursor;
+}
@@ -1,21 +1,31 @@
 package com.example.movie.review.domain;
 
+import com.example.movie.moderation.domain.SpamDetectionUseCase;
+import com.example.movie.moderation.domain.model.SubmissionType;
+import com.example.movie.recommendation.domain.RecommendationUseCase;
 import com.example.movie.review.api.model.AddReviewRequest;
 import com.example.movie.review.domain.model.InvalidReviewAddRequestException;
 import com.example.movie.review.domain.model.Review;
 import com.example.movie.review.persistence.ReviewRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 @Service
+@Timed(value = "movie.usecase", histogram = true)
 public class AddReviewUseCase {
     private final ReviewRepository reviewRepository;
+    private final RecommendationUseCase recommendationUseCase;
+    private final SpamDetectionUseCase spamDetectionUseCase;
 
-    public AddReviewUseCase(ReviewRepository reviewRepository) {
+    public AddReviewUseCase(ReviewRepository reviewRepository,
+                            RecommendationUseCase recommendationUseCase,
+                            SpamDetectionUseCase spamDetectionUseCase) {
         this.reviewRepository = reviewRepository;
+        this.recommendationUseCase = recommendationUseCase;
+        this.spamDetectionUseCase = spamDetectionUseCase;
     }
 
     public Review addReview(AddReviewRequest addReviewRequest, UUID userId) {
@@ -27,15 +37,10 @@ public class AddReviewUseCase {
 
         Review review = Review.addNewReview(movieId, userId, rating, comment);
 
-        return reviewRepository.save(review);
-    }
-
-    public Optional<Review> findById(UUID reviewId) {
-        return reviewRepository.findById(reviewId);
-    }
-
-    public List<Review> findByMovieId(UUID movieId) {
-        return reviewRepository.findByMovieId(movieId);
+        Review inserted = reviewRepository.insert(review);
+        recommendationUseCase.recordRating(userId, movieId, rating);
+        spamDetectionUseCase.inspect(SubmissionType.REVIEW, inserted.getId().value(), userId, movieId, comment);
+        return inserted;
     }
 
     public void deleteReview(UUID reviewId, UUID userId) {
@@ -47,6 +52,8 @@ public class AddReviewUseCase {
         }
 
         reviewRepository.deleteById(reviewId);
+        recommendationUseCase.removeRating(userId, review.getMovieId());
+        spamDetectionUseCase.forget(List.of(reviewId));
     }
 
     public Review updateReview(UUID reviewId, UUID userId, String newComment, Integer newRating) {
@@ -59,8 +66,12 @@ public class AddReviewUseCase {
             throw new RuntimeException("You can only edit your own reviews");
         }
 
-        Review updatedReview = review.updateReview(newComment, newRating);
-        return reviewRepository.save(updatedReview);
+        Review updatedReview = reviewRepository.update(review.updateReview(newComment, newRating));
+        if (updatedReview.getRating() != null) {
+            recommendationUseCase.recordRating(userId, updatedReview.getMovieId(), updatedReview.getRating());
+        }
+        spamDetectionUseCase.inspect(SubmissionType.REVIEW, reviewId, userId, updatedReview.getMovieId(), updatedReview.getComment());
+        return updatedReview;
     }
 
     private void validateReviewAddRequest(AddReviewRequest request) {
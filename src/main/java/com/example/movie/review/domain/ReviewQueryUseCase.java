@@ -0,0 +1,47 @@
+package com.example.movie.review.domain;
+
+import com.example.movie.common.BatchIds;
+import com.example.movie.review.domain.model.ReviewView;
+import com.example.movie.review.persistence.ReviewQueryRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Timed(value = "movie.usecase", histogram = true)
+public class ReviewQueryUseCase {
+    private final ReviewQueryRepository reviewQueryRepository;
+
+    public ReviewQueryUseCase(ReviewQueryRepository reviewQueryRepository) {
+        this.reviewQueryRepository = reviewQueryRepository;
+    }
+
+    public Optional<ReviewView> findById(UUID reviewId) {
+        return reviewQueryRepository.findById(reviewId);
+    }
+
+    public Optional<Long> findVersion(UUID reviewId) {
+        return reviewQueryRepository.findVersion(reviewId);
+    }
+
+    public Map<UUID, ReviewView> findAllByIds(List<UUID> reviewIds) {
+        List<UUID> distinctIds = BatchIds.distinct(reviewIds);
+
+        Map<UUID, ReviewView> result = new LinkedHashMap<>();
+        if (distinctIds.isEmpty()) {
+            return result;
+        }
+        reviewQueryRepository.findAllByIds(distinctIds)
+                .forEach(review -> result.put(review.id(), review));
+        return result;
+    }
+
+    public List<ReviewView> findByMovieId(UUID movieId) {
+        return reviewQueryRepository.findByMovieId(movieId);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.movie.review.domain;
+
+import com.example.movie.review.domain.model.InvalidReviewSearchRequestException;
+import com.example.movie.review.domain.model.SearchCursor;
+import com.example.movie.review.domain.model.SearchHit;
+import com.example.movie.review.domain.model.SearchPage;
+import com.example.movie.review.persistence.ReviewSearchRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Timed(value = "movie.usecase", histogram = true)
+public class ReviewSearchUseCase {
+    public static final int MAX_QUERY_LENGTH = 200;
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 50;
+
+    private final ReviewSearchRepository reviewSearchRepository;
+
+    public ReviewSearchUseCase(ReviewSearchRepository reviewSearchRepository) {
+        this.reviewSearchRepository = reviewSearchRepository;
+    }
+
+    public SearchPage search(String query, UUID movieId, Integer limit, String cursor) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw InvalidReviewSearchRequestException.invalidSearchQuery();
+        }
+        int pageSize = limit != null ? limit : DEFAULT_LIMIT;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw InvalidReviewSearchRequestException.invalidLimit();
+        }
+        SearchCursor after = cursor != null ? SearchCursor.decode(cursor) : null;
+
+        // one extra row tells whether another page exists without a count query
+        List<SearchHit> hits = reviewSearchRepository.search(query.strip(), movieId, after, pageSize + 1);
+        if (hits.size() <= pageSize) {
+            return new SearchPage(hits, null);
+        }
+        List<SearchHit> page = hits.subList(0, pageSize);
+        SearchHit last = page.getLast();
+        return new SearchPage(page, new SearchCursor(last.rank(), last.id()).encode());
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.movie.review.domain.model;
+
+import java.util.UUID;
+
+public record DeletedReview(UUID id, UUID userId, UUID movieId) {
+}
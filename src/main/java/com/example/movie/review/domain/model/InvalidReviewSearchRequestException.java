@@ -0,0 +1,19 @@
+package com.example.movie.review.domain.model;
+
+public class InvalidReviewSearchRequestException extends IllegalArgumentException {
+    private InvalidReviewSearchRequestException(String message) {
+        super(message);
+    }
+
+    public static InvalidReviewSearchRequestException invalidSearchQuery() {
+        return new InvalidReviewSearchRequestException("Invalid search query");
+    }
+
+    public static InvalidReviewSearchRequestException invalidCursor() {
+        return new InvalidReviewSearchRequestException("Invalid cursor");
+    }
+
+    public static InvalidReviewSearchRequestException invalidLimit() {
+        return new InvalidReviewSearchRequestException("Invalid limit");
+    }
+}
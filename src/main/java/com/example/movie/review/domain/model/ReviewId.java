@@ -1,11 +1,12 @@
 package com.example.movie.review.domain.model;
 
+import com.example.movie.common.UuidV7Generator;
 import lombok.NonNull;
 
 import java.util.UUID;
 
 public record ReviewId(@NonNull UUID value) {
     public static ReviewId create() {
-        return new ReviewId(UUID.randomUUID());
+        return new ReviewId(UuidV7Generator.next());
     }
 }
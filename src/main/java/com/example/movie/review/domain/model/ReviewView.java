@@ -0,0 +1,10 @@
+package com.example.movie.review.domain.model;
+
+import com.example.movie.common.Versioned;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Read model for GET endpoints; version is the row's xmin, used as the ETag.
+public record ReviewView(UUID id, UUID movieId, Integer rating, String comment, Instant createdAt, long version) implements Versioned {
+}
@@ -0,0 +1,27 @@
+package com.example.movie.review.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+// Keyset position of the last hit on a page; the rank travels as raw float bits so the next page resumes exactly.
+public record SearchCursor(float rank, UUID id) {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        String value = Integer.toHexString(Float.floatToIntBits(rank)) + ":" + id;
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String value = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            float rank = Float.intBitsToFloat(Integer.parseUnsignedInt(value.substring(0, separator), 16));
+            return new SearchCursor(rank, UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw InvalidReviewSearchRequestException.invalidCursor();
+        }
+    }
+}
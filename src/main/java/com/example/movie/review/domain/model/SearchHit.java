@@ -0,0 +1,6 @@
+package com.example.movie.review.domain.model;
+
+import java.util.UUID;
+
+public record SearchHit(String type, UUID id, UUID movieId, float rank, String snippet) {
+}
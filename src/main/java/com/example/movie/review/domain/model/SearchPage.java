@@ -0,0 +1,6 @@
+package com.example.movie.review.domain.model;
+
+import java.util.List;
+
+public record SearchPage(List<SearchHit> hits, String nextCursor) {
+}
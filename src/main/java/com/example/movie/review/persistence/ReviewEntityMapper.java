@@ -29,4 +29,10 @@ class ReviewEntityMapper {
         entity.setUpdatedAt(review.getUpdatedAt());
         return entity;
     }
+
+    static ReviewEntity toNewEntity(Review review) {
+        ReviewEntity entity = toEntity(review);
+        entity.setNewEntity(true);
+        return entity;
+    }
 }
@@ -0,0 +1,63 @@
+package com.example.movie.review.persistence;
+
+import com.example.movie.review.domain.model.ReviewView;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@Timed(value = "movie.repository", histogram = true)
+public class ReviewQueryRepository {
+    private static final String SELECT_REVIEW_VIEW = """
+            SELECT id, movie_id, rating, comment, created_at, xmin::text::bigint AS version
+            FROM reviews
+            """;
+
+    private static final RowMapper<ReviewView> REVIEW_VIEW = (rs, rowNum) -> new ReviewView(
+            rs.getObject("id", UUID.class),
+            rs.getObject("movie_id", UUID.class),
+            rs.getObject("rating", Integer.class),
+            rs.getString("comment"),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getLong("version"));
+
+    private final JdbcClient jdbcClient;
+
+    public ReviewQueryRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    public Optional<ReviewView> findById(UUID id) {
+        return jdbcClient.sql(SELECT_REVIEW_VIEW + "WHERE id = :id")
+                .param("id", id)
+                .query(REVIEW_VIEW)
+                .optional();
+    }
+
+    public Optional<Long> findVersion(UUID id) {
+        return jdbcClient.sql("SELECT xmin::text::bigint FROM reviews WHERE id = :id")
+                .param("id", id)
+                .query(Long.class)
+                .optional();
+    }
+
+    public List<ReviewView> findAllByIds(Collection<UUID> ids) {
+        return jdbcClient.sql(SELECT_REVIEW_VIEW + "WHERE id = ANY(:ids)")
+                .param("ids", ids.toArray(UUID[]::new))
+                .query(REVIEW_VIEW)
+                .list();
+    }
+
+    public List<ReviewView> findByMovieId(UUID movieId) {
+        return jdbcClient.sql(SELECT_REVIEW_VIEW + "WHERE movie_id = :movieId")
+                .param("movieId", movieId)
+                .query(REVIEW_VIEW)
+                .list();
+    }
+}
@@ -1,22 +1,34 @@
 package com.example.movie.review.persistence;
 
+import com.example.movie.review.domain.model.DeletedReview;
 import com.example.movie.review.domain.model.Review;
 import com.example.movie.review.persistence.model.ReviewEntity;
 
+import io.micrometer.core.annotation.Timed;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@Timed(value = "movie.repository", histogram = true)
 public class ReviewRepository {
     private final JpaReviewRepository jpaReviewRepository;
+    private final JdbcClient jdbcClient;
 
-    public ReviewRepository(JpaReviewRepository jpaReviewRepository) {
+    public ReviewRepository(JpaReviewRepository jpaReviewRepository, JdbcClient jdbcClient) {
         this.jpaReviewRepository = jpaReviewRepository;
+        this.jdbcClient = jdbcClient;
     }
 
-    public Review save(Review review) {
+    public Review insert(Review review) {
+        ReviewEntity saved = jpaReviewRepository.save(ReviewEntityMapper.toNewEntity(review));
+        return ReviewEntityMapper.toDomain(saved);
+    }
+
+    public Review update(Review review) {
         ReviewEntity saved = jpaReviewRepository.save(ReviewEntityMapper.toEntity(review));
         return ReviewEntityMapper.toDomain(saved);
     }
@@ -29,10 +41,13 @@ public class ReviewRepository {
         jpaReviewRepository.deleteById(id);
     }
 
-    public List<Review> findByMovieId(UUID movieId) {
-        return jpaReviewRepository.findByMovieId(movieId)
-                .stream()
-                .map(ReviewEntityMapper::toDomain)
-                .toList();
+    public List<DeletedReview> deleteAllByIds(Collection<UUID> ids) {
+        return jdbcClient.sql("DELETE FROM reviews WHERE id = ANY(:ids) RETURNING id, user_id, movie_id")
+                .param("ids", ids.toArray(UUID[]::new))
+                .query((rs, rowNum) -> new DeletedReview(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("user_id", UUID.class),
+                        rs.getObject("movie_id", UUID.class)))
+                .list();
     }
 }
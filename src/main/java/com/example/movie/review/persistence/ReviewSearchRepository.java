@@ -0,0 +1,81 @@
+package com.example.movie.review.persistence;
+
+import com.example.movie.review.domain.model.SearchCursor;
+import com.example.movie.review.domain.model.SearchHit;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@Timed(value = "movie.repository", histogram = true)
+public class ReviewSearchRepository {
+    // user text is HTML-escaped before ts_headline so the only markup in a snippet is our own <mark>
+    private static final String HEADLINE_OPTIONS =
+            "StartSel=<mark>, StopSel=</mark>, MaxWords=30, MinWords=10, MaxFragments=2, FragmentDelimiter=\" ... \"";
+
+    // Both arms filter through the GIN index on search_vector; snippets are only built for the rows on the page.
+    private static final String SEARCH = """
+            WITH query AS (SELECT websearch_to_tsquery('english', :query) AS tsquery),
+            hits AS (
+                SELECT 'REVIEW' AS type, id, movie_id, ts_rank_cd(search_vector, tsquery) AS rank
+                FROM reviews, query
+                WHERE search_vector @@ tsquery%1$s
+                UNION ALL
+                SELECT 'SUPER_REVIEW', id, movie_id, ts_rank_cd(search_vector, tsquery)
+                FROM super_reviews, query
+                WHERE search_vector @@ tsquery%1$s
+            ),
+            page AS (
+                SELECT type, id, movie_id, rank
+                FROM hits
+                %2$s
+                ORDER BY rank DESC, id DESC
+                LIMIT :limit
+            )
+            SELECT page.type, page.id, page.movie_id, page.rank,
+                   ts_headline('english', escaped.body, query.tsquery, :headlineOptions) AS snippet
+            FROM page
+            CROSS JOIN query
+            LEFT JOIN reviews r ON page.type = 'REVIEW' AND r.id = page.id
+            LEFT JOIN super_reviews s ON page.type = 'SUPER_REVIEW' AND s.id = page.id
+            CROSS JOIN LATERAL (
+                SELECT replace(replace(replace(
+                        coalesce(r.comment, concat_ws(' ... ', s.title, s.detailed_comment, s.pros, s.cons)),
+                        '&', '&amp;'), '<', '&lt;'), '>', '&gt;') AS body
+            ) escaped
+            ORDER BY page.rank DESC, page.id DESC
+            """;
+
+    private static final RowMapper<SearchHit> SEARCH_HIT = (rs, rowNum) -> new SearchHit(
+            rs.getString("type"),
+            rs.getObject("id", UUID.class),
+            rs.getObject("movie_id", UUID.class),
+            rs.getFloat("rank"),
+            rs.getString("snippet"));
+
+    private final JdbcClient jdbcClient;
+
+    public ReviewSearchRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    public List<SearchHit> search(String query, UUID movieId, SearchCursor after, int limit) {
+        String movieFilter = movieId != null ? " AND movie_id = :movieId" : "";
+        String keyset = after != null ? "WHERE (rank, id) < (CAST(:afterRank AS REAL), :afterId)" : "";
+        JdbcClient.StatementSpec statement = jdbcClient.sql(SEARCH.formatted(movieFilter, keyset))
+                .param("query", query)
+                .param("headlineOptions", HEADLINE_OPTIONS)
+                .param("limit", limit);
+        if (movieId != null) {
+            statement = statement.param("movieId", movieId);
+        }
+        if (after != null) {
+            statement = statement.param("afterRank", after.rank()).param("afterId", after.id());
+        }
+        return statement.query(SEARCH_HIT).list();
+    }
+}
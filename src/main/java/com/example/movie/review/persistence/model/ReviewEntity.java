@@ -2,6 +2,7 @@ package com.example.movie.review.persistence.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -15,7 +16,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class ReviewEntity {
+public class ReviewEntity implements Persistable<UUID> {
     @Id
     private UUID id;
 
@@ -30,4 +31,18 @@ public class ReviewEntity {
     private Instant createdAt;
 
     private Instant updatedAt;
+
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
 } 
\ No newline at end of file
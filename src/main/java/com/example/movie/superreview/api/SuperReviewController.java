@@ -1,39 +1,49 @@
 package com.example.movie.superreview.api;
 
+import com.example.movie.common.ETags;
+import com.example.movie.common.InvalidBatchReadException;
 import com.example.movie.superreview.api.model.AddSuperReviewRequest;
+import com.example.movie.superreview.api.model.SuperReviewBatchResponse;
 import com.example.movie.superreview.api.model.SuperReviewResponse;
 import com.example.movie.superreview.domain.AddSuperReviewUseCase;
+import com.example.movie.superreview.domain.SuperReviewQueryUseCase;
 import com.example.movie.superreview.domain.model.InvalidSuperReviewAddRequestException;
-import com.example.movie.user.domain.SessionService;
-import com.example.movie.user.persistence.UserRepository;
+import com.example.movie.superreview.domain.model.SuperReview;
+import com.example.movie.superreview.domain.model.SuperReviewView;
+import com.example.movie.user.domain.model.AuthenticatedUser;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static com.example.movie.superreview.api.SuperReviewResponseMapper.mapToSuperReviewBatchResponse;
 import static com.example.movie.superreview.api.SuperReviewResponseMapper.mapToSuperReviewResponse;
 
 @RestController
 @RequestMapping("/api/super-reviews")
 public class SuperReviewController {
     private final AddSuperReviewUseCase addSuperReviewUseCase;
-    private final SessionService sessionService;
-    private final UserRepository userRepository;
+    private final SuperReviewQueryUseCase superReviewQueryUseCase;
 
     public SuperReviewController(AddSuperReviewUseCase addSuperReviewUseCase,
-                                 SessionService sessionService,
-                                 UserRepository userRepository) {
+                                 SuperReviewQueryUseCase superReviewQueryUseCase) {
         this.addSuperReviewUseCase = addSuperReviewUseCase;
-        this.sessionService = sessionService;
-        this.userRepository = userRepository;
+        this.superReviewQueryUseCase = superReviewQueryUseCase;
     }
 
     @PostMapping
     public ResponseEntity<SuperReviewResponse> addSuperReview(@RequestBody AddSuperReviewRequest request,
-                                                              @RequestHeader("Session-Id") String sessionId) {
+                                                              @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            UUID userId = sessionService.getUserId(sessionId);
-            var superReview = addSuperReviewUseCase.addSuperReview(request, userId);
+            if (principal == null) {
+                return ResponseEntity.status(401).build();
+            }
+
+            var superReview = addSuperReviewUseCase.addSuperReview(request, principal);
             SuperReviewResponse response = mapToSuperReviewResponse(superReview);
             return ResponseEntity.ok(response);
         } catch (InvalidSuperReviewAddRequestException e) {
@@ -42,28 +52,37 @@ public class SuperReviewController {
             if (e.getMessage().contains("Only SUPER_REVIEWER and ADMIN users can create super reviews")) {
                 return ResponseEntity.status(403).build();
             }
-            if (e.getMessage().contains("User not found")) {
-                return ResponseEntity.status(401).build();
-            }
             return ResponseEntity.badRequest().build();
         }
     }
 
     @GetMapping("/{superReviewId}")
-    public ResponseEntity<SuperReviewResponse> getSuperReview(@PathVariable UUID superReviewId) {
-        return addSuperReviewUseCase.findById(superReviewId)
-                .map(SuperReviewResponseMapper::mapToSuperReviewResponse)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<SuperReviewResponse> getSuperReview(@PathVariable UUID superReviewId,
+                                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ETags.conditional(superReviewId, ifNoneMatch, superReviewQueryUseCase::findVersion,
+                superReviewQueryUseCase::findById, SuperReviewResponseMapper::mapToSuperReviewResponse);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<SuperReviewBatchResponse> getSuperReviewsByIds(@RequestParam List<UUID> ids) {
+        try {
+            Map<UUID, SuperReviewView> found = superReviewQueryUseCase.findAllByIds(ids);
+            return ResponseEntity.ok(mapToSuperReviewBatchResponse(ids, found));
+        } catch (InvalidBatchReadException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PutMapping("/{superReviewId}")
     public ResponseEntity<SuperReviewResponse> updateSuperReview(@PathVariable UUID superReviewId,
                                                                  @RequestBody AddSuperReviewRequest request,
-                                                                 @RequestHeader("Session-Id") String sessionId) {
+                                                                 @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            UUID userId = sessionService.getUserId(sessionId);
-            var updatedSuperReview = addSuperReviewUseCase.updateSuperReview(superReviewId, userId, request);
+            if (principal == null) {
+                return ResponseEntity.status(401).build();
+            }
+
+            var updatedSuperReview = addSuperReviewUseCase.updateSuperReview(superReviewId, principal.userId(), request);
             SuperReviewResponse response = mapToSuperReviewResponse(updatedSuperReview);
             return ResponseEntity.ok(response);
         } catch (InvalidSuperReviewAddRequestException e) {
@@ -81,10 +100,13 @@ public class SuperReviewController {
 
     @DeleteMapping("/{superReviewId}")
     public ResponseEntity<Void> deleteSuperReview(@PathVariable UUID superReviewId,
-                                                  @RequestHeader("Session-Id") String sessionId) {
+                                                  @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            UUID userId = sessionService.getUserId(sessionId);
-            addSuperReviewUseCase.deleteSuperReview(superReviewId, userId);
+            if (principal == null) {
+                return ResponseEntity.status(401).build();
+            }
+
+            addSuperReviewUseCase.deleteSuperReview(superReviewId, principal);
             return ResponseEntity.ok().build();
         } catch (RuntimeException e) {
             if (e.getMessage().contains("You can only delete your own super reviews")) {
@@ -99,17 +121,17 @@ public class SuperReviewController {
 
     @DeleteMapping("/admin/{superReviewId}")
     public ResponseEntity<Void> adminDeleteSuperReview(@PathVariable UUID superReviewId,
-                                                       @RequestHeader("Session-Id") String sessionId) {
+                                                       @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            UUID userId = sessionService.getUserId(sessionId);
-            var user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            if (principal == null) {
+                return ResponseEntity.status(401).build();
+            }
 
-            if (!user.isAdmin()) {
+            if (!principal.isAdmin()) {
                 return ResponseEntity.status(403).build();
             }
 
-            addSuperReviewUseCase.deleteSuperReview(superReviewId, userId);
+            addSuperReviewUseCase.deleteSuperReview(superReviewId, principal);
             return ResponseEntity.ok().build();
         } catch (RuntimeException e) {
             if (e.getMessage().contains("not found")) {
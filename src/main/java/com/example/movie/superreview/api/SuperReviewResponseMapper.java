@@ -1,7 +1,14 @@
 package com.example.movie.superreview.api;
 
+import com.example.movie.superreview.api.model.SuperReviewBatchResponse;
 import com.example.movie.superreview.api.model.SuperReviewResponse;
 import com.example.movie.superreview.domain.model.SuperReview;
+import com.example.movie.superreview.domain.model.SuperReviewView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 class SuperReviewResponseMapper {
     static SuperReviewResponse mapToSuperReviewResponse(SuperReview superReview) {
@@ -22,4 +29,40 @@ class SuperReviewResponseMapper {
                 .updatedAt(superReview.getUpdatedAt())
                 .build();
     }
+
+    static SuperReviewResponse mapToSuperReviewResponse(SuperReviewView superReview) {
+        return SuperReviewResponse.builder()
+                .id(superReview.id())
+                .movieId(superReview.movieId())
+                .overallRating(superReview.overallRating())
+                .scriptRating(superReview.scriptRating())
+                .actingRating(superReview.actingRating())
+                .effectsRating(superReview.effectsRating())
+                .musicRating(superReview.musicRating())
+                .title(superReview.title())
+                .detailedComment(superReview.detailedComment())
+                .pros(superReview.pros())
+                .cons(superReview.cons())
+                .recommendation(superReview.recommendation())
+                .createdAt(superReview.createdAt())
+                .updatedAt(superReview.updatedAt())
+                .build();
+    }
+
+    static SuperReviewBatchResponse mapToSuperReviewBatchResponse(List<UUID> requestedIds, Map<UUID, SuperReviewView> found) {
+        List<SuperReviewResponse> items = new ArrayList<>();
+        List<UUID> missingIds = new ArrayList<>();
+        requestedIds.stream().distinct().forEach(id -> {
+            SuperReviewView superReview = found.get(id);
+            if (superReview != null) {
+                items.add(mapToSuperReviewResponse(superReview));
+            } else {
+                missingIds.add(id);
+            }
+        });
+        return SuperReviewBatchResponse.builder()
+                .items(items)
+                .missingIds(missingIds)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.example.movie.superreview.api.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@Data
+public class SuperReviewBatchResponse {
+    private final List<SuperReviewResponse> items;
+    private final List<UUID> missingIds;
+}
@@ -1,39 +1,40 @@
 package com.example.movie.superreview.domain;
 
+import com.example.movie.moderation.domain.SpamDetectionUseCase;
+import com.example.movie.moderation.domain.model.SubmissionType;
 import com.example.movie.superreview.api.model.AddSuperReviewRequest;
 import com.example.movie.superreview.domain.model.InvalidSuperReviewAddRequestException;
 import com.example.movie.superreview.domain.model.SuperReview;
 import com.example.movie.superreview.persistence.SuperReviewRepository;
-import com.example.movie.user.domain.model.User;
-import com.example.movie.user.persistence.UserRepository;
+import com.example.movie.user.domain.model.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
 @Service
+@Timed(value = "movie.usecase", histogram = true)
 public class AddSuperReviewUseCase {
     private final SuperReviewRepository superReviewRepository;
-    private final UserRepository userRepository;
+    private final SpamDetectionUseCase spamDetectionUseCase;
 
-    public AddSuperReviewUseCase(SuperReviewRepository superReviewRepository, UserRepository userRepository) {
+    public AddSuperReviewUseCase(SuperReviewRepository superReviewRepository,
+                                 SpamDetectionUseCase spamDetectionUseCase) {
         this.superReviewRepository = superReviewRepository;
-        this.userRepository = userRepository;
+        this.spamDetectionUseCase = spamDetectionUseCase;
     }
 
-    public SuperReview addSuperReview(AddSuperReviewRequest request, UUID userId) {
+    public SuperReview addSuperReview(AddSuperReviewRequest request, AuthenticatedUser author) {
         validateSuperReviewAddRequest(request);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        if (!user.isSuperReviewer() && !user.isAdmin()) {
+        if (!author.isSuperReviewer() && !author.isAdmin()) {
             throw new RuntimeException("Only SUPER_REVIEWER and ADMIN users can create super reviews");
         }
 
         SuperReview superReview = SuperReview.addNewSuperReview(
                 request.getMovieId(),
-                userId,
+                author.userId(),
                 request.getOverallRating(),
                 request.getScriptRating(),
                 request.getActingRating(),
@@ -46,25 +47,21 @@ public class AddSuperReviewUseCase {
                 request.getRecommendation()
         );
 
-        return superReviewRepository.save(superReview);
-    }
-
-    public Optional<SuperReview> findById(UUID superReviewId) {
-        return superReviewRepository.findById(superReviewId);
+        SuperReview inserted = superReviewRepository.insert(superReview);
+        inspectDetailedComment(inserted);
+        return inserted;
     }
 
-    public void deleteSuperReview(UUID superReviewId, UUID userId) {
+    public void deleteSuperReview(UUID superReviewId, AuthenticatedUser requester) {
         SuperReview superReview = superReviewRepository.findById(superReviewId)
                 .orElseThrow(() -> new RuntimeException("Super review not found"));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        if (!superReview.getUserId().equals(userId) && !user.isAdmin()) {
+        if (!superReview.getUserId().equals(requester.userId()) && !requester.isAdmin()) {
             throw new RuntimeException("You can only delete your own super reviews");
         }
 
         superReviewRepository.deleteById(superReviewId);
+        spamDetectionUseCase.forget(List.of(superReviewId));
     }
 
     public SuperReview updateSuperReview(UUID superReviewId, UUID userId, AddSuperReviewRequest request) {
@@ -90,7 +87,14 @@ public class AddSuperReviewUseCase {
                 request.getRecommendation()
         );
 
-        return superReviewRepository.save(updatedSuperReview);
+        SuperReview updated = superReviewRepository.update(updatedSuperReview);
+        inspectDetailedComment(updated);
+        return updated;
+    }
+
+    private void inspectDetailedComment(SuperReview superReview) {
+        spamDetectionUseCase.inspect(SubmissionType.SUPER_REVIEW, superReview.getId().value(),
+                superReview.getUserId(), superReview.getMovieId(), superReview.getDetailedComment());
     }
 
     private void validateSuperReviewAddRequest(AddSuperReviewRequest request) {
@@ -0,0 +1,43 @@
+package com.example.movie.superreview.domain;
+
+import com.example.movie.common.BatchIds;
+import com.example.movie.superreview.domain.model.SuperReviewView;
+import com.example.movie.superreview.persistence.SuperReviewQueryRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Timed(value = "movie.usecase", histogram = true)
+public class SuperReviewQueryUseCase {
+    private final SuperReviewQueryRepository superReviewQueryRepository;
+
+    public SuperReviewQueryUseCase(SuperReviewQueryRepository superReviewQueryRepository) {
+        this.superReviewQueryRepository = superReviewQueryRepository;
+    }
+
+    public Optional<SuperReviewView> findById(UUID superReviewId) {
+        return superReviewQueryRepository.findById(superReviewId);
+    }
+
+    public Optional<Long> findVersion(UUID superReviewId) {
+        return superReviewQueryRepository.findVersion(superReviewId);
+    }
+
+    public Map<UUID, SuperReviewView> findAllByIds(List<UUID> superReviewIds) {
+        List<UUID> distinctIds = BatchIds.distinct(superReviewIds);
+
+        Map<UUID, SuperReviewView> result = new LinkedHashMap<>();
+        if (distinctIds.isEmpty()) {
+            return result;
+        }
+        superReviewQueryRepository.findAllByIds(distinctIds)
+                .forEach(superReview -> result.put(superReview.id(), superReview));
+        return result;
+    }
+}
@@ -1,11 +1,12 @@
 package com.example.movie.superreview.domain.model;
 
+import com.example.movie.common.UuidV7Generator;
 import lombok.NonNull;
 
 import java.util.UUID;
 
 public record SuperReviewId(@NonNull UUID value) {
     public static SuperReviewId create() {
-        return new SuperReviewId(UUID.randomUUID());
+        return new SuperReviewId(UuidV7Generator.next());
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.movie.superreview.domain.model;
+
+import com.example.movie.common.Versioned;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Read model for GET endpoints; version is the row's xmin, used as the ETag.
+public record SuperReviewView(UUID id, UUID movieId, Integer overallRating, Integer scriptRating, Integer actingRating,
+                              Integer effectsRating, Integer musicRating, String title, String detailedComment,
+                              String pros, String cons, Boolean recommendation, Instant createdAt, Instant updatedAt,
+                              long version) implements Versioned {
+}
@@ -8,4 +8,4 @@ import java.util.UUID;
 
 @Repository
 interface JpaSuperReviewRepository extends JpaRepository<SuperReviewEntity, UUID> {
-}
\ No newline at end of file
+}
@@ -44,4 +44,10 @@ class SuperReviewEntityMapper {
         entity.setUpdatedAt(superReview.getUpdatedAt());
         return entity;
     }
-}
\ No newline at end of file
+
+    static SuperReviewEntity toNewEntity(SuperReview superReview) {
+        SuperReviewEntity entity = toEntity(superReview);
+        entity.setNewEntity(true);
+        return entity;
+    }
+}
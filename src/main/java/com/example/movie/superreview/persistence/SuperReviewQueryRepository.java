@@ -0,0 +1,70 @@
+package com.example.movie.superreview.persistence;
+
+import com.example.movie.superreview.domain.model.SuperReviewView;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@Timed(value = "movie.repository", histogram = true)
+public class SuperReviewQueryRepository {
+    private static final String SELECT_SUPER_REVIEW_VIEW = """
+            SELECT id, movie_id, overall_rating, script_rating, acting_rating, effects_rating, music_rating,
+                   title, detailed_comment, pros, cons, recommendation, created_at, updated_at, xmin::text::bigint AS version
+            FROM super_reviews
+            """;
+
+    private static final RowMapper<SuperReviewView> SUPER_REVIEW_VIEW = (rs, rowNum) -> {
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return new SuperReviewView(
+                rs.getObject("id", UUID.class),
+                rs.getObject("movie_id", UUID.class),
+                rs.getObject("overall_rating", Integer.class),
+                rs.getObject("script_rating", Integer.class),
+                rs.getObject("acting_rating", Integer.class),
+                rs.getObject("effects_rating", Integer.class),
+                rs.getObject("music_rating", Integer.class),
+                rs.getString("title"),
+                rs.getString("detailed_comment"),
+                rs.getString("pros"),
+                rs.getString("cons"),
+                rs.getObject("recommendation", Boolean.class),
+                rs.getTimestamp("created_at").toInstant(),
+                updatedAt != null ? updatedAt.toInstant() : null,
+                rs.getLong("version"));
+    };
+
+    private final JdbcClient jdbcClient;
+
+    public SuperReviewQueryRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    public Optional<SuperReviewView> findById(UUID id) {
+        return jdbcClient.sql(SELECT_SUPER_REVIEW_VIEW + "WHERE id = :id")
+                .param("id", id)
+                .query(SUPER_REVIEW_VIEW)
+                .optional();
+    }
+
+    public Optional<Long> findVersion(UUID id) {
+        return jdbcClient.sql("SELECT xmin::text::bigint FROM super_reviews WHERE id = :id")
+                .param("id", id)
+                .query(Long.class)
+                .optional();
+    }
+
+    public List<SuperReviewView> findAllByIds(Collection<UUID> ids) {
+        return jdbcClient.sql(SELECT_SUPER_REVIEW_VIEW + "WHERE id = ANY(:ids)")
+                .param("ids", ids.toArray(UUID[]::new))
+                .query(SUPER_REVIEW_VIEW)
+                .list();
+    }
+}
@@ -1,20 +1,32 @@
 package com.example.movie.superreview.persistence;
 
 import com.example.movie.superreview.domain.model.SuperReview;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
+@Timed(value = "movie.repository", histogram = true)
 public class SuperReviewRepository {
     private final JpaSuperReviewRepository jpaSuperReviewRepository;
+    private final JdbcClient jdbcClient;
 
-    public SuperReviewRepository(JpaSuperReviewRepository jpaSuperReviewRepository) {
+    public SuperReviewRepository(JpaSuperReviewRepository jpaSuperReviewRepository, JdbcClient jdbcClient) {
         this.jpaSuperReviewRepository = jpaSuperReviewRepository;
+        this.jdbcClient = jdbcClient;
     }
 
-    public SuperReview save(SuperReview superReview) {
+    public SuperReview insert(SuperReview superReview) {
+        var saved = jpaSuperReviewRepository.save(SuperReviewEntityMapper.toNewEntity(superReview));
+        return SuperReviewEntityMapper.toDomain(saved);
+    }
+
+    public SuperReview update(SuperReview superReview) {
         var saved = jpaSuperReviewRepository.save(SuperReviewEntityMapper.toEntity(superReview));
         return SuperReviewEntityMapper.toDomain(saved);
     }
@@ -27,4 +39,11 @@ public class SuperReviewRepository {
     public void deleteById(UUID id) {
         jpaSuperReviewRepository.deleteById(id);
     }
-}
\ No newline at end of file
+
+    public Set<UUID> deleteAllByIds(Collection<UUID> ids) {
+        return jdbcClient.sql("DELETE FROM super_reviews WHERE id = ANY(:ids) RETURNING id")
+                .param("ids", ids.toArray(UUID[]::new))
+                .query(UUID.class)
+                .set();
+    }
+}
@@ -2,10 +2,15 @@ package com.example.movie.superreview.persistence.model;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -14,7 +19,7 @@ import java.util.UUID;
 @Table(name = "super_reviews")
 @Data
 @NoArgsConstructor
-public class SuperReviewEntity {
+public class SuperReviewEntity implements Persistable<UUID> {
     @Id
     private UUID id;
 
@@ -46,6 +51,21 @@ public class SuperReviewEntity {
 
     private Instant updatedAt;
 
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
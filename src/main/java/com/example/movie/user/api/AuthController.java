@@ -1,12 +1,14 @@
 package com.example.movie.user.api;
 
+import com.example.movie.application.LoginRateLimiter;
+import com.example.movie.application.PasswordHashingRejectedException;
 import com.example.movie.user.api.model.LoginRequest;
 import com.example.movie.user.api.model.LoginResponse;
+import com.example.movie.user.domain.LoginUseCase;
 import com.example.movie.user.domain.SessionService;
 import com.example.movie.user.domain.model.User;
-import com.example.movie.user.persistence.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
@@ -15,36 +17,32 @@ import java.time.Instant;
 @RequestMapping("/api/auth")
 public class AuthController {
     private final SessionService sessionService;
-    private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final LoginUseCase loginUseCase;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public AuthController(SessionService sessionService, 
-                         UserRepository userRepository, 
-                         PasswordEncoder passwordEncoder) {
+    public AuthController(SessionService sessionService,
+                          LoginUseCase loginUseCase,
+                          LoginRateLimiter loginRateLimiter) {
         this.sessionService = sessionService;
-        this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.loginUseCase = loginUseCase;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         try {
+            if (!loginRateLimiter.tryAcquire(request.getEmail(), httpRequest.getRemoteAddr())) {
+                return ResponseEntity.status(429).build();
+            }
 
-            User user = userRepository.findByEmail(request.getEmail())
+            User user = loginUseCase.authenticate(request.getEmail(), request.getPassword())
                     .orElse(null);
 
             if (user == null) {
                 return ResponseEntity.status(401).build();
             }
 
-
-            boolean passwordMatches = passwordEncoder.matches(request.getPassword(), user.getPasswordHash());
-
-            if (!passwordMatches) {
-                return ResponseEntity.status(401).build();
-            }
-
-            String sessionId = sessionService.createSession(user.getId().value());
+            String sessionId = sessionService.createSession(user.getId().value(), user.getRole());
 
             Instant expiresAt = Instant.now().plusSeconds(24 * 3600L);
 
@@ -55,6 +53,8 @@ public class AuthController {
                     .build();
 
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingRejectedException e) {
+            return ResponseEntity.status(503).build();
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
@@ -65,4 +65,4 @@ public class AuthController {
         sessionService.removeSession(sessionId);
         return ResponseEntity.ok().build();
     }
-} 
\ No newline at end of file
+}
@@ -1,17 +1,27 @@
 package com.example.movie.user.api;
 
+import com.example.movie.application.PasswordHashingRejectedException;
+import com.example.movie.common.InvalidBatchReadException;
 import com.example.movie.user.api.model.ChangeUserRoleRequest;
 import com.example.movie.user.api.model.RegisterUserRequest;
+import com.example.movie.user.api.model.UserAvailabilityResponse;
+import com.example.movie.user.api.model.UserBatchResponse;
 import com.example.movie.user.api.model.UserResponse;
 import com.example.movie.user.domain.AdminUserManagementUseCase;
 import com.example.movie.user.domain.RegisterUserUseCase;
-import com.example.movie.user.domain.SessionService;
+import com.example.movie.user.domain.UserAvailabilityUseCase;
 import com.example.movie.user.domain.UserQueryUseCase;
+import com.example.movie.user.domain.model.AuthenticatedUser;
 import com.example.movie.user.domain.model.IllegalRegisterUserRequestException;
 import com.example.movie.user.domain.model.User;
+import com.example.movie.user.domain.model.UserView;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import static com.example.movie.user.api.UserResponseMapper.mapToUserBatchResponse;
 import static com.example.movie.user.api.UserResponseMapper.mapToUserResponse;
 
 @RestController
@@ -20,16 +30,16 @@ public class UserController {
     private final RegisterUserUseCase registerUserUseCase;
     private final UserQueryUseCase userQueryUseCase;
     private final AdminUserManagementUseCase adminUserManagementUseCase;
-    private final SessionService sessionService;
+    private final UserAvailabilityUseCase userAvailabilityUseCase;
 
     public UserController(RegisterUserUseCase registerUserUseCase, 
                          UserQueryUseCase userQueryUseCase,
                          AdminUserManagementUseCase adminUserManagementUseCase,
-                         SessionService sessionService) {
+                         UserAvailabilityUseCase userAvailabilityUseCase) {
         this.registerUserUseCase = registerUserUseCase;
         this.userQueryUseCase = userQueryUseCase;
         this.adminUserManagementUseCase = adminUserManagementUseCase;
-        this.sessionService = sessionService;
+        this.userAvailabilityUseCase = userAvailabilityUseCase;
     }
 
     @PostMapping
@@ -40,28 +50,50 @@ public class UserController {
             return ResponseEntity.ok(response);
         } catch (IllegalRegisterUserRequestException e) {
             return ResponseEntity.badRequest().build();
+        } catch (PasswordHashingRejectedException e) {
+            return ResponseEntity.status(503).build();
         }
     }
 
+    @GetMapping("/availability")
+    public ResponseEntity<UserAvailabilityResponse> checkAvailability(@RequestParam(required = false) String username,
+                                                                      @RequestParam(required = false) String email) {
+        if (username == null && email == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Boolean usernameAvailable = username != null ? userAvailabilityUseCase.isUsernameAvailable(username) : null;
+        Boolean emailAvailable = email != null ? userAvailabilityUseCase.isEmailAvailable(email) : null;
+        return ResponseEntity.ok(new UserAvailabilityResponse(usernameAvailable, emailAvailable));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserResponse> getUser(@PathVariable UUID id) {
         return userQueryUseCase.findById(id)
-                .map(UserResponseMapper::mapToUserResponse)
-                .map(ResponseEntity::ok)
+                .map(user -> ResponseEntity.ok(mapToUserResponse(user)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<UserBatchResponse> getUsersByIds(@RequestParam List<UUID> ids) {
+        try {
+            Map<UUID, UserView> found = userQueryUseCase.findAllByIds(ids);
+            return ResponseEntity.ok(mapToUserBatchResponse(ids, found));
+        } catch (InvalidBatchReadException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping("/admin/change-role")
     public ResponseEntity<UserResponse> changeUserRole(@RequestBody ChangeUserRoleRequest request,
-                                                      @RequestHeader("Session-Id") String sessionId) {
+                                                      @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            UUID adminUserId = sessionService.getUserId(sessionId);
-            if (adminUserId == null) {
+            if (principal == null) {
                 return ResponseEntity.status(401).build();
             }
             
             User updatedUser = adminUserManagementUseCase.changeUserRole(
-                adminUserId, 
+                principal, 
                 request.getUserId(), 
                 request.getNewRole()
             );
@@ -1,7 +1,14 @@
 package com.example.movie.user.api;
 
+import com.example.movie.user.api.model.UserBatchResponse;
 import com.example.movie.user.api.model.UserResponse;
 import com.example.movie.user.domain.model.User;
+import com.example.movie.user.domain.model.UserView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 class UserResponseMapper {
     static UserResponse mapToUserResponse(User user) {
@@ -12,4 +19,22 @@ class UserResponseMapper {
                 user.getRole()
         );
     }
+
+    static UserResponse mapToUserResponse(UserView user) {
+        return new UserResponse(user.id(), user.username(), user.email(), user.role());
+    }
+
+    static UserBatchResponse mapToUserBatchResponse(List<UUID> requestedIds, Map<UUID, UserView> found) {
+        List<UserResponse> items = new ArrayList<>();
+        List<UUID> missingIds = new ArrayList<>();
+        requestedIds.stream().distinct().forEach(id -> {
+            UserView user = found.get(id);
+            if (user != null) {
+                items.add(mapToUserResponse(user));
+            } else {
+                missingIds.add(id);
+            }
+        });
+        return new UserBatchResponse(items, missingIds);
+    }
 }
@@ -0,0 +1,9 @@
+package com.example.movie.user.api.model;
+
+import lombok.Data;
+
+@Data
+public class UserAvailabilityResponse {
+    private final Boolean usernameAvailable;
+    private final Boolean emailAvailable;
+}
@@ -0,0 +1,12 @@
+package com.example.movie.user.api.model;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class UserBatchResponse {
+    private final List<UserResponse> items;
+    private final List<UUID> missingIds;
+}
@@ -1,24 +1,25 @@
 package com.example.movie.user.domain;
 
+import com.example.movie.user.domain.model.AuthenticatedUser;
 import com.example.movie.user.domain.model.User;
 import com.example.movie.user.persistence.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
 @Service
+@Timed(value = "movie.usecase", histogram = true)
 public class AdminUserManagementUseCase {
     private final UserRepository userRepository;
+    private final SessionService sessionService;
 
-    public AdminUserManagementUseCase(UserRepository userRepository) {
+    public AdminUserManagementUseCase(UserRepository userRepository, SessionService sessionService) {
         this.userRepository = userRepository;
+        this.sessionService = sessionService;
     }
 
-    public User changeUserRole(UUID adminUserId, UUID targetUserId, String newRole) {
-        
-        User admin = userRepository.findById(adminUserId)
-                .orElseThrow(() -> new RuntimeException("Admin not found"));
-
+    public User changeUserRole(AuthenticatedUser admin, UUID targetUserId, String newRole) {
         if (!admin.isAdmin()) {
             throw new RuntimeException("Only admins can change user roles");
         }
@@ -31,8 +32,11 @@ public class AdminUserManagementUseCase {
                 .orElseThrow(() -> new RuntimeException("Target user not found"));
 
         User updatedUser = targetUser.changeRole(newRole);
-        
-        return userRepository.save(updatedUser);
+        User savedUser = userRepository.update(updatedUser);
+
+        sessionService.updateUserRole(targetUserId, newRole);
+
+        return savedUser;
     }
 
     private boolean isValidRole(String role) {
@@ -0,0 +1,48 @@
+package com.example.movie.user.domain;
+
+import com.example.movie.application.PasswordHashingRejectedException;
+import com.example.movie.user.domain.model.User;
+import com.example.movie.user.persistence.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+@Timed(value = "movie.usecase", histogram = true)
+public class LoginUseCase {
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    public LoginUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public Optional<User> authenticate(String email, String password) {
+        User user = userRepository.findByEmail(email).orElse(null);
+
+        if (user == null) {
+            return Optional.empty();
+        }
+
+        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(rehashIfNeeded(user, password));
+    }
+
+    private User rehashIfNeeded(User user, String password) {
+        if (!passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+            return user;
+        }
+
+        try {
+            return userRepository.update(user.changePasswordHash(passwordEncoder.encode(password)));
+        } catch (PasswordHashingRejectedException e) {
+            return user;
+        }
+    }
+}
@@ -4,44 +4,69 @@ import com.example.movie.user.api.model.RegisterUserRequest;
 import com.example.movie.user.domain.model.IllegalRegisterUserRequestException;
 import com.example.movie.user.domain.model.User;
 import com.example.movie.user.persistence.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = "movie.usecase", histogram = true)
 public class RegisterUserUseCase {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserAvailabilityUseCase userAvailabilityUseCase;
 //    private final Clock clock;
 //    private final UserIdGenerator generator;
 
-    public RegisterUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public RegisterUserUseCase(UserRepository userRepository,
+                               PasswordEncoder passwordEncoder,
+                               UserAvailabilityUseCase userAvailabilityUseCase) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userAvailabilityUseCase = userAvailabilityUseCase;
     }
 
     public User register(RegisterUserRequest request) {
         String username = request.getUsername();
         String email = request.getEmail();
-        String passwordHash = encodePassword(request.getPassword());
 
+        validateUsername(username);
+        validatePassword(request.getPassword());
         validateEmail(email);
+        validateAvailability(username, email);
 
+        String passwordHash = passwordEncoder.encode(request.getPassword());
         User user = User.createNewUser(username, email, passwordHash);
 
         // clock.instant()
         // generator.generate()
-        return userRepository.save(user);
+        User saved = userRepository.insert(user);
+        userAvailabilityUseCase.markTaken(saved.getUsername(), saved.getEmail());
+        return saved;
     }
 
-    private String encodePassword(String password) {
-        if (password.length() <= 8) {
+    private void validateUsername(String username) {
+        if (username == null || username.isBlank()) {
+            throw IllegalRegisterUserRequestException.wrongUsername();
+        }
+    }
+
+    private void validatePassword(String password) {
+        if (password == null || password.length() <= 8) {
             throw IllegalRegisterUserRequestException.wrongPassword();
         }
-        return passwordEncoder.encode(password);
+    }
+
+    private void validateAvailability(String username, String email) {
+        if (!userAvailabilityUseCase.isUsernameAvailable(username)) {
+            throw IllegalRegisterUserRequestException.usernameTaken();
+        }
+        if (!userAvailabilityUseCase.isEmailAvailable(email)) {
+            throw IllegalRegisterUserRequestException.emailTaken();
+        }
     }
 
     private void validateEmail(String email) {
-        if (!email.contains("@")) {
+        if (email == null || !email.contains("@")) {
             throw IllegalRegisterUserRequestException.wrongEmail();
         }
     }
@@ -1,47 +1,68 @@
 package com.example.movie.user.domain;
 
 import com.example.movie.user.domain.model.SessionData;
+import com.example.movie.user.persistence.SessionStore;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import java.util.Map;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
+@Timed(value = "movie.usecase", histogram = true)
 public class SessionService {
-    private final Map<String, SessionData> sessionStore = new ConcurrentHashMap<>();
     private static final int SESSION_HOURS_VALID = 24;
-    
-    public String createSession(UUID userId) {
-        removeUserSessions(userId);
-        
-        String sessionId = UUID.randomUUID().toString();
-        SessionData sessionData = SessionData.create(userId, SESSION_HOURS_VALID);
-        sessionStore.put(sessionId, sessionData);
-        
-        return sessionId;
-    }
-    
+
+    private final SessionStore sessionStore;
+
+    public SessionService(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+    }
+
+    public String createSession(UUID userId, String role) {
+        SessionData sessionData = SessionData.create(userId, role, SESSION_HOURS_VALID);
+        return sessionStore.create(sessionData);
+    }
+
+    public Optional<SessionData> getSession(String sessionId) {
+        return sessionStore.findActive(sessionId);
+    }
+
     public UUID getUserId(String sessionId) {
-        SessionData sessionData = sessionStore.get(sessionId);
-        
-        if (sessionData == null) {
-            return null;
-        }
-        
-        if (sessionData.isExpired()) {
-            sessionStore.remove(sessionId);
-            return null;
-        }
-        
-        return sessionData.getUserId();
-    }
-    
+        return getSession(sessionId)
+                .map(SessionData::getUserId)
+                .orElse(null);
+    }
+
     public void removeSession(String sessionId) {
         sessionStore.remove(sessionId);
     }
-    
+
     public void removeUserSessions(UUID userId) {
-        sessionStore.entrySet().removeIf(entry -> 
-            entry.getValue().getUserId().equals(userId));
+        sessionStore.removeByUserId(userId);
+    }
+
+    public void updateUserRole(UUID userId, String role) {
+        sessionStore.updateRole(userId, role);
+    }
+
+    @Scheduled(fixedDelayString = "${movie.session.eviction-interval-ms:60000}")
+    public void evictExpiredSessions() {
+        evictExpiredSessions(Instant.now());
+    }
+
+    void evictExpiredSessions(Instant now) {
+        sessionStore.evictExpired(now);
+    }
+
+    public OptionalLong getActiveSessionCount() {
+        return sessionStore.size();
+    }
+
+    public long getEvictedSessionCount() {
+        return sessionStore.evictedCount();
     }
-}
\ No newline at end of file
+}
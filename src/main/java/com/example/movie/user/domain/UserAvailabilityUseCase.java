@@ -0,0 +1,146 @@
+package com.example.movie.user.domain;
+
+import com.example.movie.application.CacheInvalidationBus;
+import com.example.movie.common.BloomFilter;
+import com.example.movie.user.persistence.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@Timed(value = "movie.usecase", histogram = true)
+public class UserAvailabilityUseCase {
+    private final UserRepository userRepository;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+    private final LongAdder definitelyFree = new LongAdder();
+    private final LongAdder indexLookups = new LongAdder();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // bumped whenever registrations on other nodes may have gone unheard, so a scan that overlapped it is discarded
+    private final AtomicLong missedRegistrations = new AtomicLong();
+
+    private volatile Filters filters;
+    private volatile Filters rebuilding;
+    private volatile boolean hearingRegistrations;
+
+    public UserAvailabilityUseCase(UserRepository userRepository,
+                                   CacheInvalidationBus cacheInvalidationBus,
+                                   @Value("${movie.users.availability.expected-users:1000000}") long expectedUsers,
+                                   @Value("${movie.users.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        // without the bus there are no other nodes to hear from
+        this.hearingRegistrations = !cacheInvalidationBus.isEnabled();
+        cacheInvalidationBus.subscribe(UserRepository.REGISTRATIONS_CHANNEL, new RegistrationSubscriber());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${movie.users.availability.rebuild-interval-ms:600000}",
+            initialDelayString = "${movie.users.availability.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long missedAtStart = missedRegistrations.get();
+            Filters fresh = new Filters(
+                    new BloomFilter(expectedUsers, falsePositiveRate),
+                    new BloomFilter(expectedUsers, falsePositiveRate));
+            rebuilding = fresh;
+            try {
+                userRepository.forEachUsernameAndEmail(fresh::put);
+                if (hearingRegistrations && missedRegistrations.get() == missedAtStart) {
+                    filters = fresh;
+                }
+            } finally {
+                rebuilding = null;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        Filters current = filters;
+        if (current != null && !current.usernames().mightContain(username)) {
+            definitelyFree.increment();
+            return true;
+        }
+        indexLookups.increment();
+        return !userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        Filters current = filters;
+        if (current != null && !current.emails().mightContain(email)) {
+            definitelyFree.increment();
+            return true;
+        }
+        indexLookups.increment();
+        return !userRepository.existsByEmail(email);
+    }
+
+    public void markTaken(String username, String email) {
+        Filters pending = rebuilding;
+        if (pending != null) {
+            pending.put(username, email);
+        }
+        Filters current = filters;
+        if (current != null) {
+            current.put(username, email);
+        }
+    }
+
+    public long getDefinitelyFreeCount() {
+        return definitelyFree.sum();
+    }
+
+    public long getIndexLookupCount() {
+        return indexLookups.sum();
+    }
+
+    private void distrustFilters() {
+        missedRegistrations.incrementAndGet();
+        filters = null;
+    }
+
+    // registrations on other nodes arrive through the bus; until a filter is rebuilt after a gap, every check asks the index
+    private class RegistrationSubscriber implements CacheInvalidationBus.Subscriber {
+        @Override
+        public void onChanged(Set<UUID> ids) {
+            try {
+                userRepository.forEachUsernameAndEmail(ids, UserAvailabilityUseCase.this::markTaken);
+            } catch (RuntimeException e) {
+                onResync();
+            }
+        }
+
+        @Override
+        public void onResync() {
+            distrustFilters();
+            hearingRegistrations = true;
+            Thread.ofVirtual().name("user-availability-rebuild").start(UserAvailabilityUseCase.this::rebuild);
+        }
+
+        @Override
+        public void onUnsubscribed() {
+            hearingRegistrations = false;
+            distrustFilters();
+        }
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+        void put(String username, String email) {
+            usernames.put(username);
+            emails.put(email);
+        }
+    }
+}
@@ -1,21 +1,39 @@
 package com.example.movie.user.domain;
 
-import com.example.movie.user.domain.model.User;
-import com.example.movie.user.persistence.UserRepository;
+import com.example.movie.common.BatchIds;
+import com.example.movie.user.domain.model.UserView;
+import com.example.movie.user.persistence.UserQueryRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 @Service
+@Timed(value = "movie.usecase", histogram = true)
 public class UserQueryUseCase {
-    private final UserRepository userRepository;
+    private final UserQueryRepository userQueryRepository;
 
-    public UserQueryUseCase(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public UserQueryUseCase(UserQueryRepository userQueryRepository) {
+        this.userQueryRepository = userQueryRepository;
     }
 
-    public Optional<User> findById(UUID id) {
-        return userRepository.findById(id);
+    public Optional<UserView> findById(UUID id) {
+        return userQueryRepository.findById(id);
+    }
+
+    public Map<UUID, UserView> findAllByIds(List<UUID> ids) {
+        List<UUID> distinctIds = BatchIds.distinct(ids);
+
+        Map<UUID, UserView> result = new LinkedHashMap<>();
+        if (distinctIds.isEmpty()) {
+            return result;
+        }
+        userQueryRepository.findAllByIds(distinctIds)
+                .forEach(user -> result.put(user.id(), user));
+        return result;
     }
 }
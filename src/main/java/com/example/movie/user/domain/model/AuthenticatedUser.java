@@ -0,0 +1,28 @@
+package com.example.movie.user.domain.model;
+
+import lombok.NonNull;
+
+import java.util.UUID;
+
+public record AuthenticatedUser(@NonNull UUID userId, @NonNull String role) {
+    public static AuthenticatedUser from(SessionData sessionData) {
+        String role = sessionData.getRole() != null ? sessionData.getRole() : "USER";
+        return new AuthenticatedUser(sessionData.getUserId(), role);
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId().value(), user.getRole());
+    }
+
+    public boolean hasRole(String role) {
+        return this.role.equals(role);
+    }
+
+    public boolean isAdmin() {
+        return hasRole("ADMIN");
+    }
+
+    public boolean isSuperReviewer() {
+        return hasRole("SUPER_REVIEWER");
+    }
+}
@@ -5,6 +5,10 @@ public class IllegalRegisterUserRequestException extends IllegalArgumentExceptio
         super(message);
     }
 
+    public static IllegalRegisterUserRequestException wrongUsername() {
+        return new IllegalRegisterUserRequestException("Wrong username");
+    }
+
     public static IllegalRegisterUserRequestException wrongPassword() {
         return new IllegalRegisterUserRequestException("Wrong password");
     }
@@ -13,4 +17,12 @@ public class IllegalRegisterUserRequestException extends IllegalArgumentExceptio
         return new IllegalRegisterUserRequestException("Wrong email");
     }
 
+    public static IllegalRegisterUserRequestException usernameTaken() {
+        return new IllegalRegisterUserRequestException("Username already taken");
+    }
+
+    public static IllegalRegisterUserRequestException emailTaken() {
+        return new IllegalRegisterUserRequestException("Email already taken");
+    }
+
 }
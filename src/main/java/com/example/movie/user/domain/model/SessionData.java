@@ -8,14 +8,19 @@ import java.util.UUID;
 @Data
 public class SessionData {
     private final UUID userId;
+    private final String role;
     private final Instant expiresAt;
     
     public boolean isExpired() {
         return Instant.now().isAfter(expiresAt);
     }
+
+    public SessionData withRole(String newRole) {
+        return new SessionData(userId, newRole, expiresAt);
+    }
     
-    public static SessionData create(UUID userId, int hoursValid) {
+    public static SessionData create(UUID userId, String role, int hoursValid) {
         Instant expiresAt = Instant.now().plusSeconds(hoursValid * 3600L);
-        return new SessionData(userId, expiresAt);
+        return new SessionData(userId, role, expiresAt);
     }
-} 
\ No newline at end of file
+}
@@ -51,4 +51,10 @@ public class User {
                 .build();
     }
 
+    public User changePasswordHash(String newPasswordHash) {
+        return this.toBuilder()
+                .withPasswordHash(newPasswordHash)
+                .build();
+    }
+
 }
@@ -1,11 +1,12 @@
 package com.example.movie.user.domain.model;
 
+import com.example.movie.common.UuidV7Generator;
 import lombok.NonNull;
 
 import java.util.UUID;
 
 public record UserId(@NonNull UUID value) {
     public static UserId create() {
-        return new UserId(UUID.randomUUID());
+        return new UserId(UuidV7Generator.next());
     }
 }
@@ -0,0 +1,7 @@
+package com.example.movie.user.domain.model;
+
+import java.util.UUID;
+
+// Read model for GET endpoints.
+public record UserView(UUID id, String username, String email, String role) {
+}
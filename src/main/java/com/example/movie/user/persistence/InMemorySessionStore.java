@@ -0,0 +1,158 @@
+package com.example.movie.user.persistence;
+
+import com.example.movie.user.domain.model.SessionData;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Repository
+@ConditionalOnProperty(name = "movie.session.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySessionStore implements SessionStore {
+    private static final long EXPIRY_BUCKET_SECONDS = 60;
+
+    private final Map<String, SessionData> sessions = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> userSessions = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<Long, Set<String>> expiryBuckets = new ConcurrentSkipListMap<>();
+    private final LongAdder evictedSessions = new LongAdder();
+
+    @Override
+    public String create(SessionData sessionData) {
+        removeByUserId(sessionData.getUserId());
+        String sessionId = UUID.randomUUID().toString();
+        save(sessionId, sessionData);
+        return sessionId;
+    }
+
+    public void save(String sessionId, SessionData sessionData) {
+        SessionData previous = sessions.put(sessionId, sessionData);
+        if (previous != null) {
+            unindex(sessionId, previous);
+        }
+        index(sessionId, sessionData);
+    }
+
+    @Override
+    public Optional<SessionData> findActive(String sessionId) {
+        SessionData sessionData = sessions.get(sessionId);
+
+        if (sessionData == null) {
+            return Optional.empty();
+        }
+
+        if (sessionData.isExpired()) {
+            if (sessions.remove(sessionId, sessionData)) {
+                unindex(sessionId, sessionData);
+                evictedSessions.increment();
+            }
+            return Optional.empty();
+        }
+
+        return Optional.of(sessionData);
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        SessionData sessionData = sessions.remove(sessionId);
+        if (sessionData != null) {
+            unindex(sessionId, sessionData);
+        }
+    }
+
+    @Override
+    public void removeByUserId(UUID userId) {
+        Set<String> sessionIds = userSessions.remove(userId);
+        if (sessionIds == null) {
+            return;
+        }
+        for (String sessionId : sessionIds) {
+            SessionData sessionData = sessions.remove(sessionId);
+            if (sessionData != null) {
+                removeFromExpiryBucket(sessionId, sessionData);
+            }
+        }
+    }
+
+    @Override
+    public void updateRole(UUID userId, String role) {
+        userSessions.computeIfPresent(userId, (id, sessionIds) -> {
+            for (String sessionId : sessionIds) {
+                sessions.computeIfPresent(sessionId, (key, sessionData) -> sessionData.withRole(role));
+            }
+            return sessionIds;
+        });
+    }
+
+    @Override
+    public void evictExpired(Instant now) {
+        long lastElapsedBucket = now.getEpochSecond() / EXPIRY_BUCKET_SECONDS;
+        Map.Entry<Long, Set<String>> bucket;
+        while ((bucket = expiryBuckets.firstEntry()) != null && bucket.getKey() <= lastElapsedBucket) {
+            expiryBuckets.remove(bucket.getKey());
+            for (String sessionId : bucket.getValue()) {
+                SessionData sessionData = sessions.get(sessionId);
+                if (sessionData != null && sessions.remove(sessionId, sessionData)) {
+                    unindexUser(sessionId, sessionData.getUserId());
+                    evictedSessions.increment();
+                }
+            }
+        }
+    }
+
+    @Override
+    public OptionalLong size() {
+        return OptionalLong.of(sessions.size());
+    }
+
+    @Override
+    public long evictedCount() {
+        return evictedSessions.sum();
+    }
+
+    private void index(String sessionId, SessionData sessionData) {
+        userSessions.compute(sessionData.getUserId(), (userId, sessionIds) -> {
+            Set<String> result = sessionIds != null ? sessionIds : new HashSet<>();
+            result.add(sessionId);
+            return result;
+        });
+        addToExpiryBucket(sessionId, sessionData);
+    }
+
+    private void unindex(String sessionId, SessionData sessionData) {
+        unindexUser(sessionId, sessionData.getUserId());
+        removeFromExpiryBucket(sessionId, sessionData);
+    }
+
+    private void unindexUser(String sessionId, UUID userId) {
+        userSessions.computeIfPresent(userId, (id, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    private void addToExpiryBucket(String sessionId, SessionData sessionData) {
+        expiryBuckets.computeIfAbsent(bucketOf(sessionData.getExpiresAt()), bucket -> ConcurrentHashMap.newKeySet())
+                .add(sessionId);
+    }
+
+    private void removeFromExpiryBucket(String sessionId, SessionData sessionData) {
+        Set<String> bucket = expiryBuckets.get(bucketOf(sessionData.getExpiresAt()));
+        if (bucket != null) {
+            bucket.remove(sessionId);
+        }
+    }
+
+    private static long bucketOf(Instant instant) {
+        return instant.getEpochSecond() / EXPIRY_BUCKET_SECONDS + 1;
+    }
+}
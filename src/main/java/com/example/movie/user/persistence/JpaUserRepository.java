@@ -1,14 +1,37 @@
 package com.example.movie.user.persistence;
 
 import com.example.movie.user.persistence.model.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 interface JpaUserRepository extends JpaRepository<UserEntity, UUID> {
     Optional<UserEntity> findByEmail(String email);
 
     Optional<UserEntity> findByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    boolean existsByUsername(String username);
+
+    @Query("SELECT u.username AS username, u.email AS email FROM UserEntity u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserIdentifiers> streamAllIdentifiers();
+
+    @Query("SELECT u.username AS username, u.email AS email FROM UserEntity u WHERE u.id IN :ids")
+    List<UserIdentifiers> findIdentifiersByIds(Collection<UUID> ids);
+
+    interface UserIdentifiers {
+        String getUsername();
+
+        String getEmail();
+    }
 }
@@ -0,0 +1,171 @@
+package com.example.movie.user.persistence;
+
+import com.example.movie.application.CacheInvalidationBus;
+import com.example.movie.common.LocalCache;
+import com.example.movie.user.domain.model.SessionData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Repository
+@ConditionalOnProperty(name = "movie.session.store", havingValue = "postgres")
+public class PostgresSessionStore implements SessionStore {
+    public static final String SESSIONS_CHANNEL = "sessions_changed";
+
+    private final JdbcClient jdbcClient;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final long nearCacheTtlNanos;
+    private final LocalCache<UUID, CachedSession> nearCache;
+    private final LongAdder evictedSessions = new LongAdder();
+    // refreshed by the expiry sweep, so a metrics scrape never runs count(*) over the table
+    private final AtomicLong sessionCount = new AtomicLong();
+
+    public PostgresSessionStore(JdbcClient jdbcClient,
+                                CacheInvalidationBus cacheInvalidationBus,
+                                @Value("${movie.session.near-cache.ttl:5s}") Duration nearCacheTtl,
+                                @Value("${movie.session.near-cache.max-entries:100000}") int nearCacheMaxEntries) {
+        this.jdbcClient = jdbcClient;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.nearCacheTtlNanos = nearCacheTtl.toNanos();
+        this.nearCache = new LocalCache<>(nearCacheMaxEntries);
+        cacheInvalidationBus.register(SESSIONS_CHANNEL, nearCache);
+        if (!cacheInvalidationBus.isEnabled()) {
+            // without the bus nothing would ever enable it, and the TTL alone bounds staleness as before
+            nearCache.enable();
+        }
+    }
+
+    @Override
+    public String create(SessionData sessionData) {
+        removeByUserId(sessionData.getUserId());
+        String sessionId = UUID.randomUUID().toString();
+        jdbcClient.sql("""
+                        INSERT INTO sessions (id, user_id, role, expires_at)
+                        VALUES (:id, :userId, :role, :expiresAt)
+                        """)
+                .param("id", sessionId)
+                .param("userId", sessionData.getUserId())
+                .param("role", sessionData.getRole())
+                .param("expiresAt", Timestamp.from(sessionData.getExpiresAt()))
+                .update();
+        nearCache.get(UUID.fromString(sessionId), ignored -> Optional.of(new CachedSession(sessionData, System.nanoTime())));
+        return sessionId;
+    }
+
+    @Override
+    public Optional<SessionData> findActive(String sessionId) {
+        UUID key = cacheKey(sessionId);
+        if (key == null) {
+            // create() only issues UUIDs, so nothing else can be in the table
+            return Optional.empty();
+        }
+
+        Optional<CachedSession> cached = nearCache.get(key, ignored -> load(sessionId));
+        if (cached.isPresent() && System.nanoTime() - cached.get().cachedAtNanos() >= nearCacheTtlNanos) {
+            nearCache.evict(key);
+            cached = nearCache.get(key, ignored -> load(sessionId));
+        }
+        return cached.map(CachedSession::sessionData)
+                .filter(sessionData -> !sessionData.isExpired());
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        jdbcClient.sql("DELETE FROM sessions WHERE id = :id")
+                .param("id", sessionId)
+                .update();
+        invalidate(List.of(sessionId));
+    }
+
+    @Override
+    public void removeByUserId(UUID userId) {
+        List<String> removed = jdbcClient.sql("DELETE FROM sessions WHERE user_id = :userId RETURNING id")
+                .param("userId", userId)
+                .query(String.class)
+                .list();
+        invalidate(removed);
+    }
+
+    @Override
+    public void updateRole(UUID userId, String role) {
+        List<String> updated = jdbcClient.sql("UPDATE sessions SET role = :role WHERE user_id = :userId RETURNING id")
+                .param("role", role)
+                .param("userId", userId)
+                .query(String.class)
+                .list();
+        invalidate(updated);
+    }
+
+    @Override
+    public void evictExpired(Instant now) {
+        long nowNanos = System.nanoTime();
+        nearCache.evictIf(cached -> nowNanos - cached.cachedAtNanos() >= nearCacheTtlNanos);
+
+        int deleted = jdbcClient.sql("DELETE FROM sessions WHERE expires_at <= :now")
+                .param("now", Timestamp.from(now))
+                .update();
+        evictedSessions.add(deleted);
+        sessionCount.set(jdbcClient.sql("SELECT count(*) FROM sessions")
+                .query(Long.class)
+                .single());
+    }
+
+    @Override
+    public OptionalLong size() {
+        return OptionalLong.of(sessionCount.get());
+    }
+
+    @Override
+    public long evictedCount() {
+        return evictedSessions.sum();
+    }
+
+    private Optional<CachedSession> load(String sessionId) {
+        return jdbcClient.sql("""
+                        SELECT user_id, role, expires_at FROM sessions
+                        WHERE id = :id AND expires_at > now()
+                        """)
+                .param("id", sessionId)
+                .query((rs, rowNum) -> new SessionData(
+                        rs.getObject("user_id", UUID.class),
+                        rs.getString("role"),
+                        rs.getTimestamp("expires_at").toInstant()))
+                .optional()
+                .map(sessionData -> new CachedSession(sessionData, System.nanoTime()));
+    }
+
+    // evicts the ids here and, through the bus, on every other node that may have them near-cached
+    private void invalidate(List<String> sessionIds) {
+        List<UUID> keys = sessionIds.stream()
+                .map(PostgresSessionStore::cacheKey)
+                .filter(Objects::nonNull)
+                .toList();
+        keys.forEach(nearCache::evict);
+        cacheInvalidationBus.publish(SESSIONS_CHANNEL, keys);
+    }
+
+    private static UUID cacheKey(String sessionId) {
+        try {
+            UUID key = UUID.fromString(sessionId);
+            // UUID.fromString also accepts non-canonical spellings, which must not share a cache entry
+            return key.toString().equals(sessionId) ? key : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record CachedSession(SessionData sessionData, long cachedAtNanos) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.movie.user.persistence;
+
+import com.example.movie.common.BloomFilter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+class SessionRevocationList {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final long expectedRevocations;
+    private final Map<UUID, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<UUID, Instant> revokedUsers = new ConcurrentHashMap<>();
+    private volatile BloomFilter tokenFilter;
+
+    SessionRevocationList(long expectedRevocations) {
+        this.expectedRevocations = expectedRevocations;
+        this.tokenFilter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    boolean isRevoked(SessionToken token) {
+        Instant revokedBefore = revokedUsers.get(token.userId());
+        if (revokedBefore != null && token.issuedAt().isBefore(revokedBefore)) {
+            return true;
+        }
+        return tokenFilter.mightContain(token.tokenId().toString())
+                && revokedTokens.containsKey(token.tokenId());
+    }
+
+    void revokeToken(UUID tokenId, Instant tokenExpiresAt) {
+        revokedTokens.put(tokenId, tokenExpiresAt);
+        tokenFilter.put(tokenId.toString());
+    }
+
+    void revokeUser(UUID userId, Instant revokedBefore) {
+        revokedUsers.merge(userId, revokedBefore, (current, candidate) -> current.isAfter(candidate) ? current : candidate);
+    }
+
+    int prune(Instant now, Duration maxTokenLifetime) {
+        int sizeBefore = size();
+        revokedTokens.values().removeIf(expiresAt -> !now.isBefore(expiresAt));
+        revokedUsers.values().removeIf(revokedBefore -> !now.isBefore(revokedBefore.plus(maxTokenLifetime)));
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revokedTokens.size() * 2L), FALSE_POSITIVE_RATE);
+        revokedTokens.keySet().forEach(tokenId -> rebuilt.put(tokenId.toString()));
+        tokenFilter = rebuilt;
+        // tokens revoked while rebuilding may have landed in the old filter only
+        revokedTokens.keySet().forEach(tokenId -> rebuilt.put(tokenId.toString()));
+
+        return sizeBefore - size();
+    }
+
+    int size() {
+        return revokedTokens.size() + revokedUsers.size();
+    }
+}
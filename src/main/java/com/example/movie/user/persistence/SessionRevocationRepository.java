@@ -0,0 +1,68 @@
+package com.example.movie.user.persistence;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+@ConditionalOnProperty(name = "movie.session.store", havingValue = "signed")
+public class SessionRevocationRepository {
+    private final JdbcClient jdbcClient;
+
+    public SessionRevocationRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    // issue times and revocation cutoffs are both read from here, so instances with skewed clocks still agree on their order
+    public Instant currentTime() {
+        return jdbcClient.sql("SELECT clock_timestamp()")
+                .query(Timestamp.class)
+                .single()
+                .toInstant();
+    }
+
+    public void insert(UUID tokenId, UUID userId, Instant revokedBefore, Instant expiresAt) {
+        jdbcClient.sql("""
+                        INSERT INTO session_revocations (token_id, user_id, revoked_before, expires_at)
+                        VALUES (:tokenId, :userId, :revokedBefore, :expiresAt)
+                        """)
+                .param("tokenId", tokenId, Types.OTHER)
+                .param("userId", userId, Types.OTHER)
+                .param("revokedBefore", revokedBefore != null ? Timestamp.from(revokedBefore) : null, Types.TIMESTAMP)
+                .param("expiresAt", Timestamp.from(expiresAt))
+                .update();
+    }
+
+    public void forEachActiveAfter(long after, Consumer<Revocation> consumer) {
+        jdbcClient.sql("""
+                        SELECT id, token_id, user_id, revoked_before, expires_at FROM session_revocations
+                        WHERE id > :after AND expires_at > now()
+                        ORDER BY id
+                        """)
+                .param("after", after)
+                .query(rs -> {
+                    Timestamp revokedBefore = rs.getTimestamp("revoked_before");
+                    consumer.accept(new Revocation(
+                            rs.getLong("id"),
+                            rs.getObject("token_id", UUID.class),
+                            rs.getObject("user_id", UUID.class),
+                            revokedBefore != null ? revokedBefore.toInstant() : null,
+                            rs.getTimestamp("expires_at").toInstant()));
+                });
+    }
+
+    public void deleteExpired(Instant now) {
+        jdbcClient.sql("DELETE FROM session_revocations WHERE expires_at <= :now")
+                .param("now", Timestamp.from(now))
+                .update();
+    }
+
+    public record Revocation(long id, UUID tokenId, UUID userId, Instant revokedBefore, Instant expiresAt) {
+    }
+}
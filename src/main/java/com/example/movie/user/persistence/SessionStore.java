@@ -0,0 +1,28 @@
+package com.example.movie.user.persistence;
+
+import com.example.movie.user.domain.model.SessionData;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+public interface SessionStore {
+    // stores that keep sessions replace the user's earlier ones; signed tokens are not kept, so earlier ones stay valid
+    String create(SessionData sessionData);
+
+    Optional<SessionData> findActive(String sessionId);
+
+    void remove(String sessionId);
+
+    void removeByUserId(UUID userId);
+
+    void updateRole(UUID userId, String role);
+
+    void evictExpired(Instant now);
+
+    // empty when the store keeps no record of live sessions
+    OptionalLong size();
+
+    long evictedCount();
+}
@@ -0,0 +1,10 @@
+package com.example.movie.user.persistence;
+
+import java.time.Instant;
+import java.util.UUID;
+
+record SessionToken(UUID tokenId, UUID userId, String role, Instant issuedAt, Instant expiresAt) {
+    boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
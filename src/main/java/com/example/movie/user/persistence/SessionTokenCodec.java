@@ -0,0 +1,91 @@
+package com.example.movie.user.persistence;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+class SessionTokenCodec {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int FIXED_PAYLOAD_BYTES = 1 + 16 + 16 + 8 + 8;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+
+    SessionTokenCodec(byte[] key) {
+        if (key.length < 32) {
+            throw new IllegalArgumentException("Session signing key must be at least 256 bits");
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    String encode(SessionToken token) {
+        byte[] role = token.role().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(FIXED_PAYLOAD_BYTES + role.length)
+                .put(VERSION)
+                .putLong(token.tokenId().getMostSignificantBits())
+                .putLong(token.tokenId().getLeastSignificantBits())
+                .putLong(token.userId().getMostSignificantBits())
+                .putLong(token.userId().getLeastSignificantBits())
+                .putLong(token.issuedAt().toEpochMilli())
+                .putLong(token.expiresAt().getEpochSecond())
+                .put(role);
+        byte[] payloadBytes = payload.array();
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    Optional<SessionToken> decode(String token) {
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator == token.length() - 1) {
+            return Optional.empty();
+        }
+
+        byte[] payloadBytes;
+        byte[] signature;
+        try {
+            payloadBytes = DECODER.decode(token.substring(0, separator));
+            signature = DECODER.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (payloadBytes.length < FIXED_PAYLOAD_BYTES || payloadBytes[0] != VERSION
+                || !MessageDigest.isEqual(sign(payloadBytes), signature)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer payload = ByteBuffer.wrap(payloadBytes, 1, payloadBytes.length - 1);
+        UUID tokenId = new UUID(payload.getLong(), payload.getLong());
+        UUID userId = new UUID(payload.getLong(), payload.getLong());
+        Instant issuedAt = Instant.ofEpochMilli(payload.getLong());
+        Instant expiresAt = Instant.ofEpochSecond(payload.getLong());
+        String role = new String(payloadBytes, FIXED_PAYLOAD_BYTES, payloadBytes.length - FIXED_PAYLOAD_BYTES,
+                StandardCharsets.UTF_8);
+        return Optional.of(new SessionToken(tokenId, userId, role, issuedAt, expiresAt));
+    }
+
+    private byte[] sign(byte[] payload) {
+        return newMac().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.movie.user.persistence;
+
+import com.example.movie.user.domain.model.SessionData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Repository
+@ConditionalOnProperty(name = "movie.session.store", havingValue = "signed")
+public class SignedSessionStore implements SessionStore {
+    private static final long REPLAY_WINDOW = 100;
+
+    private final SessionRevocationRepository revocationRepository;
+    private final SessionTokenCodec codec;
+    private final SessionRevocationList revocations;
+    private final Duration maxTokenLifetime;
+    private final AtomicLong lastSeenRevocationId = new AtomicLong();
+    private final LongAdder prunedRevocations = new LongAdder();
+
+    public SignedSessionStore(SessionRevocationRepository revocationRepository,
+                              @Value("${movie.session.signed.key:}") String signingKey,
+                              @Value("${movie.session.signed.max-token-lifetime:24h}") Duration maxTokenLifetime,
+                              @Value("${movie.session.signed.expected-revocations:100000}") long expectedRevocations) {
+        if (signingKey.isBlank()) {
+            throw new IllegalStateException("movie.session.signed.key is required when movie.session.store=signed");
+        }
+        this.revocationRepository = revocationRepository;
+        this.codec = new SessionTokenCodec(Base64.getDecoder().decode(signingKey));
+        this.revocations = new SessionRevocationList(expectedRevocations);
+        this.maxTokenLifetime = maxTokenLifetime;
+    }
+
+    @Override
+    public String create(SessionData sessionData) {
+        SessionToken token = new SessionToken(
+                UUID.randomUUID(),
+                sessionData.getUserId(),
+                sessionData.getRole(),
+                revocationRepository.currentTime().truncatedTo(ChronoUnit.MILLIS),
+                sessionData.getExpiresAt());
+        return codec.encode(token);
+    }
+
+    @Override
+    public Optional<SessionData> findActive(String sessionId) {
+        return codec.decode(sessionId)
+                .filter(token -> !token.isExpired(Instant.now()))
+                .filter(token -> !revocations.isRevoked(token))
+                .map(token -> new SessionData(token.userId(), token.role(), token.expiresAt()));
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        codec.decode(sessionId)
+                .filter(token -> !token.isExpired(Instant.now()))
+                .ifPresent(token -> {
+                    revocations.revokeToken(token.tokenId(), token.expiresAt());
+                    revocationRepository.insert(token.tokenId(), null, null, token.expiresAt());
+                });
+    }
+
+    @Override
+    public void removeByUserId(UUID userId) {
+        revokeUser(userId);
+    }
+
+    @Override
+    public void updateRole(UUID userId, String role) {
+        revokeUser(userId);
+    }
+
+    @Override
+    public void evictExpired(Instant now) {
+        prunedRevocations.add(revocations.prune(now, maxTokenLifetime));
+        revocationRepository.deleteExpired(now);
+    }
+
+    @Scheduled(fixedDelayString = "${movie.session.signed.revocation-poll-interval-ms:1000}")
+    public void pullRevocations() {
+        revocationRepository.forEachActiveAfter(lastSeenRevocationId.get() - REPLAY_WINDOW, revocation -> {
+            if (revocation.tokenId() != null) {
+                revocations.revokeToken(revocation.tokenId(), revocation.expiresAt());
+            }
+            if (revocation.userId() != null) {
+                revocations.revokeUser(revocation.userId(), revocation.revokedBefore());
+            }
+            lastSeenRevocationId.accumulateAndGet(revocation.id(), Math::max);
+        });
+    }
+
+    @Override
+    public OptionalLong size() {
+        // tokens are not stored anywhere, so live sessions cannot be counted; the revocation list is not a substitute
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public long evictedCount() {
+        return prunedRevocations.sum();
+    }
+
+    private void revokeUser(UUID userId) {
+        Instant revokedBefore = revocationRepository.currentTime().truncatedTo(ChronoUnit.MILLIS);
+        revocations.revokeUser(userId, revokedBefore);
+        revocationRepository.insert(null, userId, revokedBefore, revokedBefore.plus(maxTokenLifetime));
+    }
+}
@@ -28,4 +28,9 @@ class UserEntityMapper {
         return entity;
     }
 
+    static UserEntity toNewEntity(User user) {
+        UserEntity entity = toEntity(user);
+        entity.setNewEntity(true);
+        return entity;
+    }
 }
@@ -0,0 +1,65 @@
+package com.example.movie.user.persistence;
+
+import com.example.movie.application.CacheInvalidationBus;
+import com.example.movie.common.LocalCache;
+import com.example.movie.user.domain.model.UserView;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@Timed(value = "movie.repository", histogram = true)
+public class UserQueryRepository {
+    public static final String USERS_CHANNEL = "users_changed";
+
+    private static final String SELECT_USER_VIEW = """
+            SELECT id, username, email, role
+            FROM users
+            """;
+
+    private static final RowMapper<UserView> USER_VIEW = (rs, rowNum) -> new UserView(
+            rs.getObject("id", UUID.class),
+            rs.getString("username"),
+            rs.getString("email"),
+            rs.getString("role"));
+
+    private final JdbcClient jdbcClient;
+    private final LocalCache<UUID, UserView> cache;
+
+    public UserQueryRepository(JdbcClient jdbcClient,
+                               CacheInvalidationBus cacheInvalidationBus,
+                               @Value("${movie.cache.max-entries:100000}") int cacheMaxEntries) {
+        this.jdbcClient = jdbcClient;
+        this.cache = new LocalCache<>(cacheMaxEntries);
+        cacheInvalidationBus.register(USERS_CHANNEL, cache);
+    }
+
+    public Optional<UserView> findById(UUID id) {
+        return cache.get(id, this::load);
+    }
+
+    public List<UserView> findAllByIds(Collection<UUID> ids) {
+        return cache.getAll(ids, UserView::id, this::loadAll);
+    }
+
+    private Optional<UserView> load(UUID id) {
+        return jdbcClient.sql(SELECT_USER_VIEW + "WHERE id = :id")
+                .param("id", id)
+                .query(USER_VIEW)
+                .optional();
+    }
+
+    private List<UserView> loadAll(List<UUID> ids) {
+        return jdbcClient.sql(SELECT_USER_VIEW + "WHERE id = ANY(:ids)")
+                .param("ids", ids.toArray(UUID[]::new))
+                .query(USER_VIEW)
+                .list();
+    }
+}
@@ -1,24 +1,41 @@
 package com.example.movie.user.persistence;
 
+import com.example.movie.application.CacheInvalidationBus;
 import com.example.movie.user.domain.model.User;
 import com.example.movie.user.persistence.model.UserEntity;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
+@Timed(value = "movie.repository", histogram = true)
 public class UserRepository {
+    public static final String REGISTRATIONS_CHANNEL = "users_registered";
+
     private final JpaUserRepository jpaUserRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
-    public UserRepository(JpaUserRepository jpaUserRepository) {
+    public UserRepository(JpaUserRepository jpaUserRepository, CacheInvalidationBus cacheInvalidationBus) {
         this.jpaUserRepository = jpaUserRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    public User insert(User user) {
+        UserEntity saved = jpaUserRepository.save(UserEntityMapper.toNewEntity(user));
+        cacheInvalidationBus.publish(REGISTRATIONS_CHANNEL, saved.getId());
+        return UserEntityMapper.toDomain(saved);
     }
 
-    public User save(User user) {
+    public User update(User user) {
         UserEntity saved = jpaUserRepository.save(UserEntityMapper.toEntity(user));
+        cacheInvalidationBus.publish(UserQueryRepository.USERS_CHANNEL, saved.getId());
         return UserEntityMapper.toDomain(saved);
     }
 
@@ -36,4 +53,24 @@ public class UserRepository {
         return jpaUserRepository.findByUsername(username)
                 .map(UserEntityMapper::toDomain);
     }
+
+    public boolean existsByEmail(String email) {
+        return jpaUserRepository.existsByEmail(email);
+    }
+
+    public boolean existsByUsername(String username) {
+        return jpaUserRepository.existsByUsername(username);
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachUsernameAndEmail(BiConsumer<String, String> consumer) {
+        try (Stream<JpaUserRepository.UserIdentifiers> identifiers = jpaUserRepository.streamAllIdentifiers()) {
+            identifiers.forEach(identifier -> consumer.accept(identifier.getUsername(), identifier.getEmail()));
+        }
+    }
+
+    public void forEachUsernameAndEmail(Collection<UUID> ids, BiConsumer<String, String> consumer) {
+        jpaUserRepository.findIdentifiersByIds(ids)
+                .forEach(identifier -> consumer.accept(identifier.getUsername(), identifier.getEmail()));
+    }
 }
@@ -2,6 +2,7 @@ package com.example.movie.user.persistence.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -13,7 +14,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-public class UserEntity {
+public class UserEntity implements Persistable<UUID> {
     @Id
     @EqualsAndHashCode.Include
     private UUID id;
@@ -27,4 +28,18 @@ public class UserEntity {
     private String role;
 
     private Instant createdAt;
+
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
 }
\ No newline at end of file
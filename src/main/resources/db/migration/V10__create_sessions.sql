@@ -0,0 +1,9 @@
+CREATE UNLOGGED TABLE sessions
+(
+    id         TEXT PRIMARY KEY,
+    user_id    UUID                     NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_sessions_user_id ON sessions (user_id);
+CREATE INDEX idx_sessions_expires_at ON sessions (expires_at);
@@ -0,0 +1,2 @@
+ALTER TABLE sessions
+    ADD COLUMN role TEXT NOT NULL DEFAULT 'USER';
@@ -0,0 +1,11 @@
+CREATE TABLE session_revocations
+(
+    id             BIGSERIAL PRIMARY KEY,
+    token_id       UUID,
+    user_id        UUID,
+    revoked_before TIMESTAMP WITH TIME ZONE,
+    expires_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT revocation_target CHECK (token_id IS NOT NULL OR user_id IS NOT NULL)
+);
+
+CREATE INDEX idx_session_revocations_expires_at ON session_revocations (expires_at);
@@ -0,0 +1,23 @@
+CREATE TABLE posters
+(
+    sha256     BYTEA PRIMARY KEY,
+    content    BYTEA NOT NULL,
+    size_bytes INT   NOT NULL,
+    ref_count  INT   NOT NULL CHECK (ref_count >= 0)
+);
+
+INSERT INTO posters (sha256, content, size_bytes, ref_count)
+SELECT DISTINCT ON (hash) hash, poster_image, length(poster_image), count(*) OVER (PARTITION BY hash)
+FROM (SELECT sha256(poster_image) AS hash, poster_image FROM movies WHERE poster_image IS NOT NULL) AS movie_posters;
+
+ALTER TABLE movies
+    ADD COLUMN poster_sha256 BYTEA REFERENCES posters (sha256);
+
+UPDATE movies
+SET poster_sha256 = sha256(poster_image)
+WHERE poster_image IS NOT NULL;
+
+ALTER TABLE movies
+    DROP COLUMN poster_image;
+
+CREATE INDEX idx_movies_poster_sha256 ON movies (poster_sha256);
@@ -0,0 +1,15 @@
+-- Adding a stored generated column rewrites the table under an ACCESS EXCLUSIVE lock, so reads and writes of
+-- reviews and super_reviews wait until each ALTER finishes. The GIN indexes are built separately, without blocking
+-- writes, in V15.
+ALTER TABLE reviews
+    ADD COLUMN search_vector TSVECTOR
+        GENERATED ALWAYS AS (setweight(to_tsvector('english', coalesce(comment, '')), 'B')) STORED;
+
+ALTER TABLE super_reviews
+    ADD COLUMN search_vector TSVECTOR
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(detailed_comment, '')), 'B') ||
+            setweight(to_tsvector('english', coalesce(pros, '')), 'C') ||
+            setweight(to_tsvector('english', coalesce(cons, '')), 'C')
+        ) STORED;
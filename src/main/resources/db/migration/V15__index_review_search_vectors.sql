@@ -0,0 +1,6 @@
+-- CREATE INDEX CONCURRENTLY cannot run inside a transaction, so Flyway runs this script without one.
+-- It keeps reviews writable while the index builds. If a build fails, it leaves an INVALID index behind.
+-- Drop that index before running the migration again.
+CREATE INDEX CONCURRENTLY idx_reviews_search_vector ON reviews USING GIN (search_vector);
+
+CREATE INDEX CONCURRENTLY idx_super_reviews_search_vector ON super_reviews USING GIN (search_vector);
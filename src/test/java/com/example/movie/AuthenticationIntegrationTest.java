@@ -190,6 +190,27 @@ class AuthenticationIntegrationTest {
         assertThat(movie2.getTitle()).isEqualTo("User2 Movie");
     }
 
+    @Test
+    @Order(6)
+    @DisplayName("Test Login Rate Limit Keys On Forwarded Client Address")
+    void testLoginRateLimitKeysOnForwardedClientAddress() {
+        HttpStatusCode lastStatus = null;
+        for (int i = 0; i <= 30; i++) {
+            lastStatus = loginFrom("203.0.113.7", "flooder" + i + "@test.com").getStatusCode();
+        }
+        assertThat(lastStatus).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        assertThat(loginFrom("203.0.113.8", "bystander@test.com").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private ResponseEntity<LoginResponse> loginFrom(String clientAddress, String email) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", clientAddress);
+        return restTemplate.exchange(baseUrl + "/api/auth/login", HttpMethod.POST,
+                new HttpEntity<>(new LoginRequest(email, "wrong-password"), headers), LoginResponse.class);
+    }
+
     private void testProtectedEndpointsWithoutSession() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -0,0 +1,259 @@
+package com.example.movie;
+
+import com.example.movie.application.CacheInvalidationBus;
+import com.example.movie.movie.api.model.AddMovieRequest;
+import com.example.movie.movie.api.model.MovieResponse;
+import com.example.movie.user.api.model.ChangeUserRoleRequest;
+import com.example.movie.user.api.model.LoginRequest;
+import com.example.movie.user.api.model.LoginResponse;
+import com.example.movie.user.api.model.RegisterUserRequest;
+import com.example.movie.user.api.model.UserResponse;
+import com.example.movie.user.domain.UserAvailabilityUseCase;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@Testcontainers
+class CacheInvalidationIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.0")
+            .withDatabaseName("db_MovieApp_Cache")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    private final TestRestTemplate restTemplate = new TestRestTemplate();
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @BeforeEach
+    void waitForListeners() {
+        await().atMost(Duration.ofSeconds(10)).until(() -> bus(nodeA).isListening() && bus(nodeB).isListening());
+    }
+
+    @Test
+    @DisplayName("Role change on one node evicts the cached user on the other")
+    void shouldEvictUserCachedOnOtherNode() {
+        UserResponse user = registerUser(nodeA, "cacheuser", "cache@test.com");
+        String sessionA = login(nodeA, "cache@test.com", "password123");
+        assertThat(getUser(nodeA, sessionA, user.getId()).getRole()).isEqualTo("USER");
+
+        changeRole(nodeB, login(nodeB, "admin@movieapp.com", "admin123"), user.getId(), "SUPER_REVIEWER");
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> "SUPER_REVIEWER".equals(getUser(nodeA, sessionA, user.getId()).getRole()));
+        assertThat(bus(nodeA).getReceivedNotificationCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Poster upload on one node evicts the cached movie on the other")
+    void shouldEvictMovieCachedOnOtherNode() {
+        registerUser(nodeA, "posteruser", "poster@test.com");
+        // sessions live in the shared table, and a new login ends the previous one, so both nodes use the same session
+        String sessionA = login(nodeA, "poster@test.com", "password123");
+        String sessionB = sessionA;
+        MovieResponse movie = createMovie(nodeA, sessionA, "Cached Title");
+        assertThat(getMovie(nodeA, sessionA, movie.getId()).getPosterUrl()).isNull();
+
+        jdbcTemplate(nodeA).update("UPDATE movies SET title = 'Changed Behind Cache' WHERE id = ?", movie.getId());
+        assertThat(getMovie(nodeA, sessionA, movie.getId()).getTitle()).isEqualTo("Cached Title");
+
+        uploadPoster(nodeB, sessionB, movie.getId());
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> getMovie(nodeA, sessionA, movie.getId()).getPosterUrl() != null);
+        assertThat(getMovie(nodeA, sessionA, movie.getId()).getTitle()).isEqualTo("Changed Behind Cache");
+    }
+
+    @Test
+    @DisplayName("Logout on one node evicts the session near-cached on the other")
+    void shouldEvictSessionNearCachedOnOtherNode() {
+        UserResponse user = registerUser(nodeA, "sessionuser", "session@test.com");
+        String session = login(nodeA, "session@test.com", "password123");
+        assertThat(getUser(nodeA, session, user.getId()).getId()).isEqualTo(user.getId());
+        assertThat(getUser(nodeB, session, user.getId()).getId()).isEqualTo(user.getId());
+
+        logout(nodeB, session);
+
+        // the near-cache TTL is an hour here, so only the notification can make node A forget the session
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> userStatus(nodeA, session, user.getId()) == HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("Registration on one node is reported taken on the other")
+    void shouldReportRegistrationOnOtherNodeAsTaken() {
+        UserAvailabilityUseCase availabilityB = nodeB.getBean(UserAvailabilityUseCase.class);
+        // node B rebuilds its filter in the background after subscribing, and answers from the index until then
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            long definitelyFree = availabilityB.getDefinitelyFreeCount();
+            availabilityB.isUsernameAvailable("probe-" + UUID.randomUUID());
+            return availabilityB.getDefinitelyFreeCount() > definitelyFree;
+        });
+        assertThat(availabilityB.isUsernameAvailable("elsewhere")).isTrue();
+
+        registerUser(nodeA, "elsewhere", "elsewhere@test.com");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> !availabilityB.isUsernameAvailable("elsewhere"));
+        assertThat(availabilityB.isEmailAvailable("elsewhere@test.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Listener reconnect flushes everything cached before the connection was lost")
+    void shouldFlushCacheAfterListenerReconnects() {
+        registerUser(nodeA, "reconnectuser", "reconnect@test.com");
+        String sessionA = login(nodeA, "reconnect@test.com", "password123");
+        MovieResponse movie = createMovie(nodeA, sessionA, "Before Reconnect");
+        assertThat(getMovie(nodeA, sessionA, movie.getId()).getTitle()).isEqualTo("Before Reconnect");
+        long resubscriptions = bus(nodeA).getResubscriptionCount();
+
+        jdbcTemplate(nodeA).update("UPDATE movies SET title = 'After Reconnect' WHERE id = ?", movie.getId());
+        jdbcTemplate(nodeA).queryForList(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = 'movie-cache-invalidation'");
+
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> bus(nodeA).getResubscriptionCount() > resubscriptions && bus(nodeA).isListening());
+        assertThat(getMovie(nodeA, sessionA, movie.getId()).getTitle()).isEqualTo("After Reconnect");
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(MovieAppApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--movie.cache.enabled=true",
+                "--movie.cache.reconnect-delay=100ms",
+                "--movie.session.store=postgres",
+                "--movie.session.near-cache.ttl=1h");
+    }
+
+    private static CacheInvalidationBus bus(ConfigurableApplicationContext node) {
+        return node.getBean(CacheInvalidationBus.class);
+    }
+
+    private static JdbcTemplate jdbcTemplate(ConfigurableApplicationContext node) {
+        return node.getBean(JdbcTemplate.class);
+    }
+
+    private static String baseUrl(ConfigurableApplicationContext node) {
+        return "http://localhost:" + ((WebServerApplicationContext) node).getWebServer().getPort();
+    }
+
+    private UserResponse registerUser(ConfigurableApplicationContext node, String username, String email) {
+        RegisterUserRequest request = RegisterUserRequest.builder()
+                .withUsername(username)
+                .withEmail(email)
+                .withPassword("password123")
+                .build();
+        ResponseEntity<UserResponse> response = restTemplate.postForEntity(
+                baseUrl(node) + "/api/users", request, UserResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private String login(ConfigurableApplicationContext node, String email, String password) {
+        ResponseEntity<LoginResponse> response = restTemplate.postForEntity(
+                baseUrl(node) + "/api/auth/login", new LoginRequest(email, password), LoginResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody().getSessionId();
+    }
+
+    private UserResponse getUser(ConfigurableApplicationContext node, String sessionId, UUID userId) {
+        ResponseEntity<UserResponse> response = restTemplate.exchange(
+                baseUrl(node) + "/api/users/" + userId, HttpMethod.GET, new HttpEntity<>(sessionHeaders(sessionId)), UserResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private HttpStatusCode userStatus(ConfigurableApplicationContext node, String sessionId, UUID userId) {
+        return restTemplate.exchange(baseUrl(node) + "/api/users/" + userId, HttpMethod.GET,
+                new HttpEntity<>(sessionHeaders(sessionId)), String.class).getStatusCode();
+    }
+
+    private void logout(ConfigurableApplicationContext node, String sessionId) {
+        ResponseEntity<Void> response = restTemplate.exchange(
+                baseUrl(node) + "/api/auth/logout", HttpMethod.POST, new HttpEntity<>(sessionHeaders(sessionId)), Void.class);
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+    }
+
+    private void changeRole(ConfigurableApplicationContext node, String sessionId, UUID userId, String role) {
+        HttpHeaders headers = sessionHeaders(sessionId);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<UserResponse> response = restTemplate.exchange(
+                baseUrl(node) + "/api/users/admin/change-role", HttpMethod.POST,
+                new HttpEntity<>(new ChangeUserRoleRequest(userId, role), headers), UserResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private MovieResponse createMovie(ConfigurableApplicationContext node, String sessionId, String title) {
+        HttpHeaders headers = sessionHeaders(sessionId);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        AddMovieRequest request = new AddMovieRequest(title, 2001, 120, "Description", "https://www.youtube.com/watch?v=trailer");
+        ResponseEntity<MovieResponse> response = restTemplate.exchange(
+                baseUrl(node) + "/api/movies", HttpMethod.POST, new HttpEntity<>(request, headers), MovieResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private MovieResponse getMovie(ConfigurableApplicationContext node, String sessionId, UUID movieId) {
+        ResponseEntity<MovieResponse> response = restTemplate.exchange(
+                baseUrl(node) + "/api/movies/" + movieId, HttpMethod.GET, new HttpEntity<>(sessionHeaders(sessionId)), MovieResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private void uploadPoster(ConfigurableApplicationContext node, String sessionId, UUID movieId) {
+        HttpHeaders headers = sessionHeaders(sessionId);
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("posterImage", new ByteArrayResource(new byte[]{1, 2, 3}) {
+            @Override
+            public String getFilename() {
+                return "poster.png";
+            }
+        });
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl(node) + "/api/movies/" + movieId + "/poster", HttpMethod.POST, new HttpEntity<>(body, headers), String.class);
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+    }
+
+    private HttpHeaders sessionHeaders(String sessionId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Session-Id", sessionId);
+        return headers;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.movie;
+
+import com.example.movie.movie.api.model.AddMovieRequest;
+import com.example.movie.movie.api.model.MovieResponse;
+import com.example.movie.review.api.model.AddReviewRequest;
+import com.example.movie.review.api.model.ReviewResponse;
+import com.example.movie.review.api.model.UpdateReviewRequest;
+import com.example.movie.superreview.api.model.AddSuperReviewRequest;
+import com.example.movie.user.api.model.LoginRequest;
+import com.example.movie.user.api.model.LoginResponse;
+import com.example.movie.user.api.model.RegisterUserRequest;
+import com.example.movie.user.api.model.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.*;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+@Testcontainers
+class MetricsIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.0")
+            .withDatabaseName("db_MovieApp_Metrics")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port;
+    }
+
+    @Test
+    @DisplayName("Test Prometheus Scrape After Exercising Every Route")
+    void testPrometheusScrapeAfterExercisingEveryRoute() {
+        RegisterUserRequest registerRequest = RegisterUserRequest.builder()
+                .withUsername("metricsuser")
+                .withEmail("metrics@test.com")
+                .withPassword("password123")
+                .build();
+        UserResponse user = restTemplate.postForEntity(baseUrl + "/api/users", registerRequest, UserResponse.class).getBody();
+        assertThat(user).isNotNull();
+
+        LoginResponse login = restTemplate.postForEntity(baseUrl + "/api/auth/login",
+                new LoginRequest("metrics@test.com", "password123"), LoginResponse.class).getBody();
+        assertThat(login).isNotNull();
+        String sessionId = login.getSessionId();
+
+        exchange(HttpMethod.GET, "/api/users/availability?username=metricsuser", null, sessionId, String.class);
+        exchange(HttpMethod.GET, "/api/users/" + user.getId(), null, sessionId, String.class);
+        exchange(HttpMethod.GET, "/api/users?ids=" + user.getId(), null, sessionId, String.class);
+
+        MovieResponse movie = exchange(HttpMethod.POST, "/api/movies",
+                new AddMovieRequest("Metrics Movie", 2020, 100, "Description", "https://example.com"),
+                sessionId, MovieResponse.class).getBody();
+        assertThat(movie).isNotNull();
+        exchange(HttpMethod.GET, "/api/movies/" + movie.getId(), null, sessionId, String.class);
+        exchange(HttpMethod.GET, "/api/movies?ids=" + movie.getId(), null, sessionId, String.class);
+
+        ReviewResponse review = exchange(HttpMethod.POST, "/api/reviews",
+                new AddReviewRequest(movie.getId(), 8, "Good"), sessionId, ReviewResponse.class).getBody();
+        assertThat(review).isNotNull();
+        exchange(HttpMethod.GET, "/api/reviews/" + review.getId(), null, sessionId, String.class);
+        exchange(HttpMethod.GET, "/api/reviews?ids=" + review.getId(), null, sessionId, String.class);
+        exchange(HttpMethod.GET, "/api/reviews/movie/" + movie.getId(), null, sessionId, String.class);
+        exchange(HttpMethod.PUT, "/api/reviews/" + review.getId(), new UpdateReviewRequest("Better", 9), sessionId, String.class);
+        exchange(HttpMethod.DELETE, "/api/reviews/" + review.getId(), null, sessionId, String.class);
+
+        AddSuperReviewRequest superReviewRequest = new AddSuperReviewRequest(
+                movie.getId(), 8, 7, 9, 8, 6, "Title", "Detailed", "Pros", "Cons", true);
+        exchange(HttpMethod.POST, "/api/super-reviews", superReviewRequest, sessionId, String.class);
+        exchange(HttpMethod.GET, "/api/super-reviews/" + UUID.randomUUID(), null, sessionId, String.class);
+        exchange(HttpMethod.GET, "/api/super-reviews?ids=" + UUID.randomUUID(), null, sessionId, String.class);
+
+        exchange(HttpMethod.POST, "/api/auth/logout", null, sessionId, String.class);
+
+        ResponseEntity<String> anonymousScrape = restTemplate.getForEntity(baseUrl + "/actuator/prometheus", String.class);
+        assertThat(anonymousScrape.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        LoginResponse adminLogin = restTemplate.postForEntity(baseUrl + "/api/auth/login",
+                new LoginRequest("admin@movieapp.com", "admin123"), LoginResponse.class).getBody();
+        assertThat(adminLogin).isNotNull();
+        ResponseEntity<String> scrape = exchange(HttpMethod.GET, "/actuator/prometheus", null, adminLogin.getSessionId(), String.class);
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<String> lines = scrape.getBody().lines().toList();
+
+        assertThat(lines).anyMatch(line -> line.startsWith("http_server_requests_seconds_bucket")
+                && line.contains("uri=\"/api/movies/{movieId}\""));
+        assertThat(lines).anyMatch(line -> line.startsWith("http_server_requests_seconds_count")
+                && line.contains("uri=\"/api/reviews/{reviewId}\"") && line.contains("method=\"PUT\""));
+        assertThat(lines).anyMatch(line -> line.startsWith("movie_usecase_seconds_bucket")
+                && line.contains("class=\"com.example.movie.movie.domain.AddMovieUseCase\""));
+        assertThat(lines).anyMatch(line -> line.startsWith("movie_usecase_seconds_count")
+                && line.contains("class=\"com.example.movie.user.domain.SessionService\""));
+        assertThat(lines).anyMatch(line -> line.startsWith("movie_repository_seconds_count")
+                && line.contains("class=\"com.example.movie.review.persistence.ReviewRepository\""));
+        assertThat(lines).anyMatch(line -> line.startsWith("hikaricp_connections_active"));
+        assertThat(lines).anyMatch(line -> line.startsWith("movie_sessions_active"));
+        assertThat(lines).anyMatch(line -> line.startsWith("movie_login_attempts_total"));
+    }
+
+    private <T> ResponseEntity<T> exchange(HttpMethod method, String path, Object body, String sessionId, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Session-Id", sessionId);
+        return restTemplate.exchange(baseUrl + path, method, new HttpEntity<>(body, headers), responseType);
+    }
+}
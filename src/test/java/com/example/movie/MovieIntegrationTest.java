@@ -2,6 +2,7 @@ package com.example.movie;
 
 import com.example.movie.movie.api.model.AddMovieRequest;
 import com.example.movie.movie.api.model.MovieResponse;
+import com.example.movie.movie.domain.PosterUseCase;
 import com.example.movie.user.api.model.LoginRequest;
 import com.example.movie.user.api.model.LoginResponse;
 import com.example.movie.user.api.model.RegisterUserRequest;
@@ -12,13 +13,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -43,6 +52,9 @@ class MovieIntegrationTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private PosterUseCase posterUseCase;
+
     private String baseUrl;
     private String userSessionId;
     private UUID userId;
@@ -79,6 +91,109 @@ class MovieIntegrationTest {
         verifyMovieInDatabase(movie.getId(), "The Matrix", 1999, 136);
     }
 
+    @Test
+    @Order(2)
+    @DisplayName("Test Conditional Movie Retrieval With ETag")
+    void testConditionalMovieRetrievalWithETag() {
+        UserResponse user = registerUser("etaguser", "etag@test.com", "password123");
+        userId = user.getId();
+        userSessionId = loginUser("etag@test.com", "password123").getSessionId();
+        MovieResponse movie = createMovie("Inception", 2010, 148, "A thief who steals corporate secrets.", null);
+
+        ResponseEntity<MovieResponse> first = getMovieWithETag(movie.getId(), null);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String eTag = first.getHeaders().getETag();
+        assertThat(eTag).startsWith("W/\"");
+        assertThat(first.getHeaders().getCacheControl()).contains("no-cache");
+
+        ResponseEntity<MovieResponse> unchanged = getMovieWithETag(movie.getId(), eTag);
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(unchanged.getBody()).isNull();
+        assertThat(unchanged.getHeaders().getETag()).isEqualTo(eTag);
+
+        uploadPoster(movie.getId());
+
+        ResponseEntity<MovieResponse> changed = getMovieWithETag(movie.getId(), eTag);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getBody().getPosterUrl()).isNotNull();
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test Poster Deduplication And Garbage Collection")
+    void testPosterDeduplicationAndGarbageCollection() {
+        registerUser("posteruser", "poster@test.com", "password123");
+        userSessionId = loginUser("poster@test.com", "password123").getSessionId();
+        MovieResponse first = createMovie("Key Art One", 2011, 100, "First", null);
+        MovieResponse second = createMovie("Key Art Two", 2012, 100, "Second", null);
+        byte[] sharedKeyArt = {10, 20, 30};
+        byte[] newKeyArt = {40, 50};
+
+        uploadPoster(first.getId(), sharedKeyArt);
+        uploadPoster(second.getId(), sharedKeyArt);
+        uploadPoster(second.getId(), sharedKeyArt);
+
+        assertThat(posterReferences(sharedKeyArt)).containsExactly(2);
+        assertThat(getMovieById(second.getId()).getPosterUrl()).isNotNull();
+
+        uploadPoster(first.getId(), newKeyArt);
+        uploadPoster(second.getId(), newKeyArt);
+        assertThat(posterReferences(sharedKeyArt)).containsExactly(0);
+
+        posterUseCase.collectGarbage();
+
+        assertThat(posterReferences(sharedKeyArt)).isEmpty();
+        assertThat(posterReferences(newKeyArt)).containsExactly(2);
+        assertThat(posterUseCase.getCollectedPosterCount()).isPositive();
+        assertThat(posterUseCase.getSavedBytes()).isGreaterThanOrEqualTo(newKeyArt.length);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test Concurrent Poster Uploads Keep Reference Counts Exact")
+    void testConcurrentPosterUploadsKeepReferenceCountsExact() throws Exception {
+        userSessionId = loginUser("poster@test.com", "password123").getSessionId();
+        MovieResponse movie = createMovie("Contested Key Art", 2013, 100, "Raced", null);
+        MovieResponse other = createMovie("Swapped Key Art", 2014, 100, "Raced", null);
+        byte[] initial = {60, 61};
+        uploadPoster(movie.getId(), initial);
+        List<byte[]> images = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            images.add(new byte[]{70, (byte) i});
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> uploads = new ArrayList<>();
+            for (byte[] image : images) {
+                uploads.add(executor.submit(() -> uploadPoster(movie.getId(), image)));
+                // the other movie flips between two images other uploads also use, so poster rows are locked in both orders
+                uploads.add(executor.submit(() -> uploadPoster(other.getId(), images.get(image[1] % 2))));
+            }
+            for (Future<?> upload : uploads) {
+                upload.get();
+            }
+        }
+
+        List<byte[]> involved = new ArrayList<>(images);
+        involved.add(initial);
+        int totalReferences = involved.stream()
+                .flatMap(image -> posterReferences(image).stream())
+                .mapToInt(Integer::intValue)
+                .sum();
+        assertThat(totalReferences).isEqualTo(2);
+        assertThat(posterReferences(initial)).containsExactly(0);
+        Integer miscounted = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM posters p
+                WHERE p.ref_count <> (SELECT count(*) FROM movies m WHERE m.poster_sha256 = p.sha256)
+                """, Integer.class);
+        assertThat(miscounted).isZero();
+
+        posterUseCase.collectGarbage();
+
+        assertThat(involved.stream().mapToInt(image -> posterReferences(image).size()).sum()).isLessThanOrEqualTo(2);
+    }
+
     private void setupUserSession() {
         UserResponse user = registerUser("movieuser", "movie@test.com", "password123");
         userId = user.getId();
@@ -130,6 +245,41 @@ class MovieIntegrationTest {
         return response.getBody();
     }
 
+    private ResponseEntity<MovieResponse> getMovieWithETag(UUID movieId, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Session-Id", userSessionId);
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return restTemplate.exchange(
+                baseUrl + "/api/movies/" + movieId, HttpMethod.GET, new HttpEntity<>(headers), MovieResponse.class);
+    }
+
+    private void uploadPoster(UUID movieId) {
+        uploadPoster(movieId, new byte[]{1, 2, 3});
+    }
+
+    private void uploadPoster(UUID movieId, byte[] content) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        headers.set("Session-Id", userSessionId);
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("posterImage", new ByteArrayResource(content) {
+            @Override
+            public String getFilename() {
+                return "poster.png";
+            }
+        });
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "/api/movies/" + movieId + "/poster", HttpMethod.POST, new HttpEntity<>(body, headers), String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private List<Integer> posterReferences(byte[] content) {
+        return jdbcTemplate.queryForList("SELECT ref_count FROM posters WHERE sha256 = sha256(?)", Integer.class, content);
+    }
+
     private void verifyMovieInDatabase(UUID movieId, String title, Integer year, Integer duration) {
         String sql = "SELECT COUNT(*) FROM movies WHERE id = ? AND title = ? AND release_year = ? AND duration_minutes = ?";
         Integer count = jdbcTemplate.queryForObject(sql, Integer.class, movieId, title, year, duration);
@@ -0,0 +1,103 @@
+package com.example.movie;
+
+import com.example.movie.movie.domain.model.Movie;
+import com.example.movie.movie.persistence.MovieRepository;
+import com.example.movie.review.domain.model.Review;
+import com.example.movie.review.persistence.ReviewRepository;
+import com.example.movie.superreview.domain.model.SuperReview;
+import com.example.movie.superreview.persistence.SuperReviewRepository;
+import com.example.movie.user.domain.model.User;
+import com.example.movie.user.persistence.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Testcontainers
+class PersistenceQueryCountIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.0")
+            .withDatabaseName("db_MovieApp_QueryCount")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private SuperReviewRepository superReviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Test Creates Issue A Single Insert")
+    void testCreatesIssueASingleInsert() {
+        User user = insertAndCount(() -> userRepository.insert(
+                User.createNewUser("counted" + UUID.randomUUID(), UUID.randomUUID() + "@test.com", "hash")));
+        Movie movie = insertAndCount(() -> movieRepository.insert(
+                Movie.addNewMovie("Counted Movie", 2020, 100, "Description", "https://example.com", null)));
+        insertAndCount(() -> reviewRepository.insert(
+                Review.addNewReview(movie.getId().value(), user.getId().value(), 8, "Good")));
+        insertAndCount(() -> superReviewRepository.insert(
+                SuperReview.addNewSuperReview(movie.getId().value(), user.getId().value(),
+                        8, 7, 9, 8, 6, "Title", "Detailed", "Pros", "Cons", true)));
+    }
+
+    @Test
+    @DisplayName("Test Update Loads And Updates Existing Row")
+    void testUpdateLoadsAndUpdatesExistingRow() {
+        User user = userRepository.insert(
+                User.createNewUser("updated" + UUID.randomUUID(), UUID.randomUUID() + "@test.com", "hash"));
+        statistics.clear();
+
+        User updated = userRepository.update(user.changeRole("SUPER_REVIEWER"));
+
+        assertThat(updated.getRole()).isEqualTo("SUPER_REVIEWER");
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(userRepository.findById(user.getId().value())).get()
+                .extracting(User::getRole).isEqualTo("SUPER_REVIEWER");
+    }
+
+    private <T> T insertAndCount(Supplier<T> insert) {
+        statistics.clear();
+
+        T saved = insert.get();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        return saved;
+    }
+}
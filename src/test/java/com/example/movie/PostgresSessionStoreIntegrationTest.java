@@ -0,0 +1,101 @@
+package com.example.movie;
+
+import com.example.movie.user.domain.model.SessionData;
+import com.example.movie.user.persistence.SessionStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "movie.session.store=postgres",
+        "movie.session.near-cache.ttl=1h",
+        "movie.session.near-cache.max-entries=2",
+        "movie.session.eviction-interval-ms=3600000"
+})
+@Testcontainers
+class PostgresSessionStoreIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.0")
+            .withDatabaseName("db_MovieApp_Sessions")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearSessions() {
+        jdbcTemplate.update("DELETE FROM sessions");
+        sessionStore.evictExpired(Instant.now().plusSeconds(365L * 24 * 3600));
+    }
+
+    @Test
+    @DisplayName("Near-cache serves a session without the table until it is removed")
+    void shouldServeNearCachedSessionUntilRemoved() {
+        String sessionId = sessionStore.create(SessionData.create(UUID.randomUUID(), "USER", 24));
+        jdbcTemplate.update("UPDATE sessions SET role = 'ADMIN' WHERE id = ?", sessionId);
+
+        assertThat(sessionStore.findActive(sessionId)).hasValueSatisfying(data -> assertThat(data.getRole()).isEqualTo("USER"));
+
+        sessionStore.remove(sessionId);
+
+        assertThat(sessionStore.findActive(sessionId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Full near-cache evicts the least recently used session and keeps caching new ones")
+    void shouldEvictLeastRecentlyUsedSessionWhenFull() {
+        String first = sessionStore.create(SessionData.create(UUID.randomUUID(), "USER", 24));
+        String second = sessionStore.create(SessionData.create(UUID.randomUUID(), "USER", 24));
+        sessionStore.findActive(first);
+        String third = sessionStore.create(SessionData.create(UUID.randomUUID(), "USER", 24));
+
+        // with the rows gone, only what is still near-cached can be found
+        jdbcTemplate.update("DELETE FROM sessions");
+
+        assertThat(sessionStore.findActive(first)).isPresent();
+        assertThat(sessionStore.findActive(third)).isPresent();
+        assertThat(sessionStore.findActive(second)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Role change drops the user's near-cached sessions")
+    void shouldReloadSessionAfterRoleChange() {
+        UUID userId = UUID.randomUUID();
+        String sessionId = sessionStore.create(SessionData.create(userId, "USER", 24));
+
+        sessionStore.updateRole(userId, "SUPER_REVIEWER");
+
+        assertThat(sessionStore.findActive(sessionId)).hasValueSatisfying(data -> assertThat(data.getRole()).isEqualTo("SUPER_REVIEWER"));
+    }
+
+    @Test
+    @DisplayName("Session count is refreshed by the expiry sweep, not on every read")
+    void shouldReportSessionCountFromLastSweep() {
+        sessionStore.create(SessionData.create(UUID.randomUUID(), "USER", 24));
+        sessionStore.create(SessionData.create(UUID.randomUUID(), "USER", 24));
+
+        assertThat(sessionStore.size()).hasValue(0);
+
+        sessionStore.evictExpired(Instant.now());
+
+        assertThat(sessionStore.size()).hasValue(2);
+    }
+}
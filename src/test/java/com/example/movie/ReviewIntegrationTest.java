@@ -2,8 +2,13 @@ package com.example.movie;
 
 import com.example.movie.movie.api.model.AddMovieRequest;
 import com.example.movie.movie.api.model.MovieResponse;
+import com.example.movie.recommendation.api.model.RecommendationResponse;
+import com.example.movie.recommendation.api.model.RecommendedMovieResponse;
+import com.example.movie.recommendation.domain.RecommendationUseCase;
 import com.example.movie.review.api.model.AddReviewRequest;
 import com.example.movie.review.api.model.ReviewResponse;
+import com.example.movie.review.api.model.ReviewSearchHit;
+import com.example.movie.review.api.model.ReviewSearchResponse;
 import com.example.movie.user.api.model.LoginRequest;
 import com.example.movie.user.api.model.LoginResponse;
 import com.example.movie.user.api.model.RegisterUserRequest;
@@ -21,6 +26,8 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,6 +56,9 @@ class ReviewIntegrationTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private RecommendationUseCase recommendationUseCase;
+
     private String baseUrl;
     private String adminSessionId;
     private String user1SessionId;
@@ -77,6 +87,88 @@ class ReviewIntegrationTest {
         verifyReviewInDatabase(review.getId(), movieId, user1Id, 8);
     }
 
+    @Test
+    @Order(2)
+    @DisplayName("Test Recommendations Follow New Reviews")
+    void testRecommendationsFollowNewReviews() {
+        adminSessionId = loginAsAdmin().getSessionId();
+        UUID drama = createMovie("Recommendation Drama", 2020, 110, "Drama", "http://test-trailer.com", adminSessionId).getId();
+        UUID comedy = createMovie("Recommendation Comedy", 2021, 95, "Comedy", "http://test-trailer.com", adminSessionId).getId();
+        UUID sequel = createMovie("Recommendation Drama II", 2022, 115, "Sequel", "http://test-trailer.com", adminSessionId).getId();
+
+        registerUser("recommender1", "recommender1@test.com", "password123");
+        String recommender1 = loginUser("recommender1@test.com", "password123").getSessionId();
+        registerUser("recommender2", "recommender2@test.com", "password123");
+        String recommender2 = loginUser("recommender2@test.com", "password123").getSessionId();
+        UUID targetId = registerUser("recommended", "recommended@test.com", "password123").getId();
+        String target = loginUser("recommended@test.com", "password123").getSessionId();
+
+        createReview(drama, recommender1, 9, "Loved it");
+        createReview(comedy, recommender1, 2, "Not funny");
+        createReview(sequel, recommender1, 9, "As good as the first");
+        createReview(drama, recommender2, 10, "Masterpiece");
+        createReview(comedy, recommender2, 1, "Awful");
+        createReview(sequel, recommender2, 8, "Great");
+        createReview(drama, target, 9, "Very good");
+        createReview(comedy, target, 2, "Meh");
+        recommendationUseCase.refreshNeighbours();
+
+        ResponseEntity<RecommendationResponse> response = restTemplate.exchange(
+                baseUrl + "/api/users/" + targetId + "/recommendations", HttpMethod.GET,
+                new HttpEntity<>(sessionHeaders(target)), RecommendationResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getMovies()).extracting(RecommendedMovieResponse::getMovieId).containsExactly(sequel);
+        assertThat(response.getBody().getMovies().get(0).getPredictedRating()).isGreaterThan(5.5);
+
+        ResponseEntity<RecommendationResponse> foreign = restTemplate.exchange(
+                baseUrl + "/api/users/" + targetId + "/recommendations", HttpMethod.GET,
+                new HttpEntity<>(sessionHeaders(recommender1)), RecommendationResponse.class);
+        assertThat(foreign.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test Full-Text Search Over Review Comments")
+    void testFullTextSearchOverReviewComments() {
+        adminSessionId = loginAsAdmin().getSessionId();
+        UUID searched = createMovie("Search Movie", 2019, 130, "Musical", "http://test-trailer.com", adminSessionId).getId();
+        UUID other = createMovie("Other Search Movie", 2018, 100, "Musical", "http://test-trailer.com", adminSessionId).getId();
+
+        List<String> sessions = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            registerUser("searcher" + i, "searcher" + i + "@test.com", "password123");
+            sessions.add(loginUser("searcher" + i + "@test.com", "password123").getSessionId());
+        }
+        UUID haunting = createReview(searched, sessions.get(0), 9, "The soundtrack is haunting and the soundtrack alone is worth it").getId();
+        createReview(searched, sessions.get(1), 7, "Decent plot, the soundtrack <b>carries</b> the slower scenes");
+        createReview(searched, sessions.get(2), 6, "Nice soundtracks but a weak ending");
+        createReview(other, sessions.get(0), 8, "Another great soundtrack");
+
+        ReviewSearchResponse firstPage = searchReviews("soundtrack&movieId=" + searched + "&limit=2", sessions.get(0)).getBody();
+        assertThat(firstPage.getHits()).hasSize(2);
+        assertThat(firstPage.getHits().get(0).getId()).isEqualTo(haunting);
+        assertThat(firstPage.getHits().get(0).getSnippet()).contains("<mark>soundtrack</mark>");
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        ReviewSearchResponse secondPage = searchReviews("soundtrack&movieId=" + searched + "&limit=2&cursor=" + firstPage.getNextCursor(),
+                sessions.get(0)).getBody();
+        assertThat(secondPage.getHits()).hasSize(1);
+        assertThat(secondPage.getNextCursor()).isNull();
+
+        List<ReviewSearchHit> all = new ArrayList<>(firstPage.getHits());
+        all.addAll(secondPage.getHits());
+        assertThat(all).extracting(ReviewSearchHit::getMovieId).containsOnly(searched);
+        assertThat(all).extracting(ReviewSearchHit::getId).doesNotHaveDuplicates();
+        assertThat(all).extracting(ReviewSearchHit::getSnippet).anyMatch(snippet -> snippet.contains("&lt;b&gt;carries&lt;/b&gt;"));
+
+        ReviewSearchResponse everyMovie = searchReviews("soundtrack", sessions.get(0)).getBody();
+        assertThat(everyMovie.getHits()).extracting(ReviewSearchHit::getMovieId).contains(searched, other);
+
+        assertThat(searchReviews(" ", sessions.get(0)).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(searchReviews("soundtrack&cursor=garbage", sessions.get(0)).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     private void setupUsersAndMovie() {
         adminSessionId = loginAsAdmin().getSessionId();
 
@@ -146,6 +238,17 @@ class ReviewIntegrationTest {
         return response.getBody();
     }
 
+    private ResponseEntity<ReviewSearchResponse> searchReviews(String query, String sessionId) {
+        return restTemplate.exchange(baseUrl + "/api/reviews/search?q=" + query, HttpMethod.GET,
+                new HttpEntity<>(sessionHeaders(sessionId)), ReviewSearchResponse.class);
+    }
+
+    private HttpHeaders sessionHeaders(String sessionId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Session-Id", sessionId);
+        return headers;
+    }
+
     private void verifyReviewInDatabase(UUID reviewId, UUID movieId, UUID userId, Integer rating) {
         String sql = "SELECT COUNT(*) FROM reviews WHERE id = ? AND movie_id = ? AND user_id = ? AND rating = ?";
         Integer count = jdbcTemplate.queryForObject(sql, Integer.class, reviewId, movieId, userId, rating);
@@ -1,7 +1,14 @@
 package com.example.movie;
 
+import com.example.movie.moderation.api.model.ModerationDeleteRequest;
+import com.example.movie.moderation.api.model.ModerationDeleteResponse;
+import com.example.movie.moderation.api.model.SpamClusterResponse;
+import com.example.movie.moderation.api.model.SpamClustersResponse;
+import com.example.movie.moderation.api.model.SpamSubmissionResponse;
 import com.example.movie.movie.api.model.AddMovieRequest;
 import com.example.movie.movie.api.model.MovieResponse;
+import com.example.movie.review.api.model.AddReviewRequest;
+import com.example.movie.review.api.model.ReviewResponse;
 import com.example.movie.superreview.api.model.AddSuperReviewRequest;
 import com.example.movie.superreview.api.model.SuperReviewResponse;
 import com.example.movie.user.api.model.*;
@@ -16,11 +23,13 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "movie.security.login-rate-limit.email.capacity=100")
 @Testcontainers
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class SuperReviewIntegrationTest {
@@ -290,6 +299,86 @@ class SuperReviewIntegrationTest {
         assertThat(afterDemotionResponse.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
     }
 
+    @Test
+    @Order(8)
+    @DisplayName("Test Batch Moderation Delete")
+    void testBatchModerationDelete() {
+        if (adminSessionId == null) {
+            adminSessionId = loginAsAdmin().getSessionId();
+        }
+
+        registerUser("spammer", "spammer@test.com", "password123");
+        String spammerSession = loginUser("spammer@test.com", "password123").getSessionId();
+        MovieResponse movie = createMovie("Spam Target", 2023, 120, "Test", "http://test.com", adminSessionId);
+        MovieResponse otherMovie = createMovie("Another Spam Target", 2023, 120, "Test", "http://test.com", adminSessionId);
+        ReviewResponse firstSpam = createReview(movie.getId(), spammerSession);
+        ReviewResponse secondSpam = createReview(otherMovie.getId(), spammerSession);
+        SuperReviewResponse superReview = createSuperReviewByAdmin(movie.getId(), adminSessionId);
+        UUID unknownId = UUID.randomUUID();
+
+        ModerationDeleteRequest request = new ModerationDeleteRequest(
+                List.of(firstSpam.getId(), secondSpam.getId(), unknownId), List.of(superReview.getId()));
+
+        ResponseEntity<String> forbidden = postModerationDelete(request, spammerSession, String.class);
+        assertThat(forbidden.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        ResponseEntity<ModerationDeleteResponse> response = postModerationDelete(request, adminSessionId, ModerationDeleteResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getReviews().getDeletedIds()).containsExactly(firstSpam.getId(), secondSpam.getId());
+        assertThat(response.getBody().getReviews().getMissingIds()).containsExactly(unknownId);
+        assertThat(response.getBody().getSuperReviews().getDeletedIds()).containsExactly(superReview.getId());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Session-Id", adminSessionId);
+        ResponseEntity<String> deletedReview = restTemplate.exchange(
+                baseUrl + "/api/reviews/" + firstSpam.getId(), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(deletedReview.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Test Near-Duplicate Spam Clusters")
+    void testNearDuplicateSpamClusters() {
+        if (adminSessionId == null) {
+            adminSessionId = loginAsAdmin().getSessionId();
+        }
+
+        registerUser("wavespammer", "wavespammer@test.com", "password123");
+        String spammerSession = loginUser("wavespammer@test.com", "password123").getSessionId();
+        registerUser("honestviewer", "honestviewer@test.com", "password123");
+        String honestSession = loginUser("honestviewer@test.com", "password123").getSessionId();
+        String template = "Stop paying for tickets! Watch every new release in full HD for free at cheap-streams dot example, "
+                + "thousands of titles, no registration needed, updated daily. Offer ends %s!";
+        List<UUID> spamIds = List.of(
+                createReview(createMovie("Wave One", 2023, 100, "Test", "http://test.com", adminSessionId).getId(),
+                        spammerSession, String.format(template, "today")).getId(),
+                createReview(createMovie("Wave Two", 2023, 100, "Test", "http://test.com", adminSessionId).getId(),
+                        spammerSession, String.format(template, "tonight")).getId(),
+                createReview(createMovie("Wave Three", 2023, 100, "Test", "http://test.com", adminSessionId).getId(),
+                        spammerSession, String.format(template, "soon")).getId());
+        UUID honestId = createReview(createMovie("Wave Four", 2023, 100, "Test", "http://test.com", adminSessionId).getId(),
+                honestSession, "The pacing drags in the middle act, but the final twenty minutes are genuinely moving.").getId();
+
+        ResponseEntity<String> forbidden = getSpamClusters(spammerSession, String.class);
+        assertThat(forbidden.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        ResponseEntity<SpamClustersResponse> response = getSpamClusters(adminSessionId, SpamClustersResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<List<UUID>> clusters = response.getBody().getClusters().stream()
+                .map(cluster -> cluster.getSubmissions().stream().map(SpamSubmissionResponse::getId).toList())
+                .toList();
+        assertThat(clusters).contains(spamIds);
+        assertThat(clusters).noneMatch(cluster -> cluster.contains(honestId));
+        SpamClusterResponse wave = response.getBody().getClusters().get(clusters.indexOf(spamIds));
+        assertThat(wave.getSize()).isEqualTo(3);
+        assertThat(wave.getSubmissions()).allMatch(submission -> "REVIEW".equals(submission.getType()));
+
+        postModerationDelete(new ModerationDeleteRequest(spamIds, null), adminSessionId, ModerationDeleteResponse.class);
+        ResponseEntity<SpamClustersResponse> afterDelete = getSpamClusters(adminSessionId, SpamClustersResponse.class);
+        assertThat(afterDelete.getBody().getClusters())
+                .noneMatch(cluster -> cluster.getSubmissions().stream().anyMatch(submission -> spamIds.contains(submission.getId())));
+    }
+
     private LoginResponse loginAsAdmin() {
         LoginRequest adminLoginRequest = new LoginRequest("admin@movieapp.com", "admin123");
         ResponseEntity<LoginResponse> response = restTemplate.postForEntity(
@@ -396,6 +485,39 @@ class SuperReviewIntegrationTest {
         return response.getBody();
     }
 
+    private ReviewResponse createReview(UUID movieId, String sessionId) {
+        return createReview(movieId, sessionId, "Buy cheap followers");
+    }
+
+    private ReviewResponse createReview(UUID movieId, String sessionId, String comment) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Session-Id", sessionId);
+        HttpEntity<AddReviewRequest> entity = new HttpEntity<>(new AddReviewRequest(movieId, 1, comment), headers);
+
+        ResponseEntity<ReviewResponse> response = restTemplate.exchange(
+                baseUrl + "/api/reviews", HttpMethod.POST, entity, ReviewResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private <T> ResponseEntity<T> postModerationDelete(ModerationDeleteRequest request, String sessionId, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Session-Id", sessionId);
+
+        return restTemplate.exchange(
+                baseUrl + "/api/admin/moderation/delete", HttpMethod.POST, new HttpEntity<>(request, headers), responseType);
+    }
+
+    private <T> ResponseEntity<T> getSpamClusters(String sessionId, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Session-Id", sessionId);
+
+        return restTemplate.exchange(
+                baseUrl + "/api/admin/moderation/spam-clusters", HttpMethod.GET, new HttpEntity<>(headers), responseType);
+    }
+
     private ResponseEntity<String> postSuperReview(AddSuperReviewRequest request, String sessionId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
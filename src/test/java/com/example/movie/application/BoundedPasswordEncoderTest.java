@@ -0,0 +1,71 @@
+package com.example.movie.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private final BoundedPasswordEncoder tested = new BoundedPasswordEncoder(delegate, 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        tested.close();
+    }
+
+    @Test
+    void shouldDelegateHashingToPool() {
+        // given
+        when(delegate.encode("password")).thenReturn("hash");
+        when(delegate.matches("password", "hash")).thenReturn(true);
+
+        // when
+        String hash = tested.encode("password");
+        boolean matches = tested.matches("password", "hash");
+
+        // then
+        assertThat(hash).isEqualTo("hash");
+        assertThat(matches).isTrue();
+        assertThat(tested.getCompletedTasks()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectWhenPoolAndQueueAreFull() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode(any())).then(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        });
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> tested.encode("first"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> tested.encode("second"));
+        while (tested.getQueuedTasks() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        Throwable caught = catchThrowable(() -> tested.encode("third"));
+
+        // then
+        assertThat(caught).isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(tested.getRejectedTasks()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+}
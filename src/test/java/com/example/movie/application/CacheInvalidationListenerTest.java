@@ -0,0 +1,82 @@
+package com.example.movie.application;
+
+import com.example.movie.common.LocalCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CacheInvalidationListenerTest {
+
+    private final CacheInvalidationBus bus = new CacheInvalidationBus(null, true);
+    private final LocalCache<UUID, String> cache = new LocalCache<>(10);
+    private final CacheInvalidationBus.Subscriber subscriber = mock(CacheInvalidationBus.Subscriber.class);
+    private final CacheInvalidationListener tested =
+            new CacheInvalidationListener(bus, mock(JdbcConnectionDetails.class), Duration.ofSeconds(1));
+
+    @Test
+    void shouldBoundEveryBlockingCallOnListenerConnection() {
+        // given
+        JdbcConnectionDetails connectionDetails = mock(JdbcConnectionDetails.class);
+        when(connectionDetails.getUsername()).thenReturn("movie");
+        when(connectionDetails.getPassword()).thenReturn("secret");
+
+        // when
+        Properties properties = CacheInvalidationListener.connectionProperties(connectionDetails);
+
+        // then
+        assertThat(properties.getProperty("ApplicationName")).isEqualTo(CacheInvalidationListener.APPLICATION_NAME);
+        assertThat(Integer.parseInt(properties.getProperty("socketTimeout")) * 1000)
+                .isGreaterThan(CacheInvalidationListener.POLL_TIMEOUT_MS);
+        assertThat(properties.getProperty("connectTimeout")).isEqualTo("10");
+        assertThat(properties.getProperty("tcpKeepAlive")).isEqualTo("true");
+        assertThat(properties.getProperty("password")).isEqualTo("secret");
+    }
+
+    @Test
+    void shouldResyncChannelWhenPayloadIsMalformed() {
+        // given
+        givenSubscribedChannelWithCachedEntry();
+
+        // when
+        tested.deliver("movies_changed", "not-a-uuid");
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.isEnabled()).isTrue();
+        verify(subscriber, times(2)).onResync();
+    }
+
+    @Test
+    void shouldResyncChannelWhenSubscriberFails() {
+        // given
+        givenSubscribedChannelWithCachedEntry();
+        doThrow(new IllegalStateException("boom")).when(subscriber).onChanged(any());
+
+        // when
+        tested.deliver("movies_changed", UUID.randomUUID().toString());
+
+        // then
+        assertThat(cache.size()).isZero();
+        verify(subscriber, times(2)).onResync();
+    }
+
+    private void givenSubscribedChannelWithCachedEntry() {
+        bus.register("movies_changed", cache);
+        bus.subscribe("movies_changed", subscriber);
+        bus.subscribed();
+        cache.get(UUID.randomUUID(), ignored -> Optional.of("cached"));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.movie.application;
+
+import com.example.movie.movie.api.model.AddMovieRequest;
+import com.example.movie.movie.domain.AddMovieUseCase;
+import com.example.movie.movie.domain.model.Movie;
+import com.example.movie.movie.persistence.MovieRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServerTimingAspectTest {
+
+    private final MovieRepository repository = mock(MovieRepository.class);
+    private final AddMovieUseCase tested = proxy(new AddMovieUseCase(proxy(repository)));
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.end();
+    }
+
+    @Test
+    void shouldRecordUseCaseAndRepositoryPhases() {
+        // given
+        when(repository.insert(any(Movie.class))).then(invocation -> invocation.getArgument(0));
+        ServerTiming timing = ServerTiming.begin();
+
+        // when
+        tested.addMovie(new AddMovieRequest("Movie", 2020, 100, "Description", "https://example.com"));
+
+        // then
+        assertThat(timing.getCount(ServerTiming.Phase.USECASE)).isEqualTo(1);
+        assertThat(timing.getCount(ServerTiming.Phase.DB)).isEqualTo(1);
+        assertThat(timing.getDurationNanos(ServerTiming.Phase.USECASE))
+                .isGreaterThanOrEqualTo(timing.getDurationNanos(ServerTiming.Phase.DB));
+        assertThat(timing.getCount(ServerTiming.Phase.SESSION)).isZero();
+    }
+
+    @Test
+    void shouldPassThroughWhenRequestIsNotSampled() {
+        // given
+        when(repository.insert(any(Movie.class))).then(invocation -> invocation.getArgument(0));
+
+        // when
+        Movie movie = tested.addMovie(new AddMovieRequest("Movie", 2020, 100, "Description", "https://example.com"));
+
+        // then
+        assertThat(movie.getTitle()).isEqualTo("Movie");
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServerTimingAspect());
+        return (T) factory.getProxy();
+    }
+}
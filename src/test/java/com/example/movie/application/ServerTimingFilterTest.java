@@ -0,0 +1,118 @@
+package com.example.movie.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Servlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldEmitHeaderWithRecordedPhasesBeforeBodyIsWritten() throws Exception {
+        // given
+        ServerTimingFilter tested = new ServerTimingFilter(1.0, meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Servlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                ServerTiming timing = ServerTiming.current();
+                timing.showHeader();
+                timing.start(ServerTiming.Phase.USECASE);
+                timing.start(ServerTiming.Phase.DB);
+                timing.stop(ServerTiming.Phase.DB);
+                timing.start(ServerTiming.Phase.DB);
+                timing.stop(ServerTiming.Phase.DB);
+                timing.stop(ServerTiming.Phase.USECASE);
+                response.getWriter().write("{}");
+                response.flushBuffer();
+            }
+        };
+
+        // when
+        tested.doFilter(new MockHttpServletRequest("GET", "/api/movies"), response, new MockFilterChain(servlet));
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.HEADER))
+                .matches("usecase;dur=[0-9.]+, db;dur=[0-9.]+;desc=\"2 calls\", total;dur=[0-9.]+");
+        assertThat(response.getContentAsString()).isEqualTo("{}");
+        assertThat(ServerTiming.current()).isNull();
+        assertThat(meterRegistry.get("movie.request.phase").tag("phase", "db").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("movie.request.phase").tag("phase", "total").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("movie.request.phase").tag("phase", "auth").timer().count()).isZero();
+    }
+
+    @Test
+    void shouldEmitHeaderWhenNoBodyIsWritten() throws Exception {
+        // given
+        ServerTimingFilter tested = new ServerTimingFilter(1.0, meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Servlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                ServerTiming.current().showHeader();
+            }
+        };
+
+        // when
+        tested.doFilter(new MockHttpServletRequest("DELETE", "/api/reviews/1"), response, new MockFilterChain(servlet));
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.HEADER)).startsWith("total;dur=");
+    }
+
+    @Test
+    void shouldRecordButNotExposeTimingOfNonAdminRequests() throws Exception {
+        // given
+        ServerTimingFilter tested = new ServerTimingFilter(1.0, meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Servlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                ServerTiming timing = ServerTiming.current();
+                timing.start(ServerTiming.Phase.DB);
+                timing.stop(ServerTiming.Phase.DB);
+                response.getWriter().write("{}");
+            }
+        };
+
+        // when
+        tested.doFilter(new MockHttpServletRequest("GET", "/api/movies"), response, new MockFilterChain(servlet));
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.HEADER)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{}");
+        assertThat(meterRegistry.get("movie.request.phase").tag("phase", "db").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("movie.request.phase").tag("phase", "total").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipUnsampledRequests() throws Exception {
+        // given
+        ServerTimingFilter tested = new ServerTimingFilter(0.0, meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Servlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                assertThat(ServerTiming.current()).isNull();
+            }
+        };
+
+        // when
+        tested.doFilter(new MockHttpServletRequest("GET", "/api/movies"), response, new MockFilterChain(servlet));
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.HEADER)).isNull();
+        assertThat(meterRegistry.get("movie.request.phase").tag("phase", "total").timer().count()).isZero();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.movie.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    private final UUID id = UUID.fromString("0190a6e4-5a3b-7c2d-8e4f-123456789abc");
+
+    @Test
+    void shouldBuildWeakETagFromIdAndVersion() {
+        // when
+        String result = ETags.weak(id, 255);
+
+        // then
+        assertThat(result).isEqualTo("W/\"0190a6e4-5a3b-7c2d-8e4f-123456789abc-ff\"");
+    }
+
+    @Test
+    void shouldMatchAnyTagInIfNoneMatchList() {
+        // given
+        String eTag = ETags.weak(id, 2);
+
+        // when & then
+        assertThat(ETags.matchesAny(ETags.weak(id, 1) + ", " + eTag, eTag)).isTrue();
+        assertThat(ETags.matchesAny(ETags.weak(id, 1), eTag)).isFalse();
+    }
+
+    @Test
+    void shouldCompareWeaklyAndAcceptWildcard() {
+        // given
+        String eTag = ETags.weak(id, 2);
+
+        // when & then
+        assertThat(ETags.matchesAny("\"" + id + "-2\"", eTag)).isTrue();
+        assertThat(ETags.matchesAny("*", eTag)).isTrue();
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWithoutLoadingView() {
+        // given
+        String eTag = ETags.weak(id, 2);
+
+        // when
+        ResponseEntity<String> response = ETags.conditional(id, eTag, ignored -> Optional.of(2L),
+                ignored -> {
+                    throw new AssertionError("view must not be loaded");
+                },
+                View::toString);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+        assertThat(response.hasBody()).isFalse();
+    }
+
+    @Test
+    void shouldReturnBodyWithCurrentETagWhenStale() {
+        // when
+        ResponseEntity<String> response = ETags.conditional(id, ETags.weak(id, 1), ignored -> Optional.of(2L),
+                ignored -> Optional.of(new View("body", 2)), View::text);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETags.weak(id, 2));
+        assertThat(response.getBody()).isEqualTo("body");
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenViewIsMissing() {
+        // when
+        ResponseEntity<String> response = ETags.conditional(id, null, ignored -> Optional.empty(),
+                ignored -> Optional.<View>empty(), View::text);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private record View(String text, long version) implements Versioned {
+    }
+}
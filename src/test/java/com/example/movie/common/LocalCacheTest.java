@@ -0,0 +1,147 @@
+package com.example.movie.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCacheTest {
+
+    @Test
+    void shouldBypassCacheWhileDisabled() {
+        // given
+        LocalCache<Integer, String> tested = new LocalCache<>(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        tested.get(1, key -> Optional.of("value-" + loads.incrementAndGet()));
+        Optional<String> result = tested.get(1, key -> Optional.of("value-" + loads.incrementAndGet()));
+
+        // then
+        assertThat(result).contains("value-2");
+        assertThat(tested.size()).isZero();
+    }
+
+    @Test
+    void shouldServeCachedValueUntilEvicted() {
+        // given
+        LocalCache<Integer, String> tested = new LocalCache<>(10);
+        tested.enable();
+        tested.get(1, key -> Optional.of("old"));
+
+        // when
+        Optional<String> cached = tested.get(1, key -> Optional.of("new"));
+        tested.evict(1);
+        Optional<String> reloaded = tested.get(1, key -> Optional.of("new"));
+
+        // then
+        assertThat(cached).contains("old");
+        assertThat(reloaded).contains("new");
+        assertThat(tested.getHitCount()).isEqualTo(1);
+        assertThat(tested.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheValueLoadedBeforeConcurrentEviction() {
+        // given
+        LocalCache<Integer, String> tested = new LocalCache<>(10);
+        tested.enable();
+
+        // when
+        tested.get(1, key -> {
+            tested.evict(key);
+            return Optional.of("stale");
+        });
+
+        // then
+        assertThat(tested.size()).isZero();
+        assertThat(tested.get(1, key -> Optional.of("fresh"))).contains("fresh");
+    }
+
+    @Test
+    void shouldNotCacheMissingValues() {
+        // given
+        LocalCache<Integer, String> tested = new LocalCache<>(10);
+        tested.enable();
+
+        // when
+        tested.get(1, key -> Optional.empty());
+
+        // then
+        assertThat(tested.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedAtMaxEntries() {
+        // given
+        LocalCache<Integer, String> tested = new LocalCache<>(2);
+        tested.enable();
+        tested.get(1, key -> Optional.of("value-1"));
+        tested.get(2, key -> Optional.of("value-2"));
+        tested.get(1, key -> Optional.of("reloaded-1"));
+
+        // when
+        tested.get(3, key -> Optional.of("value-3"));
+
+        // then
+        assertThat(tested.size()).isEqualTo(2);
+        assertThat(tested.getEvictionCount()).isEqualTo(1);
+        assertThat(tested.get(1, key -> Optional.of("reloaded-1"))).contains("value-1");
+        assertThat(tested.get(3, key -> Optional.of("reloaded-3"))).contains("value-3");
+        assertThat(tested.get(2, key -> Optional.of("reloaded-2"))).contains("reloaded-2");
+    }
+
+    @Test
+    void shouldKeepCachingNewKeysOnceFull() {
+        // given
+        LocalCache<Integer, String> tested = new LocalCache<>(2);
+        tested.enable();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            tested.get(i, key -> Optional.of("value-" + key));
+        }
+
+        // then
+        assertThat(tested.size()).isEqualTo(2);
+        assertThat(tested.get(4, key -> Optional.of("reloaded"))).contains("value-4");
+    }
+
+    @Test
+    void shouldLoadOnlyMissingKeysInBatch() {
+        // given
+        LocalCache<Integer, String> tested = new LocalCache<>(10);
+        tested.enable();
+        tested.get(1, key -> Optional.of("1"));
+        AtomicInteger loadedKeys = new AtomicInteger();
+
+        // when
+        List<String> result = tested.getAll(List.of(1, 2, 3), Integer::valueOf, keys -> {
+            loadedKeys.addAndGet(keys.size());
+            return keys.stream().map(String::valueOf).toList();
+        });
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder("1", "2", "3");
+        assertThat(loadedKeys).hasValue(2);
+        assertThat(tested.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDropEntriesWhenDisabled() {
+        // given
+        LocalCache<Integer, String> tested = new LocalCache<>(10);
+        tested.enable();
+        tested.get(1, key -> Optional.of("value"));
+
+        // when
+        tested.disable();
+
+        // then
+        assertThat(tested.isEnabled()).isFalse();
+        assertThat(tested.size()).isZero();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.movie.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MinHashTest {
+    private static final String SPAM = "Watch every new release in full HD for free at cheap-streams dot example, "
+            + "thousands of titles, no registration needed, updated daily.";
+
+    private final MinHash tested = new MinHash(128, 5, 42);
+
+    @Test
+    void shouldIgnoreCaseAndPunctuation() {
+        // when
+        int[] first = tested.signature(SPAM);
+        int[] second = tested.signature(SPAM.toUpperCase().replace(",", " ,  "));
+
+        // then
+        assertThat(MinHash.similarity(first, second)).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRateSmallEditAsSimilar() {
+        // when
+        int[] first = tested.signature(SPAM + " Offer ends today!");
+        int[] second = tested.signature(SPAM + " Offer ends tonight!");
+
+        // then
+        assertThat(MinHash.similarity(first, second)).isGreaterThan(0.8);
+    }
+
+    @Test
+    void shouldRateUnrelatedTextsAsDissimilar() {
+        // when
+        int[] first = tested.signature(SPAM);
+        int[] second = tested.signature("The pacing drags in the middle act, but the final twenty minutes are genuinely moving.");
+
+        // then
+        assertThat(MinHash.similarity(first, second)).isLessThan(0.2);
+    }
+
+    @Test
+    void shouldReturnEmptySignatureForTextShorterThanShingle() {
+        // when
+        int[] actual = tested.signature("ok!");
+
+        // then
+        assertThat(actual).isEmpty();
+        assertThat(MinHash.similarity(actual, actual)).isZero();
+    }
+
+    @Test
+    void shouldNormalizeToLowercaseWords() {
+        // when
+        String actual = MinHash.normalize("  Great -- MOVIE!!1 ");
+
+        // then
+        assertThat(actual).isEqualTo("great movie 1");
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.movie.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldAllowBurstUpToCapacity() {
+        // given
+        TokenBucketRateLimiter tested = new TokenBucketRateLimiter(3, 1, 100, 4, clock::get);
+
+        // when & then
+        assertThat(tested.tryAcquire("key")).isTrue();
+        assertThat(tested.tryAcquire("key")).isTrue();
+        assertThat(tested.tryAcquire("key")).isTrue();
+        assertThat(tested.tryAcquire("key")).isFalse();
+        assertThat(tested.tryAcquire("other")).isTrue();
+    }
+
+    @Test
+    void shouldRefillTokensOverTime() {
+        // given
+        TokenBucketRateLimiter tested = new TokenBucketRateLimiter(1, 2, 100, 4, clock::get);
+        tested.tryAcquire("key");
+
+        // when
+        clock.addAndGet(500_000_000L);
+
+        // then
+        assertThat(tested.tryAcquire("key")).isTrue();
+        assertThat(tested.tryAcquire("key")).isFalse();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedBuckets() {
+        // given
+        TokenBucketRateLimiter tested = new TokenBucketRateLimiter(1, 0.001, 2, 1, clock::get);
+        tested.tryAcquire("first");
+        tested.tryAcquire("second");
+
+        // when
+        tested.tryAcquire("third");
+
+        // then
+        assertThat(tested.trackedKeys()).isEqualTo(2);
+        assertThat(tested.tryAcquire("first")).isTrue();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.movie.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final UuidV7Generator tested = new UuidV7Generator(clock::get);
+
+    @Test
+    void shouldSetVersionVariantAndTimestamp() {
+        // when
+        UUID uuid = tested.generate();
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7Generator.timestampMillis(uuid)).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void shouldBeMonotonicWithinOneMillisecond() {
+        // when
+        List<UUID> generated = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            generated.add(tested.generate());
+        }
+
+        // then
+        assertThat(generated).isSortedAccordingTo(Comparator.comparing(UUID::toString));
+        assertThat(new HashSet<>(generated)).hasSize(1000);
+    }
+
+    @Test
+    void shouldRollCounterOverflowIntoNextMillisecond() {
+        // given
+        UUID last = null;
+        for (int i = 0; i < 4096; i++) {
+            last = tested.generate();
+        }
+
+        // when
+        UUID overflowed = tested.generate();
+
+        // then
+        assertThat(UuidV7Generator.timestampMillis(last)).isEqualTo(1_700_000_000_000L);
+        assertThat(UuidV7Generator.timestampMillis(overflowed)).isEqualTo(1_700_000_000_001L);
+        assertThat(overflowed.toString()).isGreaterThan(last.toString());
+    }
+
+    @Test
+    void shouldStayMonotonicWhenClockMovesBackwards() {
+        // given
+        UUID before = tested.generate();
+        clock.addAndGet(-5_000);
+
+        // when
+        UUID after = tested.generate();
+
+        // then
+        assertThat(after.toString()).isGreaterThan(before.toString());
+        assertThat(UuidV7Generator.timestampMillis(after)).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void shouldGenerateUniqueIdsAcrossThreads() throws Exception {
+        // given
+        UuidV7Generator realClock = new UuidV7Generator(System::currentTimeMillis);
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 25_000; i++) {
+                        generated.add(realClock.generate());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // then
+        assertThat(generated).hasSize(100_000);
+    }
+}
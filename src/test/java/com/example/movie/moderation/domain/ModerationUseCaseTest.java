@@ -0,0 +1,96 @@
+package com.example.movie.moderation.domain;
+
+import com.example.movie.moderation.api.model.ModerationDeleteRequest;
+import com.example.movie.moderation.domain.model.InvalidModerationRequestException;
+import com.example.movie.moderation.domain.model.ModerationDeleteResult;
+import com.example.movie.recommendation.domain.RecommendationUseCase;
+import com.example.movie.review.domain.model.DeletedReview;
+import com.example.movie.review.persistence.ReviewRepository;
+import com.example.movie.superreview.persistence.SuperReviewRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ModerationUseCaseTest {
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final SuperReviewRepository superReviewRepository = mock(SuperReviewRepository.class);
+    private final SpamDetectionUseCase spamDetectionUseCase = mock(SpamDetectionUseCase.class);
+    private final RecommendationUseCase recommendationUseCase = mock(RecommendationUseCase.class);
+    private final ModerationUseCase tested = new ModerationUseCase(
+            reviewRepository, superReviewRepository, spamDetectionUseCase, recommendationUseCase, 3);
+
+    @Test
+    void shouldReportDeletedAndMissingIdsPerType() {
+        //given
+        UUID deletedReview = UUID.randomUUID();
+        UUID missingReview = UUID.randomUUID();
+        UUID deletedSuperReview = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID movieId = UUID.randomUUID();
+        when(reviewRepository.deleteAllByIds(List.of(deletedReview, missingReview)))
+                .thenReturn(List.of(new DeletedReview(deletedReview, userId, movieId)));
+        when(superReviewRepository.deleteAllByIds(List.of(deletedSuperReview))).thenReturn(Set.of(deletedSuperReview));
+
+        //when
+        ModerationDeleteResult result = tested.delete(new ModerationDeleteRequest(
+                List.of(deletedReview, missingReview, deletedReview), List.of(deletedSuperReview)));
+
+        //then
+        assertThat(result.reviews().deletedIds()).containsExactly(deletedReview);
+        assertThat(result.reviews().missingIds()).containsExactly(missingReview);
+        assertThat(result.superReviews().deletedIds()).containsExactly(deletedSuperReview);
+        assertThat(result.superReviews().missingIds()).isEmpty();
+        verify(spamDetectionUseCase).forget(Set.of(deletedReview));
+        verify(spamDetectionUseCase).forget(Set.of(deletedSuperReview));
+        verify(recommendationUseCase).removeRating(userId, movieId);
+    }
+
+    @Test
+    void shouldSkipTypeWithoutIds() {
+        //given
+        UUID reviewId = UUID.randomUUID();
+        when(reviewRepository.deleteAllByIds(List.of(reviewId)))
+                .thenReturn(List.of(new DeletedReview(reviewId, UUID.randomUUID(), UUID.randomUUID())));
+
+        //when
+        ModerationDeleteResult result = tested.delete(new ModerationDeleteRequest(List.of(reviewId), null));
+
+        //then
+        assertThat(result.superReviews().deletedIds()).isEmpty();
+        verify(superReviewRepository, never()).deleteAllByIds(any());
+    }
+
+    @Test
+    void shouldRejectMoreIdsThanMaxBatchSize() {
+        //given
+        ModerationDeleteRequest request = new ModerationDeleteRequest(
+                List.of(UUID.randomUUID(), UUID.randomUUID()), List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        //when
+        Throwable thrown = catchThrowable(() -> tested.delete(request));
+
+        //then
+        assertThat(thrown).isInstanceOf(InvalidModerationRequestException.class);
+        verify(reviewRepository, never()).deleteAllByIds(any());
+        verify(superReviewRepository, never()).deleteAllByIds(any());
+    }
+
+    @Test
+    void shouldRejectMissingRequest() {
+        //when
+        Throwable thrown = catchThrowable(() -> tested.delete(null));
+
+        //then
+        assertThat(thrown).isInstanceOf(InvalidModerationRequestException.class);
+    }
+}
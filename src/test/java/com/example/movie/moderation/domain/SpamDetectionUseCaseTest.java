@@ -0,0 +1,218 @@
+package com.example.movie.moderation.domain;
+
+import com.example.movie.moderation.domain.model.InvalidModerationRequestException;
+import com.example.movie.moderation.domain.model.SpamCluster;
+import com.example.movie.moderation.domain.model.SpamSubmission;
+import com.example.movie.moderation.domain.model.StoredSubmission;
+import com.example.movie.moderation.domain.model.SubmissionType;
+import com.example.movie.moderation.persistence.SubmissionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class SpamDetectionUseCaseTest {
+    private static final String TEMPLATE = "Stop paying for tickets! Watch every new release in full HD for free at "
+            + "cheap-streams dot example, thousands of titles, no registration needed. Offer ends %s!";
+    private static final String HONEST = "The pacing drags in the middle act, but the final twenty minutes are genuinely moving.";
+
+    private final SubmissionRepository submissionRepository = mock(SubmissionRepository.class);
+    private final SpamDetectionUseCase tested = new SpamDetectionUseCase(submissionRepository, 16, 4, 0.8, 40, 2, 4);
+
+    private final UUID spammer = UUID.randomUUID();
+
+    @Test
+    void shouldFlagNearDuplicateAcrossMovies() {
+        // given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        tested.inspect(SubmissionType.REVIEW, first, spammer, UUID.randomUUID(), TEMPLATE.formatted("today"));
+
+        // when
+        boolean flagged = tested.inspect(SubmissionType.SUPER_REVIEW, second, spammer, UUID.randomUUID(), TEMPLATE.formatted("tonight"));
+
+        // then
+        assertThat(flagged).isTrue();
+        List<SpamCluster> clusters = tested.findClusters(null);
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).submissions()).extracting(SpamSubmission::id).containsExactly(first, second);
+        assertThat(tested.getFlaggedCount()).isEqualTo(1);
+        assertThat(tested.getCleanCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotFlagUnrelatedText() {
+        // given
+        tested.inspect(SubmissionType.REVIEW, UUID.randomUUID(), spammer, UUID.randomUUID(), TEMPLATE.formatted("today"));
+
+        // when
+        boolean flagged = tested.inspect(SubmissionType.REVIEW, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), HONEST);
+
+        // then
+        assertThat(flagged).isFalse();
+        assertThat(tested.findClusters(null)).isEmpty();
+    }
+
+    @Test
+    void shouldSkipShortComments() {
+        // given
+        tested.inspect(SubmissionType.REVIEW, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "Great movie!");
+
+        // when
+        boolean flagged = tested.inspect(SubmissionType.REVIEW, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "Great movie!");
+
+        // then
+        assertThat(flagged).isFalse();
+        assertThat(tested.getSkippedCount()).isEqualTo(2);
+        assertThat(tested.getIndexedCount()).isZero();
+    }
+
+    @Test
+    void shouldSkipCommentsWithoutLettersOrDigits() {
+        // given
+        String punctuation = "!".repeat(40);
+        String emoji = "\uD83C\uDF7F".repeat(20);
+
+        // when
+        boolean punctuationFlagged = tested.inspect(SubmissionType.REVIEW, UUID.randomUUID(), spammer, UUID.randomUUID(), punctuation);
+        boolean emojiFlagged = tested.inspect(SubmissionType.REVIEW, UUID.randomUUID(), spammer, UUID.randomUUID(), emoji);
+
+        // then
+        assertThat(punctuationFlagged).isFalse();
+        assertThat(emojiFlagged).isFalse();
+        assertThat(tested.getSkippedCount()).isEqualTo(2);
+        assertThat(tested.getIndexedCount()).isZero();
+    }
+
+    @Test
+    void shouldDropForgottenSubmissionsFromClusters() {
+        // given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        tested.inspect(SubmissionType.REVIEW, first, spammer, UUID.randomUUID(), TEMPLATE.formatted("today"));
+        tested.inspect(SubmissionType.REVIEW, second, spammer, UUID.randomUUID(), TEMPLATE.formatted("tonight"));
+
+        // when
+        tested.forget(List.of(first));
+
+        // then
+        assertThat(tested.findClusters(null)).isEmpty();
+        assertThat(tested.getIndexedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReindexEditedComment() {
+        // given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        tested.inspect(SubmissionType.REVIEW, first, spammer, UUID.randomUUID(), TEMPLATE.formatted("today"));
+        tested.inspect(SubmissionType.REVIEW, second, spammer, UUID.randomUUID(), TEMPLATE.formatted("tonight"));
+
+        // when
+        tested.inspect(SubmissionType.REVIEW, second, spammer, UUID.randomUUID(), HONEST);
+
+        // then
+        assertThat(tested.findClusters(null)).isEmpty();
+        assertThat(tested.getIndexedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictOldestSubmissionWhenFull() {
+        // given
+        UUID oldest = UUID.randomUUID();
+        tested.inspect(SubmissionType.REVIEW, oldest, spammer, UUID.randomUUID(), TEMPLATE.formatted("today"));
+        for (int i = 0; i < 4; i++) {
+            tested.inspect(SubmissionType.REVIEW, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), HONEST + " Seen " + i + " times.");
+        }
+
+        // when
+        boolean flagged = tested.inspect(SubmissionType.REVIEW, UUID.randomUUID(), spammer, UUID.randomUUID(), TEMPLATE.formatted("tonight"));
+
+        // then
+        assertThat(tested.getIndexedCount()).isEqualTo(4);
+        assertThat(tested.findClusters(null)).flatExtracting(SpamCluster::submissions).extracting(SpamSubmission::id).doesNotContain(oldest);
+        assertThat(flagged).isFalse();
+    }
+
+    @Test
+    void shouldFlagNearDuplicateOfStoredSubmissionAfterWarmUp() {
+        // given
+        UUID stored = UUID.randomUUID();
+        givenStoredSubmissions(new StoredSubmission(
+                new SpamSubmission(SubmissionType.REVIEW, stored, spammer, UUID.randomUUID(), Instant.now()), TEMPLATE.formatted("today")));
+        tested.warmUp();
+
+        // when
+        boolean flagged = tested.inspect(SubmissionType.REVIEW, UUID.randomUUID(), spammer, UUID.randomUUID(), TEMPLATE.formatted("tonight"));
+
+        // then
+        assertThat(flagged).isTrue();
+        assertThat(tested.findClusters(null)).flatExtracting(SpamCluster::submissions).extracting(SpamSubmission::id).contains(stored);
+        assertThat(tested.getFlaggedCount()).isEqualTo(1);
+        assertThat(tested.getCleanCount()).isZero();
+    }
+
+    @Test
+    void shouldSkipStoredCommentsWithoutLettersOrDigitsOnWarmUp() {
+        // given
+        givenStoredSubmissions(
+                new StoredSubmission(new SpamSubmission(SubmissionType.REVIEW, UUID.randomUUID(), spammer, UUID.randomUUID(), Instant.now()),
+                        "!".repeat(40)),
+                new StoredSubmission(new SpamSubmission(SubmissionType.SUPER_REVIEW, UUID.randomUUID(), spammer, UUID.randomUUID(), Instant.now()),
+                        "\uD83C\uDF7F".repeat(20)),
+                new StoredSubmission(new SpamSubmission(SubmissionType.REVIEW, UUID.randomUUID(), spammer, UUID.randomUUID(), Instant.now()),
+                        TEMPLATE.formatted("today")));
+
+        // when
+        tested.warmUp();
+
+        // then
+        assertThat(tested.getIndexedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepSubmissionsInspectedWhileWarmingUp() {
+        // given
+        UUID live = UUID.randomUUID();
+        doAnswer(invocation -> {
+            tested.inspect(SubmissionType.SUPER_REVIEW, live, spammer, UUID.randomUUID(), TEMPLATE.formatted("today"));
+            return null;
+        }).when(submissionRepository).forEachRecentSubmission(eq(4), eq(40), any());
+        tested.warmUp();
+
+        // when
+        boolean flagged = tested.inspect(SubmissionType.REVIEW, UUID.randomUUID(), spammer, UUID.randomUUID(), TEMPLATE.formatted("tonight"));
+
+        // then
+        assertThat(flagged).isTrue();
+        assertThat(tested.getIndexedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectLimitAboveMaximum() {
+        // when
+        Throwable caught = catchThrowable(() -> tested.findClusters(101));
+
+        // then
+        assertThat(caught).isInstanceOf(InvalidModerationRequestException.class);
+    }
+
+    private void givenStoredSubmissions(StoredSubmission... submissions) {
+        doAnswer(invocation -> {
+            Consumer<StoredSubmission> consumer = invocation.getArgument(2);
+            for (StoredSubmission submission : submissions) {
+                consumer.accept(submission);
+            }
+            return null;
+        }).when(submissionRepository).forEachRecentSubmission(eq(4), eq(40), any());
+    }
+}
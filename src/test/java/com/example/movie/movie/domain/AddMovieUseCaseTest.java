@@ -3,15 +3,10 @@ package com.example.movie.movie.domain;
 import com.example.movie.movie.api.model.AddMovieRequest;
 import com.example.movie.movie.domain.model.InvalidMovieAddRequestException;
 import com.example.movie.movie.domain.model.Movie;
-import com.example.movie.movie.domain.model.MovieId;
 import com.example.movie.movie.persistence.MovieRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.time.Instant;
-import java.util.Optional;
-import java.util.UUID;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,7 +19,7 @@ class AddMovieUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        when(repository.save(any(Movie.class))).then(invocation -> invocation.getArgument(0));
+        when(repository.insert(any(Movie.class))).then(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -290,41 +285,4 @@ class AddMovieUseCaseTest {
         //then
         assertThat(actual.getTrailerUrl()).isEqualTo("   ");
     }
-
-
-    @Test
-    void shouldFindMovieById() {
-        //given
-        UUID movieUuid = UUID.randomUUID();
-        MovieId movieId = new MovieId(movieUuid);
-        Movie movie = Movie.builder()
-                .withId(movieId)
-                .withTitle("Test Movie")
-                .withReleaseYear(2023)
-                .withDurationMinutes(120)
-                .withCreatedAt(Instant.now())
-                .build();
-        when(repository.findById(movieUuid)).thenReturn(Optional.of(movie));
-
-        //when
-        Optional<Movie> actual = tested.findById(movieUuid);
-
-        //then
-        assertThat(actual).isPresent();
-        assertThat(actual.get().getId().value()).isEqualTo(movieUuid);
-        assertThat(actual.get().getTitle()).isEqualTo("Test Movie");
-    }
-
-    @Test
-    void shouldReturnEmptyWhenMovieNotFound() {
-        //given
-        UUID movieId = UUID.randomUUID();
-        when(repository.findById(movieId)).thenReturn(Optional.empty());
-
-        //when
-        Optional<Movie> actual = tested.findById(movieId);
-
-        //then
-        assertThat(actual).isEmpty();
-    }
-}
\ No newline at end of file
+}
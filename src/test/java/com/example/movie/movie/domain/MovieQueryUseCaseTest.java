@@ -0,0 +1,95 @@
+package com.example.movie.movie.domain;
+
+import com.example.movie.common.BatchIds;
+import com.example.movie.common.InvalidBatchReadException;
+import com.example.movie.movie.domain.model.MovieView;
+import com.example.movie.movie.persistence.MovieQueryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MovieQueryUseCaseTest {
+    private final MovieQueryRepository repository = mock(MovieQueryRepository.class);
+    private final MovieQueryUseCase tested = new MovieQueryUseCase(repository);
+
+    @Test
+    void shouldFindMovieById() {
+        //given
+        UUID movieId = UUID.randomUUID();
+        MovieView movie = new MovieView(movieId, "Test Movie", 2023, 120, null, null, false, 1);
+        when(repository.findById(movieId)).thenReturn(Optional.of(movie));
+
+        //when
+        Optional<MovieView> actual = tested.findById(movieId);
+
+        //then
+        assertThat(actual).contains(movie);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenMovieNotFound() {
+        //given
+        UUID movieId = UUID.randomUUID();
+        when(repository.findById(movieId)).thenReturn(Optional.empty());
+
+        //when
+        Optional<MovieView> actual = tested.findById(movieId);
+
+        //then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void shouldFindMoviesByIdsInSingleRepositoryCall() {
+        //given
+        UUID existingId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        MovieView movie = new MovieView(existingId, "Test Movie", null, null, null, null, false, 1);
+        List<UUID> ids = List.of(missingId, existingId, missingId);
+        when(repository.findAllByIds(List.of(missingId, existingId))).thenReturn(List.of(movie));
+
+        //when
+        Map<UUID, MovieView> actual = tested.findAllByIds(ids);
+
+        //then
+        assertThat(actual).containsOnlyKeys(existingId);
+        verify(repository).findAllByIds(List.of(missingId, existingId));
+    }
+
+    @Test
+    void shouldNotQueryWhenNoIdsRequested() {
+        //when
+        Map<UUID, MovieView> actual = tested.findAllByIds(List.of());
+
+        //then
+        assertThat(actual).isEmpty();
+        verify(repository, never()).findAllByIds(any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTooManyIdsRequested() {
+        //given
+        List<UUID> ids = Stream.generate(UUID::randomUUID)
+                .limit(BatchIds.MAX_SIZE + 1)
+                .toList();
+
+        //when
+        Throwable caught = catchThrowable(() -> tested.findAllByIds(ids));
+
+        //then
+        assertThat(caught).isInstanceOf(InvalidBatchReadException.class)
+                .hasMessage("Too many ids");
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.movie.movie.domain;
+
+import com.example.movie.movie.domain.model.Poster;
+import com.example.movie.movie.domain.model.PosterReplacement;
+import com.example.movie.movie.domain.model.PosterStorageStats;
+import com.example.movie.movie.persistence.MovieRepository;
+import com.example.movie.movie.persistence.PosterRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PosterUseCaseTest {
+    private final MovieRepository movieRepository = mock(MovieRepository.class);
+    private final PosterRepository posterRepository = mock(PosterRepository.class);
+    private final PosterUseCase tested = new PosterUseCase(movieRepository, posterRepository);
+
+    private final byte[] image = "key art".getBytes();
+
+    @Test
+    void shouldStoreNewPosterContent() {
+        //given
+        UUID movieId = UUID.randomUUID();
+        when(movieRepository.replacePoster(movieId, new Poster(image))).thenReturn(Optional.of(PosterReplacement.STORED));
+
+        //when
+        tested.uploadPoster(movieId, file(image));
+
+        //then
+        assertThat(tested.getStoredUploadCount()).isEqualTo(1);
+        assertThat(tested.getDeduplicatedBytes()).isZero();
+    }
+
+    @Test
+    void shouldCountUploadOfAlreadyStoredContentAsDeduplicated() {
+        //given
+        UUID movieId = UUID.randomUUID();
+        when(movieRepository.replacePoster(movieId, new Poster(image))).thenReturn(Optional.of(PosterReplacement.DEDUPLICATED));
+
+        //when
+        tested.uploadPoster(movieId, file(image));
+
+        //then
+        assertThat(tested.getDeduplicatedUploadCount()).isEqualTo(1);
+        assertThat(tested.getDeduplicatedBytes()).isEqualTo(image.length);
+    }
+
+    @Test
+    void shouldCountUploadOfCurrentPosterAsUnchanged() {
+        //given
+        UUID movieId = UUID.randomUUID();
+        when(movieRepository.replacePoster(movieId, new Poster(image))).thenReturn(Optional.of(PosterReplacement.UNCHANGED));
+
+        //when
+        tested.uploadPoster(movieId, file(image));
+
+        //then
+        assertThat(tested.getUnchangedUploadCount()).isEqualTo(1);
+        assertThat(tested.getStoredUploadCount()).isZero();
+        assertThat(tested.getDeduplicatedBytes()).isEqualTo(image.length);
+    }
+
+    @Test
+    void shouldFailWhenMovieNotFound() {
+        //given
+        UUID movieId = UUID.randomUUID();
+        when(movieRepository.replacePoster(any(), any())).thenReturn(Optional.empty());
+
+        //when
+        Throwable thrown = catchThrowable(() -> tested.uploadPoster(movieId, file(image)));
+
+        //then
+        assertThat(thrown).hasMessage("Movie not found");
+    }
+
+    @Test
+    void shouldCollectGarbageAndRefreshStorageStats() {
+        //given
+        when(posterRepository.deleteUnreferenced()).thenReturn(2);
+        when(posterRepository.loadStats()).thenReturn(new PosterStorageStats(1_000, 3_500));
+
+        //when
+        tested.collectGarbage();
+
+        //then
+        assertThat(tested.getCollectedPosterCount()).isEqualTo(2);
+        assertThat(tested.getStoredBytes()).isEqualTo(1_000);
+        assertThat(tested.getSavedBytes()).isEqualTo(2_500);
+    }
+
+    private MockMultipartFile file(byte[] content) {
+        return new MockMultipartFile("posterImage", "poster.png", "image/png", content);
+    }
+}
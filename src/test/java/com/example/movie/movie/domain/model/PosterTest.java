@@ -0,0 +1,31 @@
+package com.example.movie.movie.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PosterTest {
+
+    @Test
+    void shouldAddressPosterBySha256OfContent() {
+        // when
+        Poster poster = new Poster("abc".getBytes());
+
+        // then
+        assertThat(poster.sha256()).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    void shouldTreatPostersWithSameContentAsEqual() {
+        // given
+        Poster uploaded = new Poster("same image".getBytes());
+
+        // when
+        Poster stored = Poster.stored(uploaded.sha256());
+
+        // then
+        assertThat(stored).isEqualTo(uploaded);
+        assertThat(stored.hashCode()).isEqualTo(uploaded.hashCode());
+        assertThat(new Poster("other image".getBytes())).isNotEqualTo(uploaded);
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.movie.recommendation.domain;
+
+import com.example.movie.recommendation.domain.model.InvalidRecommendationRequestException;
+import com.example.movie.recommendation.domain.model.Rating;
+import com.example.movie.recommendation.domain.model.Recommendation;
+import com.example.movie.recommendation.persistence.RatingRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class RecommendationUseCaseTest {
+    private final RatingRepository ratingRepository = mock(RatingRepository.class);
+    private final RecommendationUseCase tested = new RecommendationUseCase(ratingRepository, 20, 50, 50);
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+    private final UUID drama = UUID.randomUUID();
+    private final UUID comedy = UUID.randomUUID();
+    private final UUID sequel = UUID.randomUUID();
+    private final UUID parody = UUID.randomUUID();
+
+    @Test
+    void shouldRecommendMovieRatedLikeTheUsersFavourites() {
+        // given
+        givenStoredRatings(
+                new Rating(alice, drama, 9), new Rating(alice, comedy, 2), new Rating(alice, sequel, 9), new Rating(alice, parody, 3),
+                new Rating(bob, drama, 10), new Rating(bob, comedy, 1), new Rating(bob, sequel, 8), new Rating(bob, parody, 2),
+                new Rating(carol, drama, 9), new Rating(carol, comedy, 2));
+        tested.rebuild();
+
+        // when
+        List<Recommendation> actual = tested.recommend(carol, null);
+
+        // then
+        assertThat(actual).extracting(Recommendation::movieId).containsExactly(sequel, parody);
+        assertThat(actual.get(0).predictedRating()).isGreaterThan(actual.get(1).predictedRating());
+    }
+
+    @Test
+    void shouldApplyNewRatingWithoutRebuild() {
+        // given
+        givenStoredRatings(
+                new Rating(alice, drama, 9), new Rating(alice, comedy, 2), new Rating(alice, sequel, 9),
+                new Rating(bob, drama, 10), new Rating(bob, comedy, 1), new Rating(bob, sequel, 8));
+        tested.rebuild();
+
+        // when
+        tested.recordRating(carol, drama, 9);
+        tested.recordRating(carol, comedy, 2);
+        tested.refreshNeighbours();
+
+        // then
+        assertThat(tested.recommend(carol, null)).extracting(Recommendation::movieId).containsExactly(sequel);
+        assertThat(tested.getUserCount()).isEqualTo(3);
+        assertThat(tested.getRatingCount()).isEqualTo(8);
+        assertThat(tested.getIncrementalUpdateCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLearnFromRatingsWhenStartedEmpty() {
+        // given
+        givenStoredRatings();
+        tested.rebuild();
+
+        // when
+        tested.recordRating(alice, drama, 9);
+        tested.recordRating(alice, comedy, 2);
+        tested.recordRating(alice, sequel, 9);
+        tested.recordRating(bob, drama, 10);
+        tested.recordRating(bob, comedy, 1);
+        tested.recordRating(bob, sequel, 8);
+        tested.recordRating(carol, drama, 9);
+        tested.recordRating(carol, comedy, 2);
+        tested.refreshNeighbours();
+
+        // then
+        assertThat(tested.recommend(carol, null)).extracting(Recommendation::movieId).containsExactly(sequel);
+    }
+
+    @Test
+    void shouldDeferNeighbourRefreshToScheduledRun() {
+        // given
+        givenStoredRatings();
+        tested.rebuild();
+        tested.recordRating(alice, drama, 9);
+        tested.recordRating(alice, comedy, 2);
+        tested.recordRating(alice, sequel, 9);
+        tested.recordRating(carol, drama, 9);
+        tested.recordRating(carol, comedy, 2);
+        assertThat(tested.recommend(carol, null)).isEmpty();
+        assertThat(tested.getPendingRefreshCount()).isEqualTo(3);
+
+        // when
+        tested.refreshNeighbours();
+
+        // then
+        assertThat(tested.recommend(carol, null)).extracting(Recommendation::movieId).containsExactly(sequel);
+        assertThat(tested.getPendingRefreshCount()).isZero();
+    }
+
+    @Test
+    void shouldCapNeighbourRefreshesTriggeredByOneWrite() {
+        // given
+        RecommendationUseCase capped = new RecommendationUseCase(ratingRepository, 20, 50, 2);
+        givenStoredRatings(
+                new Rating(alice, drama, 9), new Rating(alice, comedy, 2), new Rating(alice, sequel, 9), new Rating(alice, parody, 3));
+        capped.rebuild();
+
+        // when
+        capped.recordRating(alice, parody, 4);
+
+        // then
+        assertThat(capped.getPendingRefreshCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStopRecommendingMovieOnceRated() {
+        // given
+        givenStoredRatings(
+                new Rating(alice, drama, 9), new Rating(alice, comedy, 2), new Rating(alice, sequel, 9),
+                new Rating(carol, drama, 9), new Rating(carol, comedy, 2));
+        tested.rebuild();
+
+        // when
+        tested.recordRating(carol, sequel, 7);
+
+        // then
+        assertThat(tested.recommend(carol, null)).isEmpty();
+    }
+
+    @Test
+    void shouldForgetRemovedRating() {
+        // given
+        givenStoredRatings(
+                new Rating(alice, drama, 9), new Rating(alice, comedy, 2), new Rating(alice, sequel, 9),
+                new Rating(carol, drama, 9), new Rating(carol, comedy, 2));
+        tested.rebuild();
+
+        // when
+        tested.removeRating(alice, sequel);
+        tested.refreshNeighbours();
+
+        // then
+        assertThat(tested.recommend(carol, null)).isEmpty();
+        assertThat(tested.getRatingCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldReplayChangesMadeDuringRebuild() {
+        // given
+        List<Rating> stored = new ArrayList<>(List.of(
+                new Rating(alice, drama, 9), new Rating(alice, comedy, 2),
+                new Rating(carol, drama, 9), new Rating(carol, comedy, 2)));
+        doAnswer(invocation -> {
+            Consumer<Rating> consumer = invocation.getArgument(0);
+            stored.forEach(consumer);
+            tested.recordRating(alice, sequel, 9);
+            return null;
+        }).when(ratingRepository).forEachRating(any());
+
+        // when
+        tested.rebuild();
+        tested.refreshNeighbours();
+
+        // then
+        assertThat(tested.recommend(carol, null)).extracting(Recommendation::movieId).containsExactly(sequel);
+    }
+
+    @Test
+    void shouldReturnNothingForUnknownUser() {
+        // given
+        givenStoredRatings(new Rating(alice, drama, 9), new Rating(alice, comedy, 2));
+        tested.rebuild();
+
+        // when
+        List<Recommendation> actual = tested.recommend(UUID.randomUUID(), null);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void shouldRejectLimitAboveMaximum() {
+        // when
+        Throwable caught = catchThrowable(() -> tested.recommend(alice, 51));
+
+        // then
+        assertThat(caught).isInstanceOf(InvalidRecommendationRequestException.class);
+    }
+
+    private void givenStoredRatings(Rating... ratings) {
+        doAnswer(invocation -> {
+            Consumer<Rating> consumer = invocation.getArgument(0);
+            List.of(ratings).forEach(consumer);
+            return null;
+        }).when(ratingRepository).forEachRating(any());
+    }
+}
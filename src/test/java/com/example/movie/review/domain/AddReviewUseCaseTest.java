@@ -1,5 +1,8 @@
 package com.example.movie.review.domain;
 
+import com.example.movie.moderation.domain.SpamDetectionUseCase;
+import com.example.movie.moderation.domain.model.SubmissionType;
+import com.example.movie.recommendation.domain.RecommendationUseCase;
 import com.example.movie.review.api.model.AddReviewRequest;
 import com.example.movie.review.domain.model.InvalidReviewAddRequestException;
 import com.example.movie.review.domain.model.Review;
@@ -20,7 +23,9 @@ import static org.mockito.Mockito.*;
 
 class AddReviewUseCaseTest {
     private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
-    private final AddReviewUseCase tested = new AddReviewUseCase(reviewRepository);
+    private final RecommendationUseCase recommendationUseCase = mock(RecommendationUseCase.class);
+    private final SpamDetectionUseCase spamDetectionUseCase = mock(SpamDetectionUseCase.class);
+    private final AddReviewUseCase tested = new AddReviewUseCase(reviewRepository, recommendationUseCase, spamDetectionUseCase);
 
     private UUID movieId;
     private UUID userId;
@@ -31,7 +36,8 @@ class AddReviewUseCaseTest {
         movieId = UUID.randomUUID();
         userId = UUID.randomUUID();
         reviewId = UUID.randomUUID();
-        when(reviewRepository.save(any(Review.class))).then(invocation -> invocation.getArgument(0));
+        when(reviewRepository.insert(any(Review.class))).then(invocation -> invocation.getArgument(0));
+        when(reviewRepository.update(any(Review.class))).then(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -50,6 +56,8 @@ class AddReviewUseCaseTest {
         assertThat(actual.getId()).isNotNull();
         assertThat(actual.getCreatedAt()).isNotNull();
         assertThat(actual.getUpdatedAt()).isNull();
+        verify(recommendationUseCase).recordRating(userId, movieId, 8);
+        verify(spamDetectionUseCase).inspect(SubmissionType.REVIEW, actual.getId().value(), userId, movieId, "Great movie!");
     }
 
     @Test
@@ -102,95 +110,6 @@ class AddReviewUseCaseTest {
         assertThat(actual.getComment()).isNull();
     }
 
-    @Test
-    void shouldFindReviewById() {
-        //given
-        ReviewId reviewIdObj = new ReviewId(reviewId);
-        Review expectedReview = Review.builder()
-                .withId(reviewIdObj)
-                .withMovieId(movieId)
-                .withUserId(userId)
-                .withRating(8)
-                .withComment("Great movie!")
-                .withCreatedAt(Instant.now())
-                .withUpdatedAt(null)
-                .build();
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(expectedReview));
-
-        //when
-        Optional<Review> actual = tested.findById(reviewId);
-
-        //then
-        assertThat(actual).isPresent();
-        assertThat(actual.get().getId().value()).isEqualTo(reviewId);
-        assertThat(actual.get().getMovieId()).isEqualTo(movieId);
-        assertThat(actual.get().getUserId()).isEqualTo(userId);
-        assertThat(actual.get().getRating()).isEqualTo(8);
-        assertThat(actual.get().getComment()).isEqualTo("Great movie!");
-    }
-
-    @Test
-    void shouldReturnEmptyWhenReviewNotFound() {
-        //given
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.empty());
-
-        //when
-        Optional<Review> actual = tested.findById(reviewId);
-
-        //then
-        assertThat(actual).isEmpty();
-    }
-
-    @Test
-    void shouldFindReviewsByMovieId() {
-        //given
-        UUID anotherUserId = UUID.randomUUID();
-        ReviewId reviewId1 = new ReviewId(UUID.randomUUID());
-        ReviewId reviewId2 = new ReviewId(UUID.randomUUID());
-
-        Review review1 = Review.builder()
-                .withId(reviewId1)
-                .withMovieId(movieId)
-                .withUserId(userId)
-                .withRating(8)
-                .withComment("Great movie!")
-                .withCreatedAt(Instant.now())
-                .withUpdatedAt(null)
-                .build();
-
-        Review review2 = Review.builder()
-                .withId(reviewId2)
-                .withMovieId(movieId)
-                .withUserId(anotherUserId)
-                .withRating(6)
-                .withComment("Good movie")
-                .withCreatedAt(Instant.now())
-                .withUpdatedAt(null)
-                .build();
-
-        List<Review> expectedReviews = List.of(review1, review2);
-        when(reviewRepository.findByMovieId(movieId)).thenReturn(expectedReviews);
-
-        //when
-        List<Review> actual = tested.findByMovieId(movieId);
-
-        //then
-        assertThat(actual).hasSize(2);
-        assertThat(actual).containsExactlyInAnyOrder(review1, review2);
-    }
-
-    @Test
-    void shouldReturnEmptyListWhenNoReviewsForMovie() {
-        //given
-        when(reviewRepository.findByMovieId(movieId)).thenReturn(List.of());
-
-        //when
-        List<Review> actual = tested.findByMovieId(movieId);
-
-        //then
-        assertThat(actual).isEmpty();
-    }
-
     @Test
     void shouldDeleteReviewWhenUserIsOwner() {
         //given
@@ -211,6 +130,8 @@ class AddReviewUseCaseTest {
 
         //then
         verify(reviewRepository).deleteById(reviewId);
+        verify(recommendationUseCase).removeRating(userId, movieId);
+        verify(spamDetectionUseCase).forget(List.of(reviewId));
     }
 
     @Test
@@ -279,7 +200,8 @@ class AddReviewUseCaseTest {
         assertThat(actual.getUpdatedAt()).isNotNull();
         assertThat(actual.getMovieId()).isEqualTo(movieId);
         assertThat(actual.getUserId()).isEqualTo(userId);
-        verify(reviewRepository).save(any(Review.class));
+        verify(reviewRepository).update(any(Review.class));
+        verify(recommendationUseCase).recordRating(userId, movieId, 9);
     }
 
     @Test
@@ -293,7 +215,7 @@ class AddReviewUseCaseTest {
         //then
         assertThat(caught).isInstanceOf(RuntimeException.class)
                 .hasMessage("Review not found");
-        verify(reviewRepository, never()).save(any());
+        verify(reviewRepository, never()).update(any());
     }
 
     @Test
@@ -318,7 +240,7 @@ class AddReviewUseCaseTest {
         //then
         assertThat(caught).isInstanceOf(RuntimeException.class)
                 .hasMessage("You can only edit your own reviews");
-        verify(reviewRepository, never()).save(any());
+        verify(reviewRepository, never()).update(any());
     }
 
     @Test
@@ -382,7 +304,7 @@ class AddReviewUseCaseTest {
         //then
         assertThat(caught).isInstanceOf(InvalidReviewAddRequestException.class)
                 .hasMessage("Invalid request");
-        verify(reviewRepository, never()).save(any(Review.class));
+        verify(reviewRepository, never()).insert(any(Review.class));
     }
 
     @Test
@@ -397,7 +319,7 @@ class AddReviewUseCaseTest {
         //then
         assertThat(caught).isInstanceOf(InvalidReviewAddRequestException.class)
                 .hasMessage("Invalid movie ID");
-        verify(reviewRepository, never()).save(any(Review.class));
+        verify(reviewRepository, never()).insert(any(Review.class));
     }
 
     @Test
@@ -413,7 +335,7 @@ class AddReviewUseCaseTest {
         //then
         assertThat(caught).isInstanceOf(InvalidReviewAddRequestException.class)
                 .hasMessage("Rating must be between 1 and 10");
-        verify(reviewRepository, never()).save(any(Review.class));
+        verify(reviewRepository, never()).insert(any(Review.class));
     }
 
     @Test
@@ -429,7 +351,7 @@ class AddReviewUseCaseTest {
         //then
         assertThat(caught).isInstanceOf(InvalidReviewAddRequestException.class)
                 .hasMessage("Rating must be between 1 and 10");
-        verify(reviewRepository, never()).save(any(Review.class));
+        verify(reviewRepository, never()).insert(any(Review.class));
     }
 
     @Test
@@ -445,7 +367,7 @@ class AddReviewUseCaseTest {
         //then
         assertThat(caught).isInstanceOf(InvalidReviewAddRequestException.class)
                 .hasMessage("Rating must be between 1 and 10");
-        verify(reviewRepository, never()).save(any(Review.class));
+        verify(reviewRepository, never()).insert(any(Review.class));
     }
 
     @Test
@@ -462,7 +384,7 @@ class AddReviewUseCaseTest {
         //then
         assertThat(caught).isInstanceOf(InvalidReviewAddRequestException.class)
                 .hasMessage("Comment too long");
-        verify(reviewRepository, never()).save(any(Review.class));
+        verify(reviewRepository, never()).insert(any(Review.class));
     }
 
     @Test
@@ -477,7 +399,7 @@ class AddReviewUseCaseTest {
             tested.addReview(request, userId);
         }
 
-        verify(reviewRepository, times(10)).save(any(Review.class));
+        verify(reviewRepository, times(10)).insert(any(Review.class));
     }
 
     @Test
@@ -494,7 +416,7 @@ class AddReviewUseCaseTest {
         //then
         assertThat(result.getComment()).isEqualTo(maxComment);
         assertThat(result.getComment()).hasSize(1000);
-        verify(reviewRepository).save(any(Review.class));
+        verify(reviewRepository).insert(any(Review.class));
     }
 
     @Test
@@ -509,7 +431,7 @@ class AddReviewUseCaseTest {
 
         //then
         assertThat(result.getComment()).isNull();
-        verify(reviewRepository).save(any(Review.class));
+        verify(reviewRepository).insert(any(Review.class));
     }
 
     @Test
@@ -524,7 +446,7 @@ class AddReviewUseCaseTest {
 
         //then
         assertThat(result.getComment()).isEqualTo("");
-        verify(reviewRepository).save(any(Review.class));
+        verify(reviewRepository).insert(any(Review.class));
     }
 
     //UPDATE VALIDATION TESTS
@@ -550,7 +472,7 @@ class AddReviewUseCaseTest {
         //then
         assertThat(caught).isInstanceOf(InvalidReviewAddRequestException.class)
                 .hasMessage("Rating must be between 1 and 10");
-        verify(reviewRepository, never()).save(any(Review.class));
+        verify(reviewRepository, never()).update(any(Review.class));
     }
 
     @Test
@@ -576,7 +498,7 @@ class AddReviewUseCaseTest {
         //then
         assertThat(caught).isInstanceOf(InvalidReviewAddRequestException.class)
                 .hasMessage("Comment too long");
-        verify(reviewRepository, never()).save(any(Review.class));
+        verify(reviewRepository, never()).update(any(Review.class));
     }
 
     @Test
@@ -601,7 +523,7 @@ class AddReviewUseCaseTest {
         assertThat(result.getComment()).isNull();
         assertThat(result.getRating()).isNull();
         assertThat(result.getUpdatedAt()).isNotNull();
-        verify(reviewRepository).save(any(Review.class));
+        verify(reviewRepository).update(any(Review.class));
     }
 
     @Test
@@ -631,6 +553,6 @@ class AddReviewUseCaseTest {
         assertThat(result1.getComment()).hasSize(1000);
         assertThat(result2.getRating()).isEqualTo(10);
         assertThat(result2.getComment()).isEqualTo("");
-        verify(reviewRepository, times(2)).save(any(Review.class));
+        verify(reviewRepository, times(2)).update(any(Review.class));
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.example.movie.review.domain;
+
+import com.example.movie.common.BatchIds;
+import com.example.movie.common.InvalidBatchReadException;
+import com.example.movie.review.domain.model.ReviewView;
+import com.example.movie.review.persistence.ReviewQueryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReviewQueryUseCaseTest {
+    private final ReviewQueryRepository reviewQueryRepository = mock(ReviewQueryRepository.class);
+    private final ReviewQueryUseCase tested = new ReviewQueryUseCase(reviewQueryRepository);
+
+    private final UUID movieId = UUID.randomUUID();
+
+    @Test
+    void shouldFindReviewById() {
+        //given
+        ReviewView expectedReview = review(8, "Great movie!");
+        when(reviewQueryRepository.findById(expectedReview.id())).thenReturn(Optional.of(expectedReview));
+
+        //when
+        Optional<ReviewView> actual = tested.findById(expectedReview.id());
+
+        //then
+        assertThat(actual).contains(expectedReview);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenReviewNotFound() {
+        //given
+        UUID reviewId = UUID.randomUUID();
+        when(reviewQueryRepository.findById(reviewId)).thenReturn(Optional.empty());
+
+        //when
+        Optional<ReviewView> actual = tested.findById(reviewId);
+
+        //then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void shouldFindReviewsByMovieId() {
+        //given
+        ReviewView review1 = review(8, "Great movie!");
+        ReviewView review2 = review(6, "Good movie");
+        when(reviewQueryRepository.findByMovieId(movieId)).thenReturn(List.of(review1, review2));
+
+        //when
+        List<ReviewView> actual = tested.findByMovieId(movieId);
+
+        //then
+        assertThat(actual).containsExactlyInAnyOrder(review1, review2);
+    }
+
+    @Test
+    void shouldReturnEmptyListWhenNoReviewsForMovie() {
+        //given
+        when(reviewQueryRepository.findByMovieId(movieId)).thenReturn(List.of());
+
+        //when
+        List<ReviewView> actual = tested.findByMovieId(movieId);
+
+        //then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void shouldFindReviewsByIdsInSingleRepositoryCall() {
+        //given
+        ReviewView existing = review(7, "Fine");
+        UUID missingId = UUID.randomUUID();
+        when(reviewQueryRepository.findAllByIds(List.of(existing.id(), missingId))).thenReturn(List.of(existing));
+
+        //when
+        Map<UUID, ReviewView> actual = tested.findAllByIds(List.of(existing.id(), missingId, existing.id()));
+
+        //then
+        assertThat(actual).containsOnlyKeys(existing.id());
+        verify(reviewQueryRepository).findAllByIds(List.of(existing.id(), missingId));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTooManyIdsRequested() {
+        //given
+        List<UUID> ids = Stream.generate(UUID::randomUUID)
+                .limit(BatchIds.MAX_SIZE + 1)
+                .toList();
+
+        //when
+        Throwable caught = catchThrowable(() -> tested.findAllByIds(ids));
+
+        //then
+        assertThat(caught).isInstanceOf(InvalidBatchReadException.class)
+                .hasMessage("Too many ids");
+    }
+
+    private ReviewView review(int rating, String comment) {
+        return new ReviewView(UUID.randomUUID(), movieId, rating, comment, Instant.now(), 1);
+    }
+}
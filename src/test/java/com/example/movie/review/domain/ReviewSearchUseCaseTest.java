@@ -0,0 +1,104 @@
+package com.example.movie.review.domain;
+
+import com.example.movie.review.domain.model.InvalidReviewSearchRequestException;
+import com.example.movie.review.domain.model.SearchCursor;
+import com.example.movie.review.domain.model.SearchHit;
+import com.example.movie.review.domain.model.SearchPage;
+import com.example.movie.review.persistence.ReviewSearchRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ReviewSearchUseCaseTest {
+    private final ReviewSearchRepository reviewSearchRepository = mock(ReviewSearchRepository.class);
+    private final ReviewSearchUseCase tested = new ReviewSearchUseCase(reviewSearchRepository);
+
+    private final UUID movieId = UUID.randomUUID();
+
+    @Test
+    void shouldReturnCursorOfLastHitWhenMoreHitsExist() {
+        //given
+        SearchHit first = hit(0.3f);
+        SearchHit second = hit(0.1f);
+        when(reviewSearchRepository.search("soundtrack", movieId, null, 3)).thenReturn(List.of(first, second, hit(0.1f)));
+
+        //when
+        SearchPage actual = tested.search(" soundtrack ", movieId, 2, null);
+
+        //then
+        assertThat(actual.hits()).containsExactly(first, second);
+        assertThat(SearchCursor.decode(actual.nextCursor())).isEqualTo(new SearchCursor(0.1f, second.id()));
+    }
+
+    @Test
+    void shouldOmitCursorOnLastPage() {
+        //given
+        SearchCursor after = new SearchCursor(0.2f, UUID.randomUUID());
+        SearchHit last = hit(0.1f);
+        when(reviewSearchRepository.search("soundtrack", null, after, 21)).thenReturn(List.of(last));
+
+        //when
+        SearchPage actual = tested.search("soundtrack", null, null, after.encode());
+
+        //then
+        assertThat(actual.hits()).containsExactly(last);
+        assertThat(actual.nextCursor()).isNull();
+        verify(reviewSearchRepository).search(eq("soundtrack"), isNull(), eq(after), anyInt());
+    }
+
+    @Test
+    void shouldRejectBlankQuery() {
+        //when
+        Throwable caught = catchThrowable(() -> tested.search("   ", movieId, null, null));
+
+        //then
+        assertThat(caught).isInstanceOf(InvalidReviewSearchRequestException.class)
+                .hasMessage("Invalid search query");
+        verifyNoInteractions(reviewSearchRepository);
+    }
+
+    @Test
+    void shouldRejectQueryLongerThanMaximum() {
+        //when
+        Throwable caught = catchThrowable(() -> tested.search("a".repeat(ReviewSearchUseCase.MAX_QUERY_LENGTH + 1), null, null, null));
+
+        //then
+        assertThat(caught).isInstanceOf(InvalidReviewSearchRequestException.class)
+                .hasMessage("Invalid search query");
+    }
+
+    @Test
+    void shouldRejectLimitAboveMaximum() {
+        //when
+        Throwable caught = catchThrowable(() -> tested.search("soundtrack", null, 51, null));
+
+        //then
+        assertThat(caught).isInstanceOf(InvalidReviewSearchRequestException.class)
+                .hasMessage("Invalid limit");
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        //when
+        Throwable caught = catchThrowable(() -> tested.search("soundtrack", null, null, "not-a-cursor"));
+
+        //then
+        assertThat(caught).isInstanceOf(InvalidReviewSearchRequestException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private SearchHit hit(float rank) {
+        return new SearchHit("REVIEW", UUID.randomUUID(), movieId, rank, "the <mark>soundtrack</mark>");
+    }
+}
@@ -1,13 +1,12 @@
 package com.example.movie.superreview.domain;
 
+import com.example.movie.moderation.domain.SpamDetectionUseCase;
 import com.example.movie.superreview.api.model.AddSuperReviewRequest;
 import com.example.movie.superreview.domain.model.InvalidSuperReviewAddRequestException;
 import com.example.movie.superreview.domain.model.SuperReview;
 import com.example.movie.superreview.domain.model.SuperReviewId;
 import com.example.movie.superreview.persistence.SuperReviewRepository;
-import com.example.movie.user.domain.model.User;
-import com.example.movie.user.domain.model.UserId;
-import com.example.movie.user.persistence.UserRepository;
+import com.example.movie.user.domain.model.AuthenticatedUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -23,14 +22,17 @@ import static org.mockito.Mockito.*;
 class AddSuperReviewUseCaseTest {
 
     private final SuperReviewRepository superReviewRepository = mock(SuperReviewRepository.class);
-    private final UserRepository userRepository = mock(UserRepository.class);
-    private final AddSuperReviewUseCase tested = new AddSuperReviewUseCase(superReviewRepository, userRepository);
+    private final SpamDetectionUseCase spamDetectionUseCase = mock(SpamDetectionUseCase.class);
+    private final AddSuperReviewUseCase tested = new AddSuperReviewUseCase(superReviewRepository, spamDetectionUseCase);
 
     private UUID movieId;
     private UUID superReviewerId;
     private UUID adminId;
     private UUID regularUserId;
     private UUID superReviewId;
+    private AuthenticatedUser superReviewer;
+    private AuthenticatedUser admin;
+    private AuthenticatedUser regularUser;
 
     @BeforeEach
     void setUp() {
@@ -39,20 +41,21 @@ class AddSuperReviewUseCaseTest {
         adminId = UUID.randomUUID();
         regularUserId = UUID.randomUUID();
         superReviewId = UUID.randomUUID();
+        superReviewer = new AuthenticatedUser(superReviewerId, "SUPER_REVIEWER");
+        admin = new AuthenticatedUser(adminId, "ADMIN");
+        regularUser = new AuthenticatedUser(regularUserId, "USER");
 
-        when(superReviewRepository.save(any(SuperReview.class))).then(invocation -> invocation.getArgument(0));
+        when(superReviewRepository.insert(any(SuperReview.class))).then(invocation -> invocation.getArgument(0));
+        when(superReviewRepository.update(any(SuperReview.class))).then(invocation -> invocation.getArgument(0));
     }
 
     @Test
     void shouldAddSuperReviewWhenUserIsSuperReviewer() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = createValidSuperReviewRequest();
 
         // when
-        SuperReview result = tested.addSuperReview(request, superReviewerId);
+        SuperReview result = tested.addSuperReview(request, superReviewer);
 
         // then
         assertThat(result.getMovieId()).isEqualTo(movieId);
@@ -71,98 +74,47 @@ class AddSuperReviewUseCaseTest {
         assertThat(result.getCreatedAt()).isNotNull();
         assertThat(result.getUpdatedAt()).isNull();
 
-        verify(superReviewRepository).save(any(SuperReview.class));
+        verify(superReviewRepository).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldAddSuperReviewWhenUserIsAdmin() {
         // given
-        User admin = createUserWithRole("ADMIN", adminId);
-        when(userRepository.findById(adminId)).thenReturn(Optional.of(admin));
-
         AddSuperReviewRequest request = createValidSuperReviewRequest();
 
         // when
-        SuperReview result = tested.addSuperReview(request, adminId);
+        SuperReview result = tested.addSuperReview(request, admin);
 
         // then
         assertThat(result.getMovieId()).isEqualTo(movieId);
         assertThat(result.getUserId()).isEqualTo(adminId);
         assertThat(result.getOverallRating()).isEqualTo(8);
-        verify(superReviewRepository).save(any(SuperReview.class));
+        verify(superReviewRepository).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenRegularUserTriesToCreateSuperReview() {
         // given
-        User regularUser = createUserWithRole("USER", regularUserId);
-        when(userRepository.findById(regularUserId)).thenReturn(Optional.of(regularUser));
-
         AddSuperReviewRequest request = createValidSuperReviewRequest();
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, regularUserId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, regularUser));
 
         // then
         assertThat(caught).isInstanceOf(RuntimeException.class)
                 .hasMessage("Only SUPER_REVIEWER and ADMIN users can create super reviews");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
-    }
-
-    @Test
-    void shouldThrowExceptionWhenUserNotFound() {
-        // given
-        UUID nonExistentUserId = UUID.randomUUID();
-        when(userRepository.findById(nonExistentUserId)).thenReturn(Optional.empty());
-
-        AddSuperReviewRequest request = createValidSuperReviewRequest();
-
-        // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, nonExistentUserId));
-
-        // then
-        assertThat(caught).isInstanceOf(RuntimeException.class)
-                .hasMessage("User not found");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
-    }
-
-    @Test
-    void shouldFindSuperReviewById() {
-        // given
-        SuperReview expectedSuperReview = createSuperReview();
-        when(superReviewRepository.findById(superReviewId)).thenReturn(Optional.of(expectedSuperReview));
-
-        // when
-        Optional<SuperReview> result = tested.findById(superReviewId);
-
-        // then
-        assertThat(result).isPresent();
-        assertThat(result.get()).isEqualTo(expectedSuperReview);
-    }
-
-    @Test
-    void shouldReturnEmptyWhenSuperReviewNotFound() {
-        // given
-        when(superReviewRepository.findById(superReviewId)).thenReturn(Optional.empty());
-
-        // when
-        Optional<SuperReview> result = tested.findById(superReviewId);
-
-        // then
-        assertThat(result).isEmpty();
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldDeleteOwnSuperReview() {
         // given
         SuperReview superReview = createSuperReview();
-        User owner = createUserWithRole("SUPER_REVIEWER", superReviewerId);
 
         when(superReviewRepository.findById(superReviewId)).thenReturn(Optional.of(superReview));
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(owner));
 
         // when
-        tested.deleteSuperReview(superReviewId, superReviewerId);
+        tested.deleteSuperReview(superReviewId, superReviewer);
 
         // then
         verify(superReviewRepository).deleteById(superReviewId);
@@ -172,13 +124,11 @@ class AddSuperReviewUseCaseTest {
     void shouldDeleteSuperReviewWhenUserIsAdmin() {
         // given
         SuperReview superReview = createSuperReview();
-        User admin = createUserWithRole("ADMIN", adminId);
 
         when(superReviewRepository.findById(superReviewId)).thenReturn(Optional.of(superReview));
-        when(userRepository.findById(adminId)).thenReturn(Optional.of(admin));
 
         // when
-        tested.deleteSuperReview(superReviewId, adminId);
+        tested.deleteSuperReview(superReviewId, admin);
 
         // then
         verify(superReviewRepository).deleteById(superReviewId);
@@ -188,13 +138,12 @@ class AddSuperReviewUseCaseTest {
     void shouldThrowExceptionWhenTryingToDeleteOtherUsersSuperReview() {
         // given
         SuperReview superReview = createSuperReview();
-        User otherUser = createUserWithRole("SUPER_REVIEWER", UUID.randomUUID());
+        AuthenticatedUser otherUser = new AuthenticatedUser(UUID.randomUUID(), "SUPER_REVIEWER");
 
         when(superReviewRepository.findById(superReviewId)).thenReturn(Optional.of(superReview));
-        when(userRepository.findById(otherUser.getId().value())).thenReturn(Optional.of(otherUser));
 
         // when
-        Throwable caught = catchThrowable(() -> tested.deleteSuperReview(superReviewId, otherUser.getId().value()));
+        Throwable caught = catchThrowable(() -> tested.deleteSuperReview(superReviewId, otherUser));
 
         // then
         assertThat(caught).isInstanceOf(RuntimeException.class)
@@ -208,7 +157,7 @@ class AddSuperReviewUseCaseTest {
         when(superReviewRepository.findById(superReviewId)).thenReturn(Optional.empty());
 
         // when
-        Throwable caught = catchThrowable(() -> tested.deleteSuperReview(superReviewId, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.deleteSuperReview(superReviewId, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(RuntimeException.class)
@@ -216,30 +165,12 @@ class AddSuperReviewUseCaseTest {
         verify(superReviewRepository, never()).deleteById(any());
     }
 
-    @Test
-    void shouldThrowExceptionWhenDeletingUserNotFound() {
-        // given
-        SuperReview superReview = createSuperReview();
-        when(superReviewRepository.findById(superReviewId)).thenReturn(Optional.of(superReview));
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.empty());
-
-        // when
-        Throwable caught = catchThrowable(() -> tested.deleteSuperReview(superReviewId, superReviewerId));
-
-        // then
-        assertThat(caught).isInstanceOf(RuntimeException.class)
-                .hasMessage("User not found");
-        verify(superReviewRepository, never()).deleteById(any());
-    }
-
     @Test
     void shouldUpdateOwnSuperReview() {
         // given
         SuperReview originalSuperReview = createSuperReview();
-        User owner = createUserWithRole("SUPER_REVIEWER", superReviewerId);
 
         when(superReviewRepository.findById(superReviewId)).thenReturn(Optional.of(originalSuperReview));
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(owner));
 
         AddSuperReviewRequest updateRequest = createUpdatedSuperReviewRequest();
 
@@ -261,27 +192,26 @@ class AddSuperReviewUseCaseTest {
         assertThat(result.getMovieId()).isEqualTo(originalSuperReview.getMovieId());
         assertThat(result.getUserId()).isEqualTo(originalSuperReview.getUserId());
 
-        verify(superReviewRepository).save(any(SuperReview.class));
+        verify(superReviewRepository).update(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenTryingToUpdateOtherUsersSuperReview() {
         // given
         SuperReview superReview = createSuperReview();
-        User otherUser = createUserWithRole("SUPER_REVIEWER", UUID.randomUUID());
+        AuthenticatedUser otherUser = new AuthenticatedUser(UUID.randomUUID(), "SUPER_REVIEWER");
 
         when(superReviewRepository.findById(superReviewId)).thenReturn(Optional.of(superReview));
-        when(userRepository.findById(otherUser.getId().value())).thenReturn(Optional.of(otherUser));
 
         AddSuperReviewRequest updateRequest = createUpdatedSuperReviewRequest();
 
         // when
-        Throwable caught = catchThrowable(() -> tested.updateSuperReview(superReviewId, otherUser.getId().value(), updateRequest));
+        Throwable caught = catchThrowable(() -> tested.updateSuperReview(superReviewId, otherUser.userId(), updateRequest));
 
         // then
         assertThat(caught).isInstanceOf(RuntimeException.class)
                 .hasMessage("You can only edit your own super reviews");
-        verify(superReviewRepository, never()).save(any());
+        verify(superReviewRepository, never()).update(any());
     }
 
     @Test
@@ -297,21 +227,18 @@ class AddSuperReviewUseCaseTest {
         // then
         assertThat(caught).isInstanceOf(RuntimeException.class)
                 .hasMessage("Super review not found");
-        verify(superReviewRepository, never()).save(any());
+        verify(superReviewRepository, never()).update(any());
     }
 
     @Test
     void shouldCreateSuperReviewWithAllNullOptionalFields() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 9, 8, 6, null, null, null, null, null
         );
 
         // when
-        SuperReview result = tested.addSuperReview(request, superReviewerId);
+        SuperReview result = tested.addSuperReview(request, superReviewer);
 
         // then
         assertThat(result.getTitle()).isNull();
@@ -325,15 +252,12 @@ class AddSuperReviewUseCaseTest {
     @Test
     void shouldCreateSuperReviewWithMinimumRatings() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 1, 1, 1, 1, 1, "Bad Movie", "Really bad", "None", "Everything", false
         );
 
         // when
-        SuperReview result = tested.addSuperReview(request, superReviewerId);
+        SuperReview result = tested.addSuperReview(request, superReviewer);
 
         // then
         assertThat(result.getOverallRating()).isEqualTo(1);
@@ -347,15 +271,12 @@ class AddSuperReviewUseCaseTest {
     @Test
     void shouldCreateSuperReviewWithMaximumRatings() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 10, 10, 10, 10, 10, "Perfect Movie", "Absolutely perfect", "Everything", "Nothing", true
         );
 
         // when
-        SuperReview result = tested.addSuperReview(request, superReviewerId);
+        SuperReview result = tested.addSuperReview(request, superReviewer);
 
         // then
         assertThat(result.getOverallRating()).isEqualTo(10);
@@ -370,333 +291,278 @@ class AddSuperReviewUseCaseTest {
 
     @Test
     void shouldThrowExceptionWhenAddSuperReviewRequestIsNull() {
-        // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(null, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(null, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Invalid request");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenMovieIdIsNull() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 null, 8, 7, 9, 8, 6, "Great Movie", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Invalid movie ID");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenOverallRatingTooLow() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 0, 7, 9, 8, 6, "Great Movie", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Overall rating must be between 1 and 10");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenOverallRatingTooHigh() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 11, 7, 9, 8, 6, "Great Movie", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Overall rating must be between 1 and 10");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenScriptRatingTooLow() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 0, 9, 8, 6, "Great Movie", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Script rating must be between 1 and 10");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenScriptRatingTooHigh() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 11, 9, 8, 6, "Great Movie", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Script rating must be between 1 and 10");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenActingRatingTooLow() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 0, 8, 6, "Great Movie", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Acting rating must be between 1 and 10");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenActingRatingTooHigh() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 11, 8, 6, "Great Movie", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Acting rating must be between 1 and 10");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenEffectsRatingTooLow() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 9, 0, 6, "Great Movie", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Effects rating must be between 1 and 10");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenEffectsRatingTooHigh() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 9, 11, 6, "Great Movie", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Effects rating must be between 1 and 10");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenMusicRatingTooLow() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 9, 8, 0, "Great Movie", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Music rating must be between 1 and 10");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenMusicRatingTooHigh() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 9, 8, 11, "Great Movie", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Music rating must be between 1 and 10");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenTitleIsEmpty() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 9, 8, 6, "   ", "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Invalid title");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenTitleTooLong() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         String longTitle = "A".repeat(201); // 201 characters
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 9, 8, 6, longTitle, "Detailed comment", "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Title too long");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenDetailedCommentTooLong() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         String longComment = "A".repeat(5001); // 5001 characters
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 9, 8, 6, "Great Movie", longComment, "Pros", "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Detailed comment too long");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenProsTooLong() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         String longPros = "A".repeat(2001); // 2001 characters
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 9, 8, 6, "Great Movie", "Detailed comment", longPros, "Cons", true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Pros section too long");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldThrowExceptionWhenConsTooLong() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         String longCons = "A".repeat(2001); // 2001 characters
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, 7, 9, 8, 6, "Great Movie", "Detailed comment", "Pros", longCons, true
         );
 
         // when
-        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewerId));
+        Throwable caught = catchThrowable(() -> tested.addSuperReview(request, superReviewer));
 
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Cons section too long");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldAcceptValidBoundaryValues() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         String maxTitle = "A".repeat(200); // Exactly 200 characters
         String maxDetailedComment = "B".repeat(5000); // Exactly 5000 characters
         String maxPros = "C".repeat(2000); // Exactly 2000 characters
@@ -707,7 +573,7 @@ class AddSuperReviewUseCaseTest {
         );
 
         // when
-        SuperReview result = tested.addSuperReview(request, superReviewerId);
+        SuperReview result = tested.addSuperReview(request, superReviewer);
 
         // then
         assertThat(result.getTitle()).hasSize(200);
@@ -715,21 +581,18 @@ class AddSuperReviewUseCaseTest {
         assertThat(result.getPros()).hasSize(2000);
         assertThat(result.getCons()).hasSize(2000);
         assertThat(result.getOverallRating()).isEqualTo(1);
-        verify(superReviewRepository).save(any(SuperReview.class));
+        verify(superReviewRepository).insert(any(SuperReview.class));
     }
 
     @Test
     void shouldAcceptNullOptionalRatings() {
         // given
-        User superReviewer = createUserWithRole("SUPER_REVIEWER", superReviewerId);
-        when(userRepository.findById(superReviewerId)).thenReturn(Optional.of(superReviewer));
-
         AddSuperReviewRequest request = new AddSuperReviewRequest(
                 movieId, 8, null, null, null, null, "Great Movie", "Comment", "Pros", "Cons", true
         );
 
         // when
-        SuperReview result = tested.addSuperReview(request, superReviewerId);
+        SuperReview result = tested.addSuperReview(request, superReviewer);
 
         // then
         assertThat(result.getOverallRating()).isEqualTo(8);
@@ -737,7 +600,7 @@ class AddSuperReviewUseCaseTest {
         assertThat(result.getActingRating()).isNull();
         assertThat(result.getEffectsRating()).isNull();
         assertThat(result.getMusicRating()).isNull();
-        verify(superReviewRepository).save(any(SuperReview.class));
+        verify(superReviewRepository).insert(any(SuperReview.class));
     }
 
     //UPDATE VALIDATION TESTS
@@ -759,7 +622,7 @@ class AddSuperReviewUseCaseTest {
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Overall rating must be between 1 and 10");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).update(any(SuperReview.class));
     }
 
     @Test
@@ -780,7 +643,7 @@ class AddSuperReviewUseCaseTest {
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Title too long");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).update(any(SuperReview.class));
     }
 
     @Test
@@ -801,7 +664,7 @@ class AddSuperReviewUseCaseTest {
         // then
         assertThat(caught).isInstanceOf(InvalidSuperReviewAddRequestException.class)
                 .hasMessage("Detailed comment too long");
-        verify(superReviewRepository, never()).save(any(SuperReview.class));
+        verify(superReviewRepository, never()).update(any(SuperReview.class));
     }
 
     @Test
@@ -830,21 +693,10 @@ class AddSuperReviewUseCaseTest {
         assertThat(result.getCons()).isNull();
         assertThat(result.getRecommendation()).isNull();
         assertThat(result.getUpdatedAt()).isNotNull();
-        verify(superReviewRepository).save(any(SuperReview.class));
+        verify(superReviewRepository).update(any(SuperReview.class));
     }
 
 
-    private User createUserWithRole(String role, UUID userId) {
-        return User.builder()
-                .withId(new UserId(userId))
-                .withUsername("testuser")
-                .withEmail("test@example.com")
-                .withPasswordHash("hashedPassword")
-                .withRole(role)
-                .withCreatedAt(Instant.now())
-                .build();
-    }
-
     private AddSuperReviewRequest createValidSuperReviewRequest() {
         return new AddSuperReviewRequest(
                 movieId,
@@ -0,0 +1,86 @@
+package com.example.movie.superreview.domain;
+
+import com.example.movie.common.BatchIds;
+import com.example.movie.common.InvalidBatchReadException;
+import com.example.movie.superreview.domain.model.SuperReviewView;
+import com.example.movie.superreview.persistence.SuperReviewQueryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SuperReviewQueryUseCaseTest {
+    private final SuperReviewQueryRepository superReviewQueryRepository = mock(SuperReviewQueryRepository.class);
+    private final SuperReviewQueryUseCase tested = new SuperReviewQueryUseCase(superReviewQueryRepository);
+
+    @Test
+    void shouldFindSuperReviewById() {
+        // given
+        SuperReviewView expectedSuperReview = superReview();
+        when(superReviewQueryRepository.findById(expectedSuperReview.id())).thenReturn(Optional.of(expectedSuperReview));
+
+        // when
+        Optional<SuperReviewView> result = tested.findById(expectedSuperReview.id());
+
+        // then
+        assertThat(result).contains(expectedSuperReview);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenSuperReviewNotFound() {
+        // given
+        UUID superReviewId = UUID.randomUUID();
+        when(superReviewQueryRepository.findById(superReviewId)).thenReturn(Optional.empty());
+
+        // when
+        Optional<SuperReviewView> result = tested.findById(superReviewId);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldFindSuperReviewsByIdsInSingleRepositoryCall() {
+        // given
+        SuperReviewView existing = superReview();
+        UUID missingId = UUID.randomUUID();
+        when(superReviewQueryRepository.findAllByIds(List.of(missingId, existing.id()))).thenReturn(List.of(existing));
+
+        // when
+        Map<UUID, SuperReviewView> result = tested.findAllByIds(List.of(missingId, existing.id(), missingId));
+
+        // then
+        assertThat(result).containsOnlyKeys(existing.id());
+        verify(superReviewQueryRepository).findAllByIds(List.of(missingId, existing.id()));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTooManyIdsRequested() {
+        // given
+        List<UUID> ids = Stream.generate(UUID::randomUUID)
+                .limit(BatchIds.MAX_SIZE + 1)
+                .toList();
+
+        // when
+        Throwable caught = catchThrowable(() -> tested.findAllByIds(ids));
+
+        // then
+        assertThat(caught).isInstanceOf(InvalidBatchReadException.class)
+                .hasMessage("Too many ids");
+    }
+
+    private SuperReviewView superReview() {
+        return new SuperReviewView(UUID.randomUUID(), UUID.randomUUID(), 4, 4, 5, 3, 4,
+                "Solid", "Detailed comment", null, null, true, Instant.now(), null, 1);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.movie.user.domain;
+
+import com.example.movie.user.domain.model.User;
+import com.example.movie.user.domain.model.UserId;
+import com.example.movie.user.persistence.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LoginUseCaseTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final String PASSWORD = "password123";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final LoginUseCase tested = new LoginUseCase(userRepository, passwordEncoder);
+
+    @Test
+    void shouldAuthenticateUserWithMatchingPassword() {
+        // given
+        User user = createUser("hash");
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(PASSWORD, "hash")).thenReturn(true);
+
+        // when
+        Optional<User> actual = tested.authenticate(EMAIL, PASSWORD);
+
+        // then
+        assertThat(actual).contains(user);
+        verify(userRepository, never()).update(any(User.class));
+    }
+
+    @Test
+    void shouldRejectWrongPassword() {
+        // given
+        User user = createUser("hash");
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(PASSWORD, "hash")).thenReturn(false);
+
+        // when
+        Optional<User> actual = tested.authenticate(EMAIL, PASSWORD);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void shouldNotVerifyPasswordWhenUserDoesNotExist() {
+        // given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        // when
+        Optional<User> actual = tested.authenticate(EMAIL, PASSWORD);
+
+        // then
+        assertThat(actual).isEmpty();
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    void shouldRehashPasswordWhenEncodingNeedsUpgrade() {
+        // given
+        User user = createUser("old-hash");
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(PASSWORD, "old-hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode(PASSWORD)).thenReturn("new-hash");
+        when(userRepository.update(any(User.class))).then(invocation -> invocation.getArgument(0));
+
+        // when
+        Optional<User> actual = tested.authenticate(EMAIL, PASSWORD);
+
+        // then
+        assertThat(actual).hasValueSatisfying(authenticated ->
+                assertThat(authenticated.getPasswordHash()).isEqualTo("new-hash"));
+        verify(userRepository).update(any(User.class));
+    }
+
+    private User createUser(String passwordHash) {
+        return User.builder()
+                .withId(new UserId(UUID.randomUUID()))
+                .withUsername("user")
+                .withEmail(EMAIL)
+                .withPasswordHash(passwordHash)
+                .withRole("USER")
+                .withCreatedAt(Instant.now())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.movie.user.domain;
 
 
+import com.example.movie.application.CacheInvalidationBus;
 import com.example.movie.user.api.model.RegisterUserRequest;
 import com.example.movie.user.domain.model.IllegalRegisterUserRequestException;
 import com.example.movie.user.domain.model.User;
@@ -13,6 +14,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class RegisterUserUseCaseTest {
@@ -21,11 +24,12 @@ class RegisterUserUseCaseTest {
     public static final String EMAIL = "email@gmail.com";
     private final UserRepository repository = mock(UserRepository.class);
     private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
-    private final RegisterUserUseCase tested = new RegisterUserUseCase(repository, passwordEncoder);
+    private final UserAvailabilityUseCase userAvailabilityUseCase = new UserAvailabilityUseCase(repository, mock(CacheInvalidationBus.class), 1000, 0.01);
+    private final RegisterUserUseCase tested = new RegisterUserUseCase(repository, passwordEncoder, userAvailabilityUseCase);
 
     @BeforeEach
     void setUp() {
-        when(repository.save(any(User.class))).then(invocation -> invocation.getArgument(0));
+        when(repository.insert(any(User.class))).then(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -98,4 +102,41 @@ class RegisterUserUseCaseTest {
                 .hasMessage("Wrong email");
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldRejectTakenUsernameBeforeHashingPassword() {
+        // given
+        when(repository.existsByUsername(USERNAME)).thenReturn(true);
+
+        RegisterUserRequest request = RegisterUserRequest.builder()
+                .withUsername(USERNAME)
+                .withPassword("validPassword123")
+                .withEmail(EMAIL)
+                .build();
+
+        // when
+        Throwable caught = catchThrowable(() -> tested.register(request));
+
+        // then
+        assertThat(caught).isInstanceOf(IllegalRegisterUserRequestException.class)
+                .hasMessage("Username already taken");
+        verify(passwordEncoder, never()).encode(any());
+        verify(repository, never()).insert(any(User.class));
+    }
+
+    @Test
+    void shouldNotHashPassword_WhenEmailIsInvalid() {
+        // given
+        RegisterUserRequest request = RegisterUserRequest.builder()
+                .withUsername(USERNAME)
+                .withPassword("validPassword123")
+                .withEmail("invalidEmail")
+                .build();
+
+        // when
+        catchThrowable(() -> tested.register(request));
+
+        // then
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+}
@@ -1,23 +1,24 @@
 package com.example.movie.user.domain;
 
 import com.example.movie.user.domain.model.SessionData;
+import com.example.movie.user.persistence.InMemorySessionStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.lang.reflect.Field;
 import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SessionServiceTest {
 
+    private InMemorySessionStore sessionStore;
     private SessionService sessionService;
 
     @BeforeEach
     void setUp() {
-        sessionService = new SessionService();
+        sessionStore = new InMemorySessionStore();
+        sessionService = new SessionService(sessionStore);
     }
 
     @Test
@@ -26,7 +27,7 @@ class SessionServiceTest {
         UUID userId = UUID.randomUUID();
 
         // when
-        String sessionId = sessionService.createSession(userId);
+        String sessionId = sessionService.createSession(userId, "USER");
 
         // then
         assertThat(sessionId).isNotNull();
@@ -43,8 +44,8 @@ class SessionServiceTest {
         UUID userId2 = UUID.randomUUID();
 
         // when
-        String sessionId1 = sessionService.createSession(userId1);
-        String sessionId2 = sessionService.createSession(userId2);
+        String sessionId1 = sessionService.createSession(userId1, "USER");
+        String sessionId2 = sessionService.createSession(userId2, "USER");
 
         // then
         assertThat(sessionId1).isNotEqualTo(sessionId2);
@@ -56,8 +57,8 @@ class SessionServiceTest {
         UUID userId = UUID.randomUUID();
 
         // when
-        String firstSessionId = sessionService.createSession(userId);
-        String secondSessionId = sessionService.createSession(userId);
+        String firstSessionId = sessionService.createSession(userId, "USER");
+        String secondSessionId = sessionService.createSession(userId, "USER");
 
         // then
         assertThat(sessionService.getUserId(firstSessionId)).isNull();
@@ -68,7 +69,7 @@ class SessionServiceTest {
     void shouldReturnUserIdForValidSession() {
         // given
         UUID userId = UUID.randomUUID();
-        String sessionId = sessionService.createSession(userId);
+        String sessionId = sessionService.createSession(userId, "USER");
 
         // when
         UUID retrievedUserId = sessionService.getUserId(sessionId);
@@ -102,7 +103,7 @@ class SessionServiceTest {
     void shouldRemoveExpiredSessionAndReturnNull() throws Exception {
         // given
         UUID userId = UUID.randomUUID();
-        String sessionId = sessionService.createSession(userId);
+        String sessionId = sessionService.createSession(userId, "USER");
 
         injectExpiredSession(sessionId, userId);
 
@@ -119,7 +120,7 @@ class SessionServiceTest {
     void shouldRemoveSessionById() {
         // given
         UUID userId = UUID.randomUUID();
-        String sessionId = sessionService.createSession(userId);
+        String sessionId = sessionService.createSession(userId, "USER");
 
         // when
         sessionService.removeSession(sessionId);
@@ -152,7 +153,7 @@ class SessionServiceTest {
         UUID userId = UUID.randomUUID();
 
         // when
-        String sessionId = sessionService.createSession(userId);
+        String sessionId = sessionService.createSession(userId, "USER");
 
         // then
         SessionData sessionData = getSessionDataFromStore(sessionId);
@@ -169,7 +170,7 @@ class SessionServiceTest {
     void shouldNotExpireValidSession() throws Exception {
         // given
         UUID userId = UUID.randomUUID();
-        String sessionId = sessionService.createSession(userId);
+        String sessionId = sessionService.createSession(userId, "USER");
 
         // when
         UUID retrievedUserId = sessionService.getUserId(sessionId);
@@ -188,9 +189,9 @@ class SessionServiceTest {
         UUID userId3 = UUID.randomUUID();
 
         // when
-        String sessionId1 = sessionService.createSession(userId1);
-        String sessionId2 = sessionService.createSession(userId2);
-        String sessionId3 = sessionService.createSession(userId3);
+        String sessionId1 = sessionService.createSession(userId1, "USER");
+        String sessionId2 = sessionService.createSession(userId2, "USER");
+        String sessionId3 = sessionService.createSession(userId3, "USER");
 
         // then
         assertThat(sessionService.getUserId(sessionId1)).isEqualTo(userId1);
@@ -204,8 +205,8 @@ class SessionServiceTest {
         UUID userId1 = UUID.randomUUID();
         UUID userId2 = UUID.randomUUID();
 
-        String session1 = sessionService.createSession(userId1);
-        String session2 = sessionService.createSession(userId2);
+        String session1 = sessionService.createSession(userId1, "USER");
+        String session2 = sessionService.createSession(userId2, "USER");
 
         // when
         sessionService.removeUserSessions(userId1);
@@ -216,24 +217,90 @@ class SessionServiceTest {
     }
 
 
-    @SuppressWarnings("unchecked")
-    private Map<String, SessionData> getSessionStore() throws Exception {
-        Field sessionStoreField = SessionService.class.getDeclaredField("sessionStore");
-        sessionStoreField.setAccessible(true);
-        return (Map<String, SessionData>) sessionStoreField.get(sessionService);
+    @Test
+    void shouldEvictExpiredSessionsWithoutLookup() {
+        // given
+        UUID userId1 = UUID.randomUUID();
+        UUID userId2 = UUID.randomUUID();
+        sessionService.createSession(userId1, "USER");
+        sessionService.createSession(userId2, "USER");
+
+        // when
+        sessionService.evictExpiredSessions(Instant.now().plusSeconds(25 * 3600));
+
+        // then
+        assertThat(sessionService.getActiveSessionCount()).hasValue(0);
+        assertThat(sessionService.getEvictedSessionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotEvictSessionsBeforeExpiry() {
+        // given
+        UUID userId = UUID.randomUUID();
+        String sessionId = sessionService.createSession(userId, "USER");
+
+        // when
+        sessionService.evictExpiredSessions(Instant.now().plusSeconds(23 * 3600));
+
+        // then
+        assertThat(sessionService.getUserId(sessionId)).isEqualTo(userId);
+        assertThat(sessionService.getEvictedSessionCount()).isZero();
+    }
+
+    @Test
+    void shouldKeepOnlyLatestSessionPerUserInStore() {
+        // given
+        UUID userId = UUID.randomUUID();
+
+        // when
+        sessionService.createSession(userId, "USER");
+        sessionService.createSession(userId, "USER");
+        String latestSessionId = sessionService.createSession(userId, "USER");
+
+        // then
+        assertThat(sessionService.getActiveSessionCount()).hasValue(1);
+        assertThat(sessionService.getUserId(latestSessionId)).isEqualTo(userId);
+    }
+
+
+    @Test
+    void shouldCarryRoleInSession() {
+        // given
+        UUID userId = UUID.randomUUID();
+
+        // when
+        String sessionId = sessionService.createSession(userId, "ADMIN");
+
+        // then
+        assertThat(sessionService.getSession(sessionId))
+                .hasValueSatisfying(sessionData -> assertThat(sessionData.getRole()).isEqualTo("ADMIN"));
+    }
+
+    @Test
+    void shouldPropagateRoleChangeToLiveSessions() {
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        String sessionId = sessionService.createSession(userId, "USER");
+        String otherSessionId = sessionService.createSession(otherUserId, "USER");
+
+        // when
+        sessionService.updateUserRole(userId, "SUPER_REVIEWER");
+
+        // then
+        assertThat(sessionService.getSession(sessionId))
+                .hasValueSatisfying(sessionData -> assertThat(sessionData.getRole()).isEqualTo("SUPER_REVIEWER"));
+        assertThat(sessionService.getSession(otherSessionId))
+                .hasValueSatisfying(sessionData -> assertThat(sessionData.getRole()).isEqualTo("USER"));
     }
 
-    private SessionData getSessionDataFromStore(String sessionId) throws Exception {
-        return getSessionStore().get(sessionId);
+    private SessionData getSessionDataFromStore(String sessionId) {
+        return sessionStore.findActive(sessionId).orElse(null);
     }
 
     private void injectExpiredSession(String sessionId, UUID userId) {
-        try {
-            SessionData expiredSession = new SessionData(userId, Instant.now().minusSeconds(3600));
-            getSessionStore().put(sessionId, expiredSession);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        SessionData expiredSession = new SessionData(userId, "USER", Instant.now().minusSeconds(3600));
+        sessionStore.save(sessionId, expiredSession);
     }
 
 }
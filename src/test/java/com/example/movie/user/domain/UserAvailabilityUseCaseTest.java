@@ -0,0 +1,135 @@
+package com.example.movie.user.domain;
+
+import com.example.movie.application.CacheInvalidationBus;
+import com.example.movie.user.persistence.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserAvailabilityUseCaseTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CacheInvalidationBus cacheInvalidationBus = mock(CacheInvalidationBus.class);
+    private final UserAvailabilityUseCase tested = new UserAvailabilityUseCase(userRepository, cacheInvalidationBus, 1000, 0.01);
+
+    @Test
+    void shouldFallBackToIndexLookupBeforeFilterIsBuilt() {
+        // given
+        when(userRepository.existsByUsername("taken")).thenReturn(true);
+
+        // when
+        boolean available = tested.isUsernameAvailable("taken");
+
+        // then
+        assertThat(available).isFalse();
+        assertThat(tested.getIndexLookupCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAnswerDefinitelyFreeWithoutIndexLookup() {
+        // given
+        givenExistingUser("alice", "alice@example.com");
+        tested.rebuild();
+
+        // when
+        boolean usernameAvailable = tested.isUsernameAvailable("bob");
+        boolean emailAvailable = tested.isEmailAvailable("bob@example.com");
+
+        // then
+        assertThat(usernameAvailable).isTrue();
+        assertThat(emailAvailable).isTrue();
+        assertThat(tested.getDefinitelyFreeCount()).isEqualTo(2);
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    void shouldConfirmPossibleHitWithIndexLookup() {
+        // given
+        givenExistingUser("alice", "alice@example.com");
+        when(userRepository.existsByUsername("alice")).thenReturn(true);
+        tested.rebuild();
+
+        // when
+        boolean available = tested.isUsernameAvailable("alice");
+
+        // then
+        assertThat(available).isFalse();
+        verify(userRepository).existsByUsername("alice");
+    }
+
+    @Test
+    void shouldTrackUsersRegisteredAfterRebuild() {
+        // given
+        givenExistingUser("alice", "alice@example.com");
+        tested.rebuild();
+
+        // when
+        tested.markTaken("bob", "bob@example.com");
+        tested.isEmailAvailable("bob@example.com");
+
+        // then
+        verify(userRepository).existsByEmail("bob@example.com");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldTrackUsersRegisteredOnOtherNodes() {
+        // given
+        UUID registeredElsewhere = UUID.randomUUID();
+        givenExistingUser("alice", "alice@example.com");
+        tested.rebuild();
+        doAnswer(invocation -> {
+            invocation.getArgument(1, BiConsumer.class).accept("bob", "bob@example.com");
+            return null;
+        }).when(userRepository).forEachUsernameAndEmail(anyCollection(), any());
+
+        // when
+        registrationSubscriber().onChanged(Set.of(registeredElsewhere));
+        tested.isEmailAvailable("bob@example.com");
+
+        // then
+        verify(userRepository).forEachUsernameAndEmail(eq(Set.of(registeredElsewhere)), any());
+        verify(userRepository).existsByEmail("bob@example.com");
+    }
+
+    @Test
+    void shouldStopTrustingFilterWhileRegistrationsCannotBeHeard() {
+        // given
+        givenExistingUser("alice", "alice@example.com");
+        tested.rebuild();
+
+        // when
+        registrationSubscriber().onUnsubscribed();
+        tested.rebuild();
+        tested.isUsernameAvailable("bob");
+
+        // then
+        assertThat(tested.getDefinitelyFreeCount()).isZero();
+        verify(userRepository).existsByUsername("bob");
+    }
+
+    private CacheInvalidationBus.Subscriber registrationSubscriber() {
+        ArgumentCaptor<CacheInvalidationBus.Subscriber> subscriber = ArgumentCaptor.forClass(CacheInvalidationBus.Subscriber.class);
+        verify(cacheInvalidationBus).subscribe(eq(UserRepository.REGISTRATIONS_CHANNEL), subscriber.capture());
+        return subscriber.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenExistingUser(String username, String email) {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, BiConsumer.class).accept(username, email);
+            return null;
+        }).when(userRepository).forEachUsernameAndEmail(any());
+    }
+}
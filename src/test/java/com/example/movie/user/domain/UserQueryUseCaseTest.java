@@ -0,0 +1,67 @@
+package com.example.movie.user.domain;
+
+import com.example.movie.common.BatchIds;
+import com.example.movie.common.InvalidBatchReadException;
+import com.example.movie.user.domain.model.UserView;
+import com.example.movie.user.persistence.UserQueryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserQueryUseCaseTest {
+    private final UserQueryRepository userQueryRepository = mock(UserQueryRepository.class);
+    private final UserQueryUseCase tested = new UserQueryUseCase(userQueryRepository);
+
+    @Test
+    void shouldFindUserById() {
+        // given
+        UserView user = new UserView(UUID.randomUUID(), "user", "user@example.com", "USER");
+        when(userQueryRepository.findById(user.id())).thenReturn(Optional.of(user));
+
+        // when
+        Optional<UserView> result = tested.findById(user.id());
+
+        // then
+        assertThat(result).contains(user);
+    }
+
+    @Test
+    void shouldFindUsersByIdsInSingleRepositoryCall() {
+        // given
+        UserView user = new UserView(UUID.randomUUID(), "user", "user@example.com", "USER");
+        UUID missingId = UUID.randomUUID();
+        when(userQueryRepository.findAllByIds(List.of(user.id(), missingId))).thenReturn(List.of(user));
+
+        // when
+        Map<UUID, UserView> result = tested.findAllByIds(List.of(user.id(), missingId, user.id()));
+
+        // then
+        assertThat(result).containsOnlyKeys(user.id());
+        verify(userQueryRepository).findAllByIds(List.of(user.id(), missingId));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTooManyIdsRequested() {
+        // given
+        List<UUID> ids = Stream.generate(UUID::randomUUID)
+                .limit(BatchIds.MAX_SIZE + 1)
+                .toList();
+
+        // when
+        Throwable caught = catchThrowable(() -> tested.findAllByIds(ids));
+
+        // then
+        assertThat(caught).isInstanceOf(InvalidBatchReadException.class)
+                .hasMessage("Too many ids");
+    }
+}
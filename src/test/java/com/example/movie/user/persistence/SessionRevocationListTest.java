@@ -0,0 +1,64 @@
+package com.example.movie.user.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionRevocationListTest {
+
+    private final SessionRevocationList tested = new SessionRevocationList(1000);
+
+    @Test
+    void shouldRevokeSingleToken() {
+        // given
+        SessionToken revoked = newToken(UUID.randomUUID(), Instant.now());
+        SessionToken other = newToken(revoked.userId(), Instant.now());
+
+        // when
+        tested.revokeToken(revoked.tokenId(), revoked.expiresAt());
+
+        // then
+        assertThat(tested.isRevoked(revoked)).isTrue();
+        assertThat(tested.isRevoked(other)).isFalse();
+    }
+
+    @Test
+    void shouldRevokeUserTokensIssuedBeforeCutoff() {
+        // given
+        UUID userId = UUID.randomUUID();
+        Instant cutoff = Instant.now();
+        SessionToken older = newToken(userId, cutoff.minusSeconds(1));
+        SessionToken newer = newToken(userId, cutoff);
+
+        // when
+        tested.revokeUser(userId, cutoff);
+
+        // then
+        assertThat(tested.isRevoked(older)).isTrue();
+        assertThat(tested.isRevoked(newer)).isFalse();
+    }
+
+    @Test
+    void shouldPruneEntriesOnceTokensExpire() {
+        // given
+        SessionToken token = newToken(UUID.randomUUID(), Instant.now());
+        tested.revokeToken(token.tokenId(), token.expiresAt());
+        tested.revokeUser(UUID.randomUUID(), Instant.now());
+
+        // when
+        int pruned = tested.prune(Instant.now().plus(Duration.ofHours(25)), Duration.ofHours(24));
+
+        // then
+        assertThat(pruned).isEqualTo(2);
+        assertThat(tested.size()).isZero();
+        assertThat(tested.isRevoked(token)).isFalse();
+    }
+
+    private SessionToken newToken(UUID userId, Instant issuedAt) {
+        return new SessionToken(UUID.randomUUID(), userId, "USER", issuedAt, issuedAt.plusSeconds(3600));
+    }
+}
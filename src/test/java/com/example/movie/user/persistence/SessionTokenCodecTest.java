@@ -0,0 +1,90 @@
+package com.example.movie.user.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class SessionTokenCodecTest {
+
+    private final byte[] key = filledKey((byte) 7);
+    private final SessionTokenCodec tested = new SessionTokenCodec(key);
+
+    @Test
+    void shouldRoundTripToken() {
+        // given
+        SessionToken token = new SessionToken(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "SUPER_REVIEWER",
+                Instant.now().truncatedTo(ChronoUnit.MILLIS),
+                Instant.now().plusSeconds(3600).truncatedTo(ChronoUnit.SECONDS));
+
+        // when
+        Optional<SessionToken> decoded = tested.decode(tested.encode(token));
+
+        // then
+        assertThat(decoded).contains(token);
+    }
+
+    @Test
+    void shouldRejectTamperedPayload() {
+        // given
+        String encoded = tested.encode(newToken("USER"));
+        String forged = tested.encode(newToken("ADMIN"));
+        String tampered = forged.substring(0, forged.indexOf('.')) + encoded.substring(encoded.indexOf('.'));
+
+        // when
+        Optional<SessionToken> decoded = tested.decode(tampered);
+
+        // then
+        assertThat(decoded).isEmpty();
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithOtherKey() {
+        // given
+        SessionTokenCodec other = new SessionTokenCodec(filledKey((byte) 9));
+        String encoded = other.encode(newToken("USER"));
+
+        // when
+        Optional<SessionToken> decoded = tested.decode(encoded);
+
+        // then
+        assertThat(decoded).isEmpty();
+    }
+
+    @Test
+    void shouldRejectMalformedTokens() {
+        assertThat(tested.decode("")).isEmpty();
+        assertThat(tested.decode(UUID.randomUUID().toString())).isEmpty();
+        assertThat(tested.decode("abc.")).isEmpty();
+        assertThat(tested.decode("!!!.???")).isEmpty();
+    }
+
+    @Test
+    void shouldRequireLongEnoughKey() {
+        // when
+        Throwable caught = catchThrowable(() -> new SessionTokenCodec(new byte[16]));
+
+        // then
+        assertThat(caught).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SessionToken newToken(String role) {
+        return new SessionToken(UUID.randomUUID(), UUID.randomUUID(), role,
+                Instant.now().truncatedTo(ChronoUnit.MILLIS), Instant.now().plusSeconds(3600));
+    }
+
+    private static byte[] filledKey(byte value) {
+        byte[] bytes = new byte[32];
+        Arrays.fill(bytes, value);
+        return bytes;
+    }
+}
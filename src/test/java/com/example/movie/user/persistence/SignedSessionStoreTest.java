@@ -0,0 +1,174 @@
+package com.example.movie.user.persistence;
+
+import com.example.movie.user.domain.model.SessionData;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class SignedSessionStoreTest {
+
+    private static final String SIGNING_KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final SessionRevocationRepository revocationRepository = mock(SessionRevocationRepository.class);
+    private final SignedSessionStore tested = new SignedSessionStore(revocationRepository, SIGNING_KEY, Duration.ofHours(24), 1000);
+
+    @Test
+    void shouldVerifyTokenItSigned() {
+        // given
+        UUID userId = UUID.randomUUID();
+        givenDatabaseTime(Instant.now());
+        String sessionId = tested.create(SessionData.create(userId, "SUPER_REVIEWER", 24));
+
+        // when
+        Optional<SessionData> session = tested.findActive(sessionId);
+
+        // then
+        assertThat(session).hasValueSatisfying(data -> {
+            assertThat(data.getUserId()).isEqualTo(userId);
+            assertThat(data.getRole()).isEqualTo("SUPER_REVIEWER");
+        });
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithOtherKey() {
+        // given
+        givenDatabaseTime(Instant.now());
+        SignedSessionStore other = new SignedSessionStore(revocationRepository,
+                Base64.getEncoder().encodeToString(new byte[]{
+                        1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16,
+                        17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32}),
+                Duration.ofHours(24), 1000);
+        String sessionId = other.create(SessionData.create(UUID.randomUUID(), "ADMIN", 24));
+
+        // when
+        Optional<SessionData> session = tested.findActive(sessionId);
+
+        // then
+        assertThat(session).isEmpty();
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        // given
+        givenDatabaseTime(Instant.now().minusSeconds(7200));
+        String sessionId = tested.create(new SessionData(UUID.randomUUID(), "USER", Instant.now().minusSeconds(1)));
+
+        // when
+        Optional<SessionData> session = tested.findActive(sessionId);
+
+        // then
+        assertThat(session).isEmpty();
+    }
+
+    @Test
+    void shouldIssueTokenWithOneClockReadAndNoRevocation() {
+        // given
+        UUID userId = UUID.randomUUID();
+        givenDatabaseTime(Instant.now());
+        String earlier = tested.create(SessionData.create(userId, "USER", 24));
+
+        // when
+        String latest = tested.create(SessionData.create(userId, "USER", 24));
+
+        // then
+        assertThat(tested.findActive(earlier)).isPresent();
+        assertThat(tested.findActive(latest)).isPresent();
+        verify(revocationRepository, times(2)).currentTime();
+        verifyNoMoreInteractions(revocationRepository);
+    }
+
+    @Test
+    void shouldRevokeRemovedTokenOnly() {
+        // given
+        UUID userId = UUID.randomUUID();
+        givenDatabaseTime(Instant.now());
+        String removed = tested.create(SessionData.create(userId, "USER", 24));
+        String kept = tested.create(SessionData.create(userId, "USER", 24));
+
+        // when
+        tested.remove(removed);
+
+        // then
+        assertThat(tested.findActive(removed)).isEmpty();
+        assertThat(tested.findActive(kept)).isPresent();
+        verify(revocationRepository).insert(any(UUID.class), isNull(), isNull(), any(Instant.class));
+    }
+
+    @Test
+    void shouldRevokeUserTokensByDatabaseClockNotLocalClock() {
+        // given
+        UUID userId = UUID.randomUUID();
+        // the database is an hour ahead of this node, as another node's clock might be
+        Instant databaseTime = Instant.now().plus(Duration.ofHours(1)).truncatedTo(ChronoUnit.MILLIS);
+        givenDatabaseTime(databaseTime);
+        String issuedBefore = tested.create(SessionData.create(userId, "USER", 24));
+        givenDatabaseTime(databaseTime.plusMillis(5));
+
+        // when
+        tested.updateRole(userId, "SUPER_REVIEWER");
+        givenDatabaseTime(databaseTime.plusMillis(10));
+        String issuedAfter = tested.create(SessionData.create(userId, "SUPER_REVIEWER", 24));
+
+        // then
+        assertThat(tested.findActive(issuedBefore)).isEmpty();
+        assertThat(tested.findActive(issuedAfter)).isPresent();
+        verify(revocationRepository).insert(isNull(), eq(userId), eq(databaseTime.plusMillis(5)), any(Instant.class));
+    }
+
+    @Test
+    void shouldApplyRevocationsPulledFromOtherNodes() {
+        // given
+        UUID userId = UUID.randomUUID();
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        givenDatabaseTime(issuedAt);
+        String sessionId = tested.create(SessionData.create(userId, "USER", 24));
+        SessionRevocationRepository.Revocation revocation = new SessionRevocationRepository.Revocation(
+                1, null, userId, issuedAt.plusMillis(1), issuedAt.plus(Duration.ofHours(24)));
+        doAnswer(invocation -> {
+            invocation.<Consumer<SessionRevocationRepository.Revocation>>getArgument(1).accept(revocation);
+            return null;
+        }).when(revocationRepository).forEachActiveAfter(anyLong(), any());
+
+        // when
+        tested.pullRevocations();
+
+        // then
+        assertThat(tested.findActive(sessionId)).isEmpty();
+    }
+
+    @Test
+    void shouldNotReportRevocationsAsActiveSessions() {
+        // given
+        givenDatabaseTime(Instant.now());
+        tested.remove(tested.create(SessionData.create(UUID.randomUUID(), "USER", 24)));
+
+        // when
+        OptionalLong size = tested.size();
+
+        // then
+        assertThat(size).isEmpty();
+    }
+
+    private void givenDatabaseTime(Instant now) {
+        when(revocationRepository.currentTime()).thenReturn(now);
+    }
+}